@@ -11,6 +11,7 @@ import com.khasanshin.dutyservice.mapper.DutyAssignmentMapper;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,13 +30,8 @@ public class DutyAssignmentApplicationService implements DutyAssignmentUseCase {
     private final OrgVerifierPort orgVerifier;
 
     @Override
-    @Transactional
     public DutyAssignmentDto assign(UUID departmentId, AssignDutyDto req) {
-        if (assignmentRepo.existsByDepartmentIdAndEmployeeIdAndDutyId(
-                departmentId, req.getEmployeeId(), req.getDutyId())) {
-            throw new IllegalStateException("duty already assigned to employee in this department");
-        }
-
+        // remote checks run before any connection is taken; the insert below is a single statement
         orgVerifier.ensureDepartmentExists(departmentId);
         employeeVerifier.ensureEmployeeExists(req.getEmployeeId());
         if (req.getAssignedBy() != null) employeeVerifier.ensureEmployeeExists(req.getAssignedBy());
@@ -50,8 +46,10 @@ public class DutyAssignmentApplicationService implements DutyAssignmentUseCase {
                         .assignedBy(req.getAssignedBy())
                         .build();
 
-        a = assignmentRepo.save(a);
-        return mapper.toDto(a);
+        return assignmentRepo.insertIfAbsent(a)
+                .map(mapper::toDto)
+                .orElseThrow(() -> new DataIntegrityViolationException(
+                        "duty already assigned to employee in this department"));
     }
 
     @Override
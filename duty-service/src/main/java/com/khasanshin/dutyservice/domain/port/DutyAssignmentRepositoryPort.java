@@ -22,5 +22,5 @@ public interface DutyAssignmentRepositoryPort {
 
     void deleteById(UUID id);
 
-    boolean existsByDepartmentIdAndEmployeeIdAndDutyId(UUID departmentId, UUID employeeId, UUID dutyId);
+    Optional<DutyAssignment> insertIfAbsent(DutyAssignment assignment);
 }
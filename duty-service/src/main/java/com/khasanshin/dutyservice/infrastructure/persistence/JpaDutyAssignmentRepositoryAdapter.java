@@ -6,8 +6,13 @@ import com.khasanshin.dutyservice.repository.DutyAssignmentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,6 +21,7 @@ import java.util.UUID;
 public class JpaDutyAssignmentRepositoryAdapter implements DutyAssignmentRepositoryPort {
 
     private final DutyAssignmentRepository repository;
+    private final NamedParameterJdbcTemplate jdbc;
 
     @Override
     public Page<DutyAssignment> findByDepartmentId(UUID departmentId, Pageable pageable) {
@@ -57,8 +63,33 @@ public class JpaDutyAssignmentRepositoryAdapter implements DutyAssignmentReposit
     }
 
     @Override
-    public boolean existsByDepartmentIdAndEmployeeIdAndDutyId(UUID departmentId, UUID employeeId, UUID dutyId) {
-        return repository.existsByDepartmentIdAndEmployeeIdAndDutyId(departmentId, employeeId, dutyId);
+    public Optional<DutyAssignment> insertIfAbsent(DutyAssignment assignment) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID())
+                .addValue("departmentId", assignment.getDepartmentId())
+                .addValue("employeeId", assignment.getEmployeeId())
+                .addValue("dutyId", assignment.getDutyId())
+                .addValue("assignedBy", assignment.getAssignedBy())
+                .addValue("note", assignment.getNote());
+        return jdbc.query("""
+                insert into department_duty_assignment (id, department_id, employee_id, duty_id, assigned_by, note)
+                values (:id, :departmentId, :employeeId, :dutyId, :assignedBy, :note)
+                on conflict (department_id, employee_id, duty_id) do nothing
+                returning *
+                """, params, (rs, n) -> toDomain(rs)).stream().findFirst();
+    }
+
+    private DutyAssignment toDomain(ResultSet rs) throws SQLException {
+        OffsetDateTime assignedAt = rs.getObject("assigned_at", OffsetDateTime.class);
+        return DutyAssignment.builder()
+                .id(rs.getObject("id", UUID.class))
+                .departmentId(rs.getObject("department_id", UUID.class))
+                .employeeId(rs.getObject("employee_id", UUID.class))
+                .dutyId(rs.getObject("duty_id", UUID.class))
+                .assignedBy(rs.getObject("assigned_by", UUID.class))
+                .assignedAt(assignedAt != null ? assignedAt.toInstant() : null)
+                .note(rs.getString("note"))
+                .build();
     }
 
     private DutyAssignment toDomain(com.khasanshin.dutyservice.entity.DepartmentDutyAssignment e) {
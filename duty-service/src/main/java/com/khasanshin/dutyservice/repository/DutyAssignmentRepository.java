@@ -15,7 +15,4 @@ public interface DutyAssignmentRepository extends JpaRepository<DepartmentDutyAs
   Page<DepartmentDutyAssignment> findByDutyId(UUID dutyId, Pageable pageable);
 
   Optional<DepartmentDutyAssignment> findByIdAndDepartmentId(UUID id, UUID departmentId);
-
-  boolean existsByDepartmentIdAndEmployeeIdAndDutyId(
-      UUID departmentId, UUID employeeId, UUID dutyId);
 }
@@ -0,0 +1,9 @@
+delete from department_duty_assignment a
+ using department_duty_assignment b
+ where a.department_id = b.department_id
+   and a.employee_id = b.employee_id
+   and a.duty_id = b.duty_id
+   and (a.assigned_at, a.id) > (b.assigned_at, b.id);
+
+alter table department_duty_assignment
+    add constraint uq_dept_emp_duty unique (department_id, employee_id, duty_id);
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -59,7 +60,6 @@ class DutyAssignmentServiceTest {
                 .assignedBy(null)
                 .build();
 
-        when(assignmentRepo.existsByDepartmentIdAndEmployeeIdAndDutyId(dept, emp, duty)).thenReturn(false);
         doNothing().when(orgVerifier).ensureDepartmentExists(dept);
         doNothing().when(employeeVerifier).ensureEmployeeExists(emp);
         when(dutyRepo.existsById(duty)).thenReturn(true);
@@ -67,7 +67,7 @@ class DutyAssignmentServiceTest {
         DutyAssignment saved = DutyAssignment.builder()
                 .id(UUID.randomUUID()).departmentId(dept).employeeId(emp).dutyId(duty).build();
 
-        when(assignmentRepo.save(any(DutyAssignment.class))).thenReturn(saved);
+        when(assignmentRepo.insertIfAbsent(any(DutyAssignment.class))).thenReturn(Optional.of(saved));
         when(mapper.toDto(saved)).thenReturn(DutyAssignmentDto.builder().build());
 
         assertNotNull(service.assign(dept, req));
@@ -75,22 +75,26 @@ class DutyAssignmentServiceTest {
         verify(orgVerifier).ensureDepartmentExists(dept);
         verify(employeeVerifier).ensureEmployeeExists(emp);
         verify(dutyRepo).existsById(duty);
-        verify(assignmentRepo).save(any(DutyAssignment.class));
+        verify(assignmentRepo).insertIfAbsent(any(DutyAssignment.class));
     }
 
     @Test
     void assign_rejectsDuplicate() {
         UUID dept = UUID.randomUUID();
+        UUID emp = UUID.randomUUID();
+        UUID duty = UUID.randomUUID();
         AssignDutyDto req = AssignDutyDto.builder()
-                .employeeId(UUID.randomUUID())
-                .dutyId(UUID.randomUUID())
+                .employeeId(emp)
+                .dutyId(duty)
                 .build();
 
-        when(assignmentRepo.existsByDepartmentIdAndEmployeeIdAndDutyId(eq(dept), any(), any()))
-                .thenReturn(true);
+        when(dutyRepo.existsById(duty)).thenReturn(true);
+        when(assignmentRepo.insertIfAbsent(any(DutyAssignment.class))).thenReturn(Optional.empty());
 
-        assertThrows(IllegalStateException.class, () -> service.assign(dept, req));
-        verifyNoInteractions(orgVerifier, employeeVerifier, dutyRepo);
+        assertThrows(DataIntegrityViolationException.class, () -> service.assign(dept, req));
+        verify(orgVerifier).ensureDepartmentExists(dept);
+        verify(employeeVerifier).ensureEmployeeExists(emp);
+        verifyNoInteractions(mapper);
     }
 
     @Test
@@ -101,8 +105,6 @@ class DutyAssignmentServiceTest {
                 .dutyId(UUID.randomUUID())
                 .build();
 
-        when(assignmentRepo.existsByDepartmentIdAndEmployeeIdAndDutyId(eq(dept), any(), any()))
-                .thenReturn(false);
         doThrow(new EntityNotFoundException("dept not found"))
                 .when(orgVerifier).ensureDepartmentExists(dept);
 
@@ -122,7 +124,6 @@ class DutyAssignmentServiceTest {
                 .dutyId(duty)
                 .build();
 
-        when(assignmentRepo.existsByDepartmentIdAndEmployeeIdAndDutyId(dept, emp, duty)).thenReturn(false);
         doNothing().when(orgVerifier).ensureDepartmentExists(dept);
         doThrow(new EntityNotFoundException("emp not found"))
                 .when(employeeVerifier).ensureEmployeeExists(emp);
@@ -141,7 +142,6 @@ class DutyAssignmentServiceTest {
         AssignDutyDto req = AssignDutyDto.builder()
                 .employeeId(emp).assignedBy(by).dutyId(duty).build();
 
-        when(assignmentRepo.existsByDepartmentIdAndEmployeeIdAndDutyId(dept, emp, duty)).thenReturn(false);
         doNothing().when(orgVerifier).ensureDepartmentExists(dept);
         doNothing().when(employeeVerifier).ensureEmployeeExists(emp);
         doNothing().when(employeeVerifier).ensureEmployeeExists(by);
@@ -149,7 +149,7 @@ class DutyAssignmentServiceTest {
 
         DutyAssignment saved = DutyAssignment.builder()
                 .id(UUID.randomUUID()).departmentId(dept).employeeId(emp).dutyId(duty).assignedBy(by).build();
-        when(assignmentRepo.save(any(DutyAssignment.class))).thenReturn(saved);
+        when(assignmentRepo.insertIfAbsent(any(DutyAssignment.class))).thenReturn(Optional.of(saved));
         when(mapper.toDto(saved)).thenReturn(DutyAssignmentDto.builder().build());
 
         assertNotNull(service.assign(dept, req));
@@ -165,13 +165,12 @@ class DutyAssignmentServiceTest {
 
         AssignDutyDto req = AssignDutyDto.builder().employeeId(emp).dutyId(duty).build();
 
-        when(assignmentRepo.existsByDepartmentIdAndEmployeeIdAndDutyId(dept, emp, duty)).thenReturn(false);
         doNothing().when(orgVerifier).ensureDepartmentExists(dept);
         doNothing().when(employeeVerifier).ensureEmployeeExists(emp);
         when(dutyRepo.existsById(duty)).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class, () -> service.assign(dept, req));
-        verify(assignmentRepo, never()).save(any());
+        verify(assignmentRepo, never()).insertIfAbsent(any());
     }
 
     @Test
@@ -1,24 +1,39 @@
 package com.khasanshin.employeeservice.application;
 
 import com.khasanshin.employeeservice.domain.model.Employee;
+import com.khasanshin.employeeservice.domain.model.EmployeeChanges;
+import com.khasanshin.employeeservice.domain.model.EmployeeVersion;
+import com.khasanshin.employeeservice.domain.port.EmployeeCachePort;
+import com.khasanshin.employeeservice.domain.port.EmployeeQueryPort;
 import com.khasanshin.employeeservice.domain.port.EmployeeRepositoryPort;
 import com.khasanshin.employeeservice.domain.port.OrgVerifierPort;
+import com.khasanshin.employeeservice.dto.BulkResultDto;
 import com.khasanshin.employeeservice.dto.CreateEmployeeDto;
 import com.khasanshin.employeeservice.dto.EmployeeDto;
+import com.khasanshin.employeeservice.dto.PatchEmployeeDto;
 import com.khasanshin.employeeservice.dto.UpdateEmployeeDto;
 import com.khasanshin.employeeservice.mapper.EmployeeMapper;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmployeeApplicationService implements EmployeeUseCase {
@@ -26,13 +41,28 @@ public class EmployeeApplicationService implements EmployeeUseCase {
     private final EmployeeRepositoryPort employeeRepository;
     private final EmployeeMapper mapper;
     private final OrgVerifierPort orgVerifier;
+    private final EmployeeCachePort employeeCache;
+    private final EmployeeQueryPort employeeQuery;
 
     private static final Sort DEFAULT_SORT =
             Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
 
+    private static final int BULK_CHUNK = 500;
+
     @Override
     public boolean exists(UUID id) {
-        return employeeRepository.existsById(id);
+        return employeeCache.existsById(id, employeeRepository::existsById);
+    }
+
+    @Override
+    public Set<UUID> missing(Collection<UUID> ids) {
+        Set<UUID> missing = new LinkedHashSet<>(ids);
+        List<UUID> distinct = List.copyOf(missing);
+        for (int from = 0; from < distinct.size(); from += BULK_CHUNK) {
+            employeeRepository.findExistingIds(distinct.subList(from, Math.min(from + BULK_CHUNK, distinct.size())))
+                    .forEach(missing::remove);
+        }
+        return missing;
     }
 
     @Override
@@ -45,7 +75,9 @@ public class EmployeeApplicationService implements EmployeeUseCase {
             employee = employee.toBuilder().department(dto.getDepartmentId()).build();
         }
 
-        return mapper.toDto(employeeRepository.save(employee));
+        Employee saved = employeeRepository.save(employee);
+        employeeCache.evict(saved.getId());
+        return mapper.toDto(saved);
     }
 
     @Override
@@ -75,18 +107,47 @@ public class EmployeeApplicationService implements EmployeeUseCase {
             updated = updated.toBuilder().department(dto.getDepartmentId()).build();
         }
 
+        employeeCache.evict(id);
         return mapper.toDto(employeeRepository.save(updated));
     }
 
+    @Override
+    @Transactional
+    public EmployeeDto patch(UUID id, PatchEmployeeDto dto) {
+        EmployeeChanges changes = mapper.toChanges(dto);
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("nothing to update");
+        }
+        if (changes.getDepartment() != null) {
+            orgVerifier.ensureDepartmentExists(changes.getDepartment());
+        }
+
+        Employee patched =
+                employeeRepository
+                        .patch(id, dto.getVersion(), changes)
+                        .orElseThrow(() -> employeeRepository.findVersionById(id).isPresent()
+                                ? new OptimisticLockingFailureException("employee was modified concurrently: " + id)
+                                : new EntityNotFoundException("employee not found: " + id));
+        employeeCache.evict(id);
+        return mapper.toDto(patched);
+    }
+
     @Override
     public EmployeeDto get(UUID id) {
         Employee d =
-                employeeRepository
-                        .findById(id)
+                employeeCache
+                        .findById(id, employeeRepository::findById)
                         .orElseThrow(() -> new EntityNotFoundException("employee not found: " + id));
         return mapper.toDto(d);
     }
 
+    @Override
+    public int version(UUID id) {
+        return employeeRepository
+                .findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("employee not found: " + id));
+    }
+
     @Override
     @Transactional
     public EmployeeDto fire(UUID id) {
@@ -99,12 +160,11 @@ public class EmployeeApplicationService implements EmployeeUseCase {
             return mapper.toDto(employee);
         }
 
-        orgVerifier.clearHeadByEmployee(id);
-
         Employee fired = employee.toBuilder()
                 .department(null)
                 .status(Employee.Status.FIRED)
                 .build();
+        employeeCache.evict(id);
         return mapper.toDto(employeeRepository.save(fired));
     }
 
@@ -116,6 +176,7 @@ public class EmployeeApplicationService implements EmployeeUseCase {
         }
         try {
             employeeRepository.deleteById(id);
+            employeeCache.evict(id);
         } catch (DataIntegrityViolationException ex) {
             throw new IllegalStateException("cannot delete employee with references", ex);
         }
@@ -123,11 +184,18 @@ public class EmployeeApplicationService implements EmployeeUseCase {
 
     @Override
     public Page<EmployeeDto> findAll(Pageable pageable) {
-        Pageable sorted =
-                pageable.getSort().isSorted()
-                        ? pageable
-                        : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT);
-        return employeeRepository.findAll(sorted).map(mapper::toDto);
+        return employeeQuery.findAll(withDefaultSort(pageable));
+    }
+
+    @Override
+    public Page<EmployeeVersion> findVersions(Pageable pageable) {
+        return employeeQuery.findVersions(withDefaultSort(pageable));
+    }
+
+    private static Pageable withDefaultSort(Pageable pageable) {
+        return pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT);
     }
 
     @Override
@@ -135,12 +203,12 @@ public class EmployeeApplicationService implements EmployeeUseCase {
         int limit = Math.max(1, Math.min(size, 50));
         Pageable pageReq = PageRequest.of(0, limit, DEFAULT_SORT);
 
-        Slice<Employee> slice =
+        Slice<EmployeeDto> slice =
                 (cursor == null)
-                        ? employeeRepository.findAllBy(pageReq)
-                        : employeeRepository.findByCreatedAtLessThan(cursor, pageReq);
+                        ? employeeQuery.findAllBy(pageReq)
+                        : employeeQuery.findByCreatedAtLessThan(cursor, pageReq);
 
-        List<EmployeeDto> items = slice.getContent().stream().map(mapper::toDto).toList();
+        List<EmployeeDto> items = slice.getContent();
 
         Instant nextCursor = items.isEmpty() ? null : items.getLast().getCreatedAt();
 
@@ -159,6 +227,78 @@ public class EmployeeApplicationService implements EmployeeUseCase {
                         .findById(id)
                         .orElseThrow(() -> new EntityNotFoundException("employee not found: " + id));
         Employee activated = e.toBuilder().status(Employee.Status.ACTIVE).build();
+        employeeCache.evict(id);
         return mapper.toDto(employeeRepository.save(activated));
     }
+
+    // bulk operations are deliberately not @Transactional: every chunk commits on its own,
+    // so a restructuring of thousands of rows never holds all of their locks at once.
+    // afterChunk runs right after each commit, so a later failure never hides rows already changed
+
+    @Override
+    public BulkResultDto fireAll(Collection<UUID> ids, Consumer<List<UUID>> afterChunk) {
+        return inChunks(ids, employeeRepository::fireAll, afterChunk);
+    }
+
+    @Override
+    public BulkResultDto activateAll(Collection<UUID> ids, Consumer<List<UUID>> afterChunk) {
+        return inChunks(ids, employeeRepository::activateAll, afterChunk);
+    }
+
+    @Override
+    public BulkResultDto moveDepartment(UUID fromDepartment, UUID toDepartment, Consumer<List<UUID>> afterChunk) {
+        if (fromDepartment.equals(toDepartment)) {
+            throw new IllegalArgumentException("source and target department are the same");
+        }
+        orgVerifier.ensureDepartmentExists(toDepartment);
+
+        List<UUID> moved = new ArrayList<>();
+        List<UUID> chunk;
+        try {
+            do {
+                chunk = employeeRepository.moveDepartment(fromDepartment, toDepartment, BULK_CHUNK);
+                committed(chunk, moved, afterChunk);
+            } while (chunk.size() == BULK_CHUNK);
+        } catch (RuntimeException ex) {
+            return partial(moved, ex);
+        }
+        return bulkResult(moved);
+    }
+
+    private BulkResultDto inChunks(
+            Collection<UUID> ids, Function<List<UUID>, List<UUID>> update, Consumer<List<UUID>> afterChunk) {
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        List<UUID> affected = new ArrayList<>();
+        try {
+            for (int from = 0; from < distinct.size(); from += BULK_CHUNK) {
+                List<UUID> chunk = update.apply(distinct.subList(from, Math.min(from + BULK_CHUNK, distinct.size())));
+                committed(chunk, affected, afterChunk);
+            }
+        } catch (RuntimeException ex) {
+            return partial(affected, ex);
+        }
+        return bulkResult(affected);
+    }
+
+    private void committed(List<UUID> chunk, List<UUID> affected, Consumer<List<UUID>> afterChunk) {
+        chunk.forEach(employeeCache::evict);
+        affected.addAll(chunk);
+        if (!chunk.isEmpty()) {
+            afterChunk.accept(chunk);
+        }
+    }
+
+    private static BulkResultDto partial(List<UUID> ids, RuntimeException ex) {
+        log.warn("Bulk update stopped after {} rows: {}", ids.size(), ex.getMessage());
+        return BulkResultDto.builder()
+                .affected(ids.size())
+                .employeeIds(ids)
+                .complete(false)
+                .error(ex.getMessage())
+                .build();
+    }
+
+    private static BulkResultDto bulkResult(List<UUID> ids) {
+        return BulkResultDto.builder().affected(ids.size()).employeeIds(ids).complete(true).build();
+    }
 }
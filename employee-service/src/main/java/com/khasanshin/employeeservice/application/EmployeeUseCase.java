@@ -1,11 +1,18 @@
 package com.khasanshin.employeeservice.application;
 
+import com.khasanshin.employeeservice.domain.model.EmployeeVersion;
+import com.khasanshin.employeeservice.dto.BulkResultDto;
 import com.khasanshin.employeeservice.dto.CreateEmployeeDto;
 import com.khasanshin.employeeservice.dto.EmployeeDto;
+import com.khasanshin.employeeservice.dto.PatchEmployeeDto;
 import com.khasanshin.employeeservice.dto.UpdateEmployeeDto;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,19 +20,34 @@ public interface EmployeeUseCase {
 
     boolean exists(UUID id);
 
+    Set<UUID> missing(Collection<UUID> ids);
+
     EmployeeDto create(CreateEmployeeDto dto);
 
     EmployeeDto update(UUID id, UpdateEmployeeDto dto);
 
+    EmployeeDto patch(UUID id, PatchEmployeeDto dto);
+
     EmployeeDto get(UUID id);
 
+    int version(UUID id);
+
     EmployeeDto fire(UUID id);
 
     void delete(UUID id);
 
     Page<EmployeeDto> findAll(Pageable pageable);
 
+    Page<EmployeeVersion> findVersions(Pageable pageable);
+
     Map<String, Object> stream(Instant cursor, int size);
 
     EmployeeDto activate(UUID id);
+
+    /** {@code afterChunk} receives the ids of every committed chunk; a failed chunk ends the run with a partial result. */
+    BulkResultDto fireAll(Collection<UUID> ids, Consumer<List<UUID>> afterChunk);
+
+    BulkResultDto activateAll(Collection<UUID> ids, Consumer<List<UUID>> afterChunk);
+
+    BulkResultDto moveDepartment(UUID fromDepartment, UUID toDepartment, Consumer<List<UUID>> afterChunk);
 }
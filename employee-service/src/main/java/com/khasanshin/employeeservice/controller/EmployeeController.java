@@ -1,8 +1,13 @@
 package com.khasanshin.employeeservice.controller;
 
 import com.khasanshin.employeeservice.application.EmployeeUseCase;
+import com.khasanshin.employeeservice.dto.BulkResultDto;
 import com.khasanshin.employeeservice.dto.CreateEmployeeDto;
+import com.khasanshin.employeeservice.dto.EmployeeIdsDto;
 import com.khasanshin.employeeservice.dto.EmployeeDto;
+import com.khasanshin.employeeservice.dto.EmployeeExistsResponseDto;
+import com.khasanshin.employeeservice.dto.MoveEmployeesDto;
+import com.khasanshin.employeeservice.dto.PatchEmployeeDto;
 import com.khasanshin.employeeservice.dto.UpdateEmployeeDto;
 import com.khasanshin.employeeservice.event.EmployeeEventPublisher;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,19 +42,33 @@ public class EmployeeController {
 
   @Operation(
       summary = "Список сотрудников (пагинация)",
-      description = "X-Total-Count содержит общее число записей.")
-  @ApiResponse(
-      responseCode = "200",
-      headers =
-          @Header(
-              name = "X-Total-Count",
-              description = "Общее число записей",
-              schema = @Schema(type = "integer")))
+      description = "X-Total-Count содержит общее число записей. ETag страницы строится по id+version её элементов; "
+          + "If-None-Match проверяется по выборке только id+version, без чтения самих записей.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        headers =
+            @Header(
+                name = "X-Total-Count",
+                description = "Общее число записей",
+                schema = @Schema(type = "integer"))),
+    @ApiResponse(responseCode = "304", description = "Страница не изменилась (If-None-Match)")
+  })
   @GetMapping
   @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
-  public ResponseEntity<Page<EmployeeDto>> findAll(Pageable pageable) {
-    Page<EmployeeDto> employees = employeeService.findAll(pageable);
+  public ResponseEntity<Page<EmployeeDto>> findAll(
+      Pageable pageable,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
     HttpHeaders headers = new HttpHeaders();
+    if (ifNoneMatch != null) {
+      String current = EmployeeETags.of(employeeService.findVersions(pageable));
+      if (EmployeeETags.matches(ifNoneMatch, current)) {
+        headers.setETag(current);
+        return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+      }
+    }
+    Page<EmployeeDto> employees = employeeService.findAll(pageable);
+    headers.setETag(EmployeeETags.ofEmployees(employees));
     headers.add("X-Total-Count", String.valueOf(employees.getTotalElements()));
     return new ResponseEntity<>(employees, headers, HttpStatus.OK);
   }
@@ -81,15 +100,27 @@ public class EmployeeController {
     return ResponseEntity.ok(body);
   }
 
-  @Operation(summary = "Получить сотрудника по id")
+  @Operation(
+      summary = "Получить сотрудника по id",
+      description = "Возвращает слабый ETag (id+version). При совпадении If-None-Match — 304 без чтения всей записи.")
   @ApiResponses({
     @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "304", description = "Не изменился"),
     @ApiResponse(responseCode = "404", description = "Не найден")
   })
   @GetMapping("/{id}")
   @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR') || @perm.isSelf(authentication,#id)")
-  public ResponseEntity<EmployeeDto> get(@PathVariable("id") UUID id) {
-    return ResponseEntity.ok(employeeService.get(id));
+  public ResponseEntity<EmployeeDto> get(
+      @PathVariable("id") UUID id,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    if (ifNoneMatch != null) {
+      String etag = EmployeeETags.of(id, employeeService.version(id));
+      if (EmployeeETags.matches(ifNoneMatch, etag)) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+      }
+    }
+    EmployeeDto employee = employeeService.get(id);
+    return ResponseEntity.ok().eTag(EmployeeETags.of(id, employee.getVersion())).body(employee);
   }
 
   @Operation(summary = "Создать сотрудника")
@@ -112,16 +143,34 @@ public class EmployeeController {
   public ResponseEntity<EmployeeDto> update(
       @PathVariable("id") UUID id, @Valid @RequestBody UpdateEmployeeDto body) {
     var updated = employeeService.update(id, body);
-    publisher.publishEmployeeEvent("EMPLOYEE_CREATED", updated.getId(), updated);
+    publisher.publishEmployeeEvent("EMPLOYEE_UPDATED", updated.getId(), updated);
     return ResponseEntity.ok(updated);
   }
 
+  @Operation(
+      summary = "Частично обновить сотрудника",
+      description = "Меняются только переданные поля. version — текущая версия записи (оптимистическая блокировка).")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "404"),
+    @ApiResponse(responseCode = "409", description = "Версия устарела или конфликт уникальности")
+  })
+  @PatchMapping("/{id}")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
+  public ResponseEntity<EmployeeDto> patch(
+      @PathVariable("id") UUID id, @Valid @RequestBody PatchEmployeeDto body) {
+    var patched = employeeService.patch(id, body);
+    publisher.publishEmployeeEvent("EMPLOYEE_UPDATED", patched.getId(), patched);
+    return ResponseEntity.ok().eTag(EmployeeETags.of(id, patched.getVersion())).body(patched);
+  }
+
   @Operation(summary = "Удалить сотрудника")
   @ApiResponses({@ApiResponse(responseCode = "204"), @ApiResponse(responseCode = "404")})
   @DeleteMapping("/{id}")
   @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
   public ResponseEntity<Void> delete(@PathVariable("id") UUID id) {
     employeeService.delete(id);
+    publisher.publishEmployeeEvent("EMPLOYEE_DELETED", id, Map.of("id", id));
     return ResponseEntity.noContent().build();
   }
 
@@ -131,7 +180,7 @@ public class EmployeeController {
   @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
   public ResponseEntity<EmployeeDto> fire(@PathVariable("id") UUID id) {
     var fired = employeeService.fire(id);
-    publisher.publishEmployeeEvent("EMPLOYEE_CREATED", fired.getId(), fired);
+    publisher.publishEmployeeEvent("EMPLOYEE_FIRED", fired.getId(), fired);
     return ResponseEntity.ok(fired);
   }
 
@@ -141,10 +190,70 @@ public class EmployeeController {
   @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
   public ResponseEntity<Object> activate(@PathVariable("id") UUID id) {
     var activated = employeeService.activate(id);
-    publisher.publishEmployeeEvent("EMPLOYEE_CREATED", activated.getId(), activated);
+    publisher.publishEmployeeEvent("EMPLOYEE_ACTIVATED", activated.getId(), activated);
     return ResponseEntity.ok(activated);
   }
 
+  @Operation(
+      summary = "Массовое увольнение",
+      description = "Обновление пачками; событие EMPLOYEES_FIRED публикуется после каждой пачки, "
+          + "заведующих снимает organization-service по нему.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "500", description = "Пачка не применилась; в ответе уже применённые id")
+  })
+  @PostMapping("/bulk/fire")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
+  public ResponseEntity<BulkResultDto> fireAll(@Valid @RequestBody EmployeeIdsDto body) {
+    return bulkResponse(employeeService.fireAll(
+        body.getIds(), chunk -> publisher.publishEmployeeBatchEvent("EMPLOYEES_FIRED", chunk, Map.of())));
+  }
+
+  @Operation(summary = "Массовая активация")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "500", description = "Пачка не применилась; в ответе уже применённые id")
+  })
+  @PostMapping("/bulk/activate")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
+  public ResponseEntity<BulkResultDto> activateAll(@Valid @RequestBody EmployeeIdsDto body) {
+    return bulkResponse(employeeService.activateAll(
+        body.getIds(), chunk -> publisher.publishEmployeeBatchEvent("EMPLOYEES_ACTIVATED", chunk, Map.of())));
+  }
+
+  @Operation(summary = "Перевести всех сотрудников департамента в другой департамент")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "404", description = "Целевой департамент не найден"),
+    @ApiResponse(responseCode = "500", description = "Пачка не применилась; в ответе уже переведённые id")
+  })
+  @PostMapping("/bulk/move")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
+  public ResponseEntity<BulkResultDto> moveDepartment(@Valid @RequestBody MoveEmployeesDto body) {
+    Map<String, Object> attributes =
+        Map.of("fromDepartmentId", body.getFromDepartmentId(), "toDepartmentId", body.getToDepartmentId());
+    return bulkResponse(employeeService.moveDepartment(
+        body.getFromDepartmentId(),
+        body.getToDepartmentId(),
+        chunk -> publisher.publishEmployeeBatchEvent("EMPLOYEES_MOVED", chunk, attributes)));
+  }
+
+  private static ResponseEntity<BulkResultDto> bulkResponse(BulkResultDto result) {
+    return ResponseEntity.status(result.isComplete() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+        .body(result);
+  }
+
+  @Operation(
+      summary = "Пакетная проверка существования сотрудников",
+      description = "Возвращает id, которых нет. Один запрос вместо HEAD на каждый id.")
+  @ApiResponse(responseCode = "200")
+  @PostMapping("/exists")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<EmployeeExistsResponseDto> existsAll(@Valid @RequestBody EmployeeIdsDto body) {
+    return ResponseEntity.ok(
+        EmployeeExistsResponseDto.builder().missingIds(employeeService.missing(body.getIds())).build());
+  }
+
   @Operation(
           summary = "Проверить существование сотрудника",
           description = "HEAD-запрос без тела. Возвращает 200, если сотрудник существует, иначе 404."
@@ -0,0 +1,53 @@
+package com.khasanshin.employeeservice.controller;
+
+import com.khasanshin.employeeservice.domain.model.EmployeeVersion;
+import com.khasanshin.employeeservice.dto.EmployeeDto;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.util.DigestUtils;
+
+final class EmployeeETags {
+
+  private EmployeeETags() {}
+
+  static String of(UUID id, Integer version) {
+    return "W/\"" + id + "-" + version + "\"";
+  }
+
+  /** Same value for a page of employees and for its version-only projection. */
+  static String of(Page<EmployeeVersion> page) {
+    StringBuilder sb = new StringBuilder()
+        .append(page.getNumber()).append('|')
+        .append(page.getSize()).append('|')
+        .append(page.getSort()).append('|')
+        .append(page.getTotalElements());
+    for (EmployeeVersion e : page.getContent()) {
+      sb.append('|').append(e.id()).append(':').append(e.version());
+    }
+    return "W/\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+
+  static String ofEmployees(Page<EmployeeDto> page) {
+    return of(page.map(e -> new EmployeeVersion(e.getId(), e.getVersion())));
+  }
+
+  /** Weak comparison as required for If-None-Match (RFC 9110, 13.1.2). */
+  static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    String target = opaque(etag);
+    for (String candidate : ifNoneMatch.split(",")) {
+      String c = candidate.trim();
+      if (c.equals("*") || opaque(c).equals(target)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String opaque(String tag) {
+    return tag.startsWith("W/") ? tag.substring(2) : tag;
+  }
+}
@@ -0,0 +1,22 @@
+package com.khasanshin.employeeservice.domain.model;
+
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class EmployeeChanges {
+
+    String firstName;
+    String lastName;
+    String middleName;
+    String workEmail;
+    String phone;
+    UUID department;
+
+    public boolean isEmpty() {
+        return firstName == null && lastName == null && middleName == null
+                && workEmail == null && phone == null && department == null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.khasanshin.employeeservice.domain.model;
+
+import java.util.UUID;
+
+/** Just enough of an employee to validate a cached representation of it. */
+public record EmployeeVersion(UUID id, Integer version) {}
@@ -0,0 +1,18 @@
+package com.khasanshin.employeeservice.domain.port;
+
+import com.khasanshin.employeeservice.domain.model.Employee;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public interface EmployeeCachePort {
+
+    Optional<Employee> findById(UUID id, Function<UUID, Optional<Employee>> loader);
+
+    boolean existsById(UUID id, Predicate<UUID> loader);
+
+    void evict(UUID id);
+
+    void evictAll();
+}
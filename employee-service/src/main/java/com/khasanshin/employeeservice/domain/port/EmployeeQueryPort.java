@@ -0,0 +1,20 @@
+package com.khasanshin.employeeservice.domain.port;
+
+import com.khasanshin.employeeservice.domain.model.EmployeeVersion;
+import com.khasanshin.employeeservice.dto.EmployeeDto;
+import java.time.Instant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface EmployeeQueryPort {
+
+    Page<EmployeeDto> findAll(Pageable pageable);
+
+    /** Same page as {@link #findAll}, reading only id and version. */
+    Page<EmployeeVersion> findVersions(Pageable pageable);
+
+    Slice<EmployeeDto> findAllBy(Pageable pageable);
+
+    Slice<EmployeeDto> findByCreatedAtLessThan(Instant cursor, Pageable pageable);
+}
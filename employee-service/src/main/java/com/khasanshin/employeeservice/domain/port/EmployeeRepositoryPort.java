@@ -1,26 +1,31 @@
 package com.khasanshin.employeeservice.domain.port;
 
 import com.khasanshin.employeeservice.domain.model.Employee;
-import java.time.Instant;
+import com.khasanshin.employeeservice.domain.model.EmployeeChanges;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 
 public interface EmployeeRepositoryPort {
 
     boolean existsById(UUID id);
 
+    List<UUID> findExistingIds(Collection<UUID> ids);
+
     Employee save(Employee employee);
 
     Optional<Employee> findById(UUID id);
 
     void deleteById(UUID id);
 
-    Page<Employee> findAll(Pageable pageable);
+    Optional<Integer> findVersionById(UUID id);
+
+    Optional<Employee> patch(UUID id, int expectedVersion, EmployeeChanges changes);
+
+    List<UUID> fireAll(Collection<UUID> ids);
 
-    Slice<Employee> findAllBy(Pageable pageable);
+    List<UUID> activateAll(Collection<UUID> ids);
 
-    Slice<Employee> findByCreatedAtLessThan(Instant cursor, Pageable pageable);
+    List<UUID> moveDepartment(UUID fromDepartment, UUID toDepartment, int limit);
 }
@@ -5,6 +5,4 @@ import java.util.UUID;
 public interface OrgVerifierPort {
 
     void ensureDepartmentExists(UUID departmentId);
-
-    void clearHeadByEmployee(UUID employeeId);
 }
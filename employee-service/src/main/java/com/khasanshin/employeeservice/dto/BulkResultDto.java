@@ -0,0 +1,26 @@
+package com.khasanshin.employeeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class BulkResultDto {
+
+  int affected;
+
+  @JsonProperty("employee_ids")
+  List<UUID> employeeIds;
+
+  /** False when a chunk failed; the ids above were committed and published before that. */
+  boolean complete;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  String error;
+}
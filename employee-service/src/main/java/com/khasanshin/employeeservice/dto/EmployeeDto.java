@@ -15,6 +15,8 @@ import lombok.extern.jackson.Jacksonized;
 public class EmployeeDto {
   UUID id;
 
+  Integer version;
+
   @JsonAlias("first_name")
   @JsonProperty("first_name")
   String firstName;
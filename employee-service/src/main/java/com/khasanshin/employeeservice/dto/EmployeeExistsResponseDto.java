@@ -0,0 +1,24 @@
+package com.khasanshin.employeeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class EmployeeExistsResponseDto {
+
+  @JsonProperty("missing_ids")
+  @JsonAlias("missing_ids")
+  Set<UUID> missingIds;
+
+  @JsonProperty("all_exist")
+  public boolean isAllExist() {
+    return missingIds.isEmpty();
+  }
+}
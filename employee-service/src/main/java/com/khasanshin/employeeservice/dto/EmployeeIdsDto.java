@@ -0,0 +1,20 @@
+package com.khasanshin.employeeservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class EmployeeIdsDto {
+
+  @NotEmpty
+  @Size(max = 10000)
+  List<@NotNull UUID> ids;
+}
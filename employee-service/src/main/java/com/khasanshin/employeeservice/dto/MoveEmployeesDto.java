@@ -0,0 +1,25 @@
+package com.khasanshin.employeeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class MoveEmployeesDto {
+
+  @NotNull
+  @JsonAlias("from_department_id")
+  @JsonProperty("from_department_id")
+  UUID fromDepartmentId;
+
+  @NotNull
+  @JsonAlias("to_department_id")
+  @JsonProperty("to_department_id")
+  UUID toDepartmentId;
+}
@@ -0,0 +1,48 @@
+package com.khasanshin.employeeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class PatchEmployeeDto {
+
+  @NotNull Integer version;
+
+  @Size(max = 100)
+  @JsonAlias("first_name")
+  @JsonProperty("first_name")
+  String firstName;
+
+  @Size(max = 100)
+  @JsonAlias("last_name")
+  @JsonProperty("last_name")
+  String lastName;
+
+  @Size(max = 100)
+  @JsonAlias("middle_name")
+  @JsonProperty("middle_name")
+  String middleName;
+
+  @Email
+  @Size(max = 255)
+  @JsonProperty("work_email")
+  @JsonAlias("work_email")
+  String workEmail;
+
+  @Pattern(regexp = "^(?:\\+7|8)\\d{10}$", message = "phone must be 8XXXXXXXXXX or +7XXXXXXXXXX")
+  String phone;
+
+  @JsonAlias("department_id")
+  @JsonProperty("department_id")
+  UUID departmentId;
+}
@@ -0,0 +1,51 @@
+package com.khasanshin.employeeservice.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.employeeservice.domain.port.EmployeeCachePort;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeCacheInvalidationListener implements ConsumerSeekAware {
+
+    private final EmployeeCachePort cache;
+    private final ObjectMapper objectMapper;
+
+    // each instance must see every invalidation, so the group is per instance; a stable instance id lets a
+    // restart rejoin its group instead of orphaning one, and a new group starts at the end of the topic
+    @KafkaListener(
+            topics = "${kafka.topics.employee:employee.events}",
+            groupId = "employee-cache-${employee.instance-id:${HOSTNAME:local}}",
+            autoStartup = "${employee.cache.kafka-invalidation:true}",
+            properties = "auto.offset.reset=latest")
+    public void onEmployeeEvent(String json) {
+        try {
+            JsonNode root = objectMapper.readTree(json);
+            JsonNode entityId = root.path("entityId");
+            if (entityId.isTextual()) {
+                cache.evict(UUID.fromString(entityId.asText()));
+            }
+            for (JsonNode id : root.path("payload").path("employeeIds")) {
+                cache.evict(UUID.fromString(id.asText()));
+            }
+        } catch (Exception ex) {
+            log.warn("Cannot read employee event for cache invalidation, dropping cache: {}", ex.getMessage());
+            cache.evictAll();
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        // invalidations may have been missed during a rebalance, and a new group never sees older ones
+        cache.evictAll();
+    }
+}
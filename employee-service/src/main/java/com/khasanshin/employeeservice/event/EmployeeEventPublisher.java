@@ -8,6 +8,9 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -25,7 +28,7 @@ public class EmployeeEventPublisher {
     private static final Set<String> ROLES = Set.of("HR", "ORG_ADMIN");
 
     public void publishEmployeeEvent(String eventType, UUID employeeId, Object payload) {
-        NotificationMessage msg = new NotificationMessage(
+        send(employeeId.toString(), new NotificationMessage(
                 UUID.randomUUID(),
                 eventType,
                 SOURCE,
@@ -36,13 +39,36 @@ public class EmployeeEventPublisher {
                         Set.of(employeeId),
                         ROLES
                 )
-        );
+        ));
+    }
+
+    // one record per employee, keyed like its single-employee events, so the producer's partitioner
+    // keeps each id ordered with the rest of that employee's history; records go out in list order
+    public void publishEmployeeBatchEvent(String eventType, List<UUID> employeeIds, Map<String, Object> attributes) {
+        for (UUID id : employeeIds) {
+            Map<String, Object> payload = new LinkedHashMap<>(attributes);
+            payload.put("employeeIds", List.of(id));
+            send(id.toString(), new NotificationMessage(
+                    UUID.randomUUID(),
+                    eventType,
+                    SOURCE,
+                    Instant.now(),
+                    null,
+                    payload,
+                    new NotificationMessage.Recipients(
+                            Set.of(id),
+                            ROLES
+                    )
+            ));
+        }
+    }
 
+    private void send(String key, NotificationMessage msg) {
         try {
             String json = objectMapper.writeValueAsString(msg);
-            kafka.send(topic, msg.eventId().toString(), json);
+            kafka.send(topic, key, json);
         } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Cannot serialize event " + eventType, e);
+            throw new IllegalStateException("Cannot serialize event " + msg.eventType(), e);
         }
     }
 }
@@ -13,7 +13,4 @@ public interface OrgClient {
 
     @RequestMapping(method = RequestMethod.HEAD, value = "/{id}")
     ResponseEntity<Void> departmentExists(@PathVariable("id") UUID id);
-
-    @DeleteMapping("/head/by-employee/{employeeId}")
-    void clearHeadByEmployee(@PathVariable("employeeId") UUID employeeId);
 }
@@ -21,13 +21,6 @@ public class OrgVerifier {
 
     private final OrgClient orgClient;
 
-    @CircuitBreaker(name = "orgClient", fallbackMethod = "ignoreClearHead")
-    public void clearHeadByEmployee(UUID employeeId) {
-        orgClient.clearHeadByEmployee(employeeId);
-    }
-
-    public void ignoreClearHead(UUID employeeId, Throwable cause) {}
-
     @CircuitBreaker(name = "departmentClient", fallbackMethod = "departmentUnavailable")
     public void ensureDepartmentExists(UUID departmentId) {
         try {
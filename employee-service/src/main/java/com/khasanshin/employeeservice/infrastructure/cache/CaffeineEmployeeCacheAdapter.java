@@ -0,0 +1,85 @@
+package com.khasanshin.employeeservice.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.khasanshin.employeeservice.domain.model.Employee;
+import com.khasanshin.employeeservice.domain.port.EmployeeCachePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class CaffeineEmployeeCacheAdapter implements EmployeeCachePort {
+
+    private final Cache<UUID, Optional<Employee>> employees;
+    private final Cache<UUID, Boolean> existence;
+
+    public CaffeineEmployeeCacheAdapter(
+            @Value("${employee.cache.max-size:10000}") long maxSize,
+            @Value("${employee.cache.ttl:PT5M}") Duration ttl,
+            @Value("${employee.cache.negative-ttl:PT10S}") Duration negativeTtl,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.employees = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<UUID, Optional<Employee>>creating(
+                        (id, value) -> value.isPresent() ? ttl : negativeTtl))
+                .recordStats()
+                .build();
+        this.existence = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<UUID, Boolean>creating(
+                        (id, exists) -> exists ? ttl : negativeTtl))
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, employees, "employee.by-id");
+            CaffeineCacheMetrics.monitor(registry, existence, "employee.exists");
+        });
+    }
+
+    @Override
+    public Optional<Employee> findById(UUID id, Function<UUID, Optional<Employee>> loader) {
+        return employees.get(id, loader);
+    }
+
+    @Override
+    public boolean existsById(UUID id, Predicate<UUID> loader) {
+        return existence.get(id, loader::test);
+    }
+
+    @Override
+    public void evict(UUID id) {
+        invalidate(id);
+        // a concurrent reader may re-populate the old row before our transaction commits
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        employees.invalidateAll();
+        existence.invalidateAll();
+    }
+
+    private void invalidate(UUID id) {
+        employees.invalidate(id);
+        existence.invalidate(id);
+    }
+}
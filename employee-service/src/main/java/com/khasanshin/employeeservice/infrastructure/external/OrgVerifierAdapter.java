@@ -16,9 +16,4 @@ public class OrgVerifierAdapter implements OrgVerifierPort {
     public void ensureDepartmentExists(UUID departmentId) {
         delegate.ensureDepartmentExists(departmentId);
     }
-
-    @Override
-    public void clearHeadByEmployee(UUID employeeId) {
-        delegate.clearHeadByEmployee(employeeId);
-    }
 }
@@ -0,0 +1,43 @@
+package com.khasanshin.employeeservice.infrastructure.persistence;
+
+import com.khasanshin.employeeservice.domain.model.EmployeeVersion;
+import com.khasanshin.employeeservice.domain.port.EmployeeQueryPort;
+import com.khasanshin.employeeservice.dto.EmployeeDto;
+import com.khasanshin.employeeservice.mapper.EmployeeMapper;
+import com.khasanshin.employeeservice.repository.EmployeeRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JpaEmployeeQueryAdapter implements EmployeeQueryPort {
+
+    private final EmployeeRepository repository;
+    private final EmployeeMapper mapper;
+
+    @Override
+    public Page<EmployeeDto> findAll(Pageable pageable) {
+        return repository.findRows(pageable).map(mapper::toDto);
+    }
+
+    @Override
+    public Page<EmployeeVersion> findVersions(Pageable pageable) {
+        return repository.findVersionRows(pageable).map(r -> new EmployeeVersion(r.id(), r.version()));
+    }
+
+    @Override
+    public Slice<EmployeeDto> findAllBy(Pageable pageable) {
+        return repository.findRowSlice(pageable).map(mapper::toDto);
+    }
+
+    @Override
+    public Slice<EmployeeDto> findByCreatedAtLessThan(Instant cursor, Pageable pageable) {
+        return repository.findRowSliceByCreatedAtLessThan(cursor, pageable).map(mapper::toDto);
+    }
+}
@@ -1,15 +1,21 @@
 package com.khasanshin.employeeservice.infrastructure.persistence;
 
 import com.khasanshin.employeeservice.domain.model.Employee;
+import com.khasanshin.employeeservice.domain.model.EmployeeChanges;
 import com.khasanshin.employeeservice.domain.port.EmployeeRepositoryPort;
 import com.khasanshin.employeeservice.repository.EmployeeRepository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,12 +23,18 @@ import org.springframework.stereotype.Component;
 public class JpaEmployeeRepositoryAdapter implements EmployeeRepositoryPort {
 
     private final EmployeeRepository repository;
+    private final NamedParameterJdbcTemplate jdbc;
 
     @Override
     public boolean existsById(UUID id) {
         return repository.existsById(id);
     }
 
+    @Override
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        return repository.findExistingIds(ids);
+    }
+
     @Override
     public Employee save(Employee employee) {
         return toDomain(repository.save(toEntity(employee)));
@@ -39,18 +51,90 @@ public class JpaEmployeeRepositoryAdapter implements EmployeeRepositoryPort {
     }
 
     @Override
-    public Page<Employee> findAll(Pageable pageable) {
-        return repository.findAll(pageable).map(this::toDomain);
+    public Optional<Integer> findVersionById(UUID id) {
+        return repository.findVersionById(id);
+    }
+
+    @Override
+    public Optional<Employee> patch(UUID id, int expectedVersion, EmployeeChanges changes) {
+        List<String> set = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("version", expectedVersion);
+
+        setIfPresent(set, params, "first_name", changes.getFirstName());
+        setIfPresent(set, params, "last_name", changes.getLastName());
+        setIfPresent(set, params, "middle_name", changes.getMiddleName());
+        setIfPresent(set, params, "work_email", changes.getWorkEmail());
+        setIfPresent(set, params, "phone", changes.getPhone());
+        setIfPresent(set, params, "department_id", changes.getDepartment());
+        set.add("version = version + 1");
+        set.add("updated_at = now()");
+
+        String sql = "update employee set " + String.join(", ", set)
+                + " where id = :id and version = :version returning *";
+        return jdbc.query(sql, params, (rs, n) -> toDomain(rs)).stream().findFirst();
     }
 
     @Override
-    public Slice<Employee> findAllBy(Pageable pageable) {
-        return repository.findAllBy(pageable).map(this::toDomain);
+    public List<UUID> fireAll(Collection<UUID> ids) {
+        return jdbc.queryForList("""
+                update employee
+                   set status = 'FIRED', department_id = null, version = version + 1, updated_at = now()
+                 where id in (:ids) and status <> 'FIRED'
+                returning id
+                """, new MapSqlParameterSource("ids", ids), UUID.class);
     }
 
     @Override
-    public Slice<Employee> findByCreatedAtLessThan(Instant cursor, Pageable pageable) {
-        return repository.findByCreatedAtLessThan(cursor, pageable).map(this::toDomain);
+    public List<UUID> activateAll(Collection<UUID> ids) {
+        return jdbc.queryForList("""
+                update employee
+                   set status = 'ACTIVE', version = version + 1, updated_at = now()
+                 where id in (:ids) and status <> 'ACTIVE'
+                returning id
+                """, new MapSqlParameterSource("ids", ids), UUID.class);
+    }
+
+    @Override
+    public List<UUID> moveDepartment(UUID fromDepartment, UUID toDepartment, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", fromDepartment)
+                .addValue("to", toDepartment)
+                .addValue("limit", limit);
+        return jdbc.queryForList("""
+                update employee
+                   set department_id = :to, version = version + 1, updated_at = now()
+                 where id in (select id from employee where department_id = :from limit :limit for update)
+                returning id
+                """, params, UUID.class);
+    }
+
+    private static void setIfPresent(List<String> set, MapSqlParameterSource params, String column, Object value) {
+        if (value != null) {
+            set.add(column + " = :" + column);
+            params.addValue(column, value);
+        }
+    }
+
+    private Employee toDomain(ResultSet rs) throws SQLException {
+        return Employee.builder()
+                .id(rs.getObject("id", UUID.class))
+                .version(rs.getObject("version", Integer.class))
+                .firstName(rs.getString("first_name"))
+                .lastName(rs.getString("last_name"))
+                .middleName(rs.getString("middle_name"))
+                .workEmail(rs.getString("work_email"))
+                .phone(rs.getString("phone"))
+                .status(Employee.Status.valueOf(rs.getString("status")))
+                .department(rs.getObject("department_id", UUID.class))
+                .createdAt(toInstant(rs.getObject("created_at", OffsetDateTime.class)))
+                .updatedAt(toInstant(rs.getObject("updated_at", OffsetDateTime.class)))
+                .build();
+    }
+
+    private static Instant toInstant(OffsetDateTime value) {
+        return value != null ? value.toInstant() : null;
     }
 
     private Employee toDomain(com.khasanshin.employeeservice.entity.Employee e) {
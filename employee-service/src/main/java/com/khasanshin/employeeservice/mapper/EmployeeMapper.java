@@ -1,8 +1,11 @@
 package com.khasanshin.employeeservice.mapper;
 
 import com.khasanshin.employeeservice.domain.model.Employee;
+import com.khasanshin.employeeservice.domain.model.EmployeeChanges;
 import com.khasanshin.employeeservice.dto.CreateEmployeeDto;
 import com.khasanshin.employeeservice.dto.EmployeeDto;
+import com.khasanshin.employeeservice.dto.PatchEmployeeDto;
+import com.khasanshin.employeeservice.repository.EmployeeRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -12,6 +15,8 @@ public interface EmployeeMapper {
   @Mapping(target = "departmentId", source = "department")
   EmployeeDto toDto(Employee entity);
 
+  EmployeeDto toDto(EmployeeRow row);
+
   @Mapping(target = "id", ignore = true)
   @Mapping(target = "version", ignore = true)
   @Mapping(target = "department", source = "departmentId")
@@ -20,4 +25,7 @@ public interface EmployeeMapper {
   @Mapping(target = "updatedAt", ignore = true)
   Employee toDomain(CreateEmployeeDto dto);
 
+  @Mapping(target = "department", source = "departmentId")
+  EmployeeChanges toChanges(PatchEmployeeDto dto);
+
 }
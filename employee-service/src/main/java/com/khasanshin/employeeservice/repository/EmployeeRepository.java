@@ -1,14 +1,43 @@
 package com.khasanshin.employeeservice.repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import com.khasanshin.employeeservice.entity.Employee;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
-  Slice<Employee> findByCreatedAtLessThan(Instant cursor, Pageable pageable);
 
-  Slice<Employee> findAllBy(Pageable pageable);
+  String ROW = """
+      select new com.khasanshin.employeeservice.repository.EmployeeRow(
+          e.id, e.version, e.firstName, e.lastName, e.middleName, e.workEmail, e.phone,
+          e.status, e.department, e.createdAt, e.updatedAt)
+      from Employee e
+      """;
+
+  @Query(value = ROW, countQuery = "select count(e) from Employee e")
+  Page<EmployeeRow> findRows(Pageable pageable);
+
+  @Query(
+      value = "select new com.khasanshin.employeeservice.repository.EmployeeVersionRow(e.id, e.version) from Employee e",
+      countQuery = "select count(e) from Employee e")
+  Page<EmployeeVersionRow> findVersionRows(Pageable pageable);
+
+  @Query(ROW)
+  Slice<EmployeeRow> findRowSlice(Pageable pageable);
+
+  @Query(ROW + " where e.createdAt < :cursor")
+  Slice<EmployeeRow> findRowSliceByCreatedAtLessThan(@Param("cursor") Instant cursor, Pageable pageable);
+
+  @Query("select e.id from Employee e where e.id in :ids")
+  List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+  @Query("select e.version from Employee e where e.id = :id")
+  Optional<Integer> findVersionById(@Param("id") UUID id);
 }
@@ -0,0 +1,19 @@
+package com.khasanshin.employeeservice.repository;
+
+import com.khasanshin.employeeservice.entity.Employee;
+import java.time.Instant;
+import java.util.UUID;
+
+public record EmployeeRow(
+        UUID id,
+        Integer version,
+        String firstName,
+        String lastName,
+        String middleName,
+        String workEmail,
+        String phone,
+        Employee.Status status,
+        UUID departmentId,
+        Instant createdAt,
+        Instant updatedAt
+) {}
@@ -0,0 +1,5 @@
+package com.khasanshin.employeeservice.repository;
+
+import java.util.UUID;
+
+public record EmployeeVersionRow(UUID id, Integer version) {}
@@ -2,6 +2,8 @@ package com.khasanshin.employeeservice;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.khasanshin.employeeservice.controller.EmployeeController;
+import com.khasanshin.employeeservice.domain.model.EmployeeVersion;
+import com.khasanshin.employeeservice.dto.BulkResultDto;
 import com.khasanshin.employeeservice.dto.EmployeeDto;
 import com.khasanshin.employeeservice.event.EmployeeEventPublisher;
 import com.khasanshin.employeeservice.exception.GlobalExceptionHandler;
@@ -9,6 +11,7 @@ import com.khasanshin.employeeservice.application.EmployeeUseCase;
 import com.khasanshin.employeeservice.repository.EmployeeRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -25,10 +28,14 @@ import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -73,6 +80,38 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.first_name").value("A"));
     }
 
+    @Test
+    void get_returnsWeakEtag_andAnswers304FromVersionLookup() throws Exception {
+        UUID id = UUID.randomUUID();
+        var dto = EmployeeDto.builder().id(id).version(3).firstName("A").lastName("B").build();
+        when(service.get(id)).thenReturn(dto);
+        when(service.version(id)).thenReturn(3);
+
+        String etag = "W/\"" + id + "-3\"";
+        mvc.perform(get("/api/v1/employees/{id}", id).with(asHr()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag));
+
+        mvc.perform(get("/api/v1/employees/{id}", id).header("If-None-Match", etag).with(asHr()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(service, org.mockito.Mockito.times(1)).get(id);
+    }
+
+    @Test
+    void get_staleEtag_returnsFullBody() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(service.version(id)).thenReturn(4);
+        when(service.get(id)).thenReturn(EmployeeDto.builder().id(id).version(4).firstName("A").build());
+
+        mvc.perform(get("/api/v1/employees/{id}", id).header("If-None-Match", "W/\"" + id + "-3\"").with(asHr()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"" + id + "-4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
     @Test
     void get_404() throws Exception {
         when(service.get(any())).thenThrow(new EntityNotFoundException());
@@ -146,6 +185,41 @@ class EmployeeControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void patch_200() throws Exception {
+        var id = UUID.randomUUID();
+        var patched = EmployeeDto.builder().id(id).version(2).firstName("X").lastName("Y").build();
+        when(service.patch(eq(id), any())).thenReturn(patched);
+
+        mvc.perform(patch("/api/v1/employees/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(Map.of("version", 1, "first_name", "X")))
+                        .with(asHr()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(2))
+                .andExpect(jsonPath("$.first_name").value("X"));
+    }
+
+    @Test
+    void patch_400_withoutVersion() throws Exception {
+        mvc.perform(patch("/api/v1/employees/{id}", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(Map.of("first_name", "X")))
+                        .with(asHr()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void patch_409_whenVersionIsStale() throws Exception {
+        when(service.patch(any(), any())).thenThrow(new OptimisticLockingFailureException("stale"));
+
+        mvc.perform(patch("/api/v1/employees/{id}", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(Map.of("version", 1, "first_name", "X")))
+                        .with(asHr()))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void delete_204() throws Exception {
         doNothing().when(service).delete(any());
@@ -172,6 +246,7 @@ class EmployeeControllerTest {
         mvc.perform(post("/api/v1/employees/{id}/fire", id).with(asHr()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(id.toString()));
+        verify(employeeEventPublisher).publishEmployeeEvent(eq("EMPLOYEE_FIRED"), eq(id), any());
     }
 
     @Test
@@ -185,6 +260,79 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.id").value(id.toString()));
     }
 
+    @Test
+    void existsAll_200_listsMissing() throws Exception {
+        var known = UUID.randomUUID();
+        var missing = UUID.randomUUID();
+        when(service.missing(List.of(known, missing))).thenReturn(Set.of(missing));
+
+        mvc.perform(post("/api/v1/employees/exists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(Map.of("ids", List.of(known, missing))))
+                        .with(asHr()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missing_ids[0]").value(missing.toString()))
+                .andExpect(jsonPath("$.all_exist").value(false));
+    }
+
+    @Test
+    void bulkFire_200_publishesBatchEvent() throws Exception {
+        var ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(service.fireAll(eq(ids), any())).thenAnswer(inv -> {
+            inv.<Consumer<List<UUID>>>getArgument(1).accept(ids);
+            return BulkResultDto.builder().affected(2).employeeIds(ids).complete(true).build();
+        });
+
+        mvc.perform(post("/api/v1/employees/bulk/fire")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(Map.of("ids", ids)))
+                        .with(asHr()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2))
+                .andExpect(jsonPath("$.employee_ids[0]").value(ids.get(0).toString()));
+
+        verify(employeeEventPublisher).publishEmployeeBatchEvent(eq("EMPLOYEES_FIRED"), eq(ids), any());
+    }
+
+    @Test
+    void bulkFire_500_returnsCommittedPart() throws Exception {
+        var ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(service.fireAll(eq(ids), any())).thenReturn(BulkResultDto.builder()
+                .affected(1).employeeIds(ids.subList(0, 1)).complete(false).error("timeout").build());
+
+        mvc.perform(post("/api/v1/employees/bulk/fire")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(Map.of("ids", ids)))
+                        .with(asHr()))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.affected").value(1))
+                .andExpect(jsonPath("$.complete").value(false));
+    }
+
+    @Test
+    void bulkFire_400_whenEmpty() throws Exception {
+        mvc.perform(post("/api/v1/employees/bulk/fire")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(Map.of("ids", List.of())))
+                        .with(asHr()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void bulkMove_200() throws Exception {
+        var from = UUID.randomUUID();
+        var to = UUID.randomUUID();
+        when(service.moveDepartment(eq(from), eq(to), any()))
+                .thenReturn(BulkResultDto.builder().affected(0).employeeIds(List.of()).complete(true).build());
+
+        mvc.perform(post("/api/v1/employees/bulk/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(Map.of("from_department_id", from, "to_department_id", to)))
+                        .with(asHr()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(0));
+    }
+
     @Test
     void head_200_whenExists() throws Exception {
         var id = UUID.randomUUID();
@@ -217,6 +365,36 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(42));
     }
 
+    @Test
+    void page_304_whenCollectionEtagMatches_withoutReadingRows() throws Exception {
+        var dto = EmployeeDto.builder().id(UUID.randomUUID()).version(1).firstName("A").lastName("B").build();
+        when(service.findAll(any())).thenReturn(new PageImpl<>(List.of(dto), PageRequest.of(0, 10), 1));
+
+        String etag = mvc.perform(get("/api/v1/employees").param("page","0").param("size","10").with(asHr()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        verify(service, never()).findVersions(any());
+
+        when(service.findVersions(any())).thenReturn(new PageImpl<>(
+                List.of(new EmployeeVersion(dto.getId(), 1)), PageRequest.of(0, 10), 1));
+        mvc.perform(get("/api/v1/employees").param("page","0").param("size","10")
+                        .header("If-None-Match", etag).with(asHr()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        verify(service, times(1)).findAll(any());
+
+        var changed = EmployeeDto.builder().id(dto.getId()).version(2).firstName("A").lastName("B").build();
+        when(service.findVersions(any())).thenReturn(new PageImpl<>(
+                List.of(new EmployeeVersion(dto.getId(), 2)), PageRequest.of(0, 10), 1));
+        when(service.findAll(any())).thenReturn(new PageImpl<>(List.of(changed), PageRequest.of(0, 10), 1));
+
+        mvc.perform(get("/api/v1/employees").param("page","0").param("size","10")
+                        .header("If-None-Match", etag).with(asHr()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].version").value(2));
+    }
+
     @Test
     void stream_ok() throws Exception {
         var id = UUID.randomUUID();
@@ -0,0 +1,67 @@
+package com.khasanshin.employeeservice;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.khasanshin.employeeservice.event.EmployeeEventPublisher;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeEventPublisherTest {
+
+    @Mock KafkaTemplate<String, String> kafka;
+
+    final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    EmployeeEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new EmployeeEventPublisher(kafka, objectMapper);
+        ReflectionTestUtils.setField(publisher, "topic", "employee.events");
+    }
+
+    @Test
+    void singleEvent_isKeyedByEmployee() {
+        UUID id = UUID.randomUUID();
+
+        publisher.publishEmployeeEvent("EMPLOYEE_FIRED", id, Map.of("id", id));
+
+        verify(kafka).send(eq("employee.events"), eq(id.toString()), anyString());
+    }
+
+    @Test
+    void batchEvent_isOneKeyedRecordPerEmployee_leftToTheProducerPartitioner() throws Exception {
+        List<UUID> ids = IntStream.range(0, 30).mapToObj(i -> UUID.randomUUID()).toList();
+
+        publisher.publishEmployeeBatchEvent("EMPLOYEES_MOVED", ids, Map.of("departmentId", "d1"));
+
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(kafka, times(ids.size())).send(eq("employee.events"), key.capture(), json.capture());
+        verify(kafka, never()).send(anyString(), anyInt(), anyString(), anyString());
+
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i).toString();
+            assertEquals(id, key.getAllValues().get(i));
+            JsonNode payload = objectMapper.readTree(json.getAllValues().get(i)).path("payload");
+            assertEquals(1, payload.path("employeeIds").size());
+            assertEquals(id, payload.path("employeeIds").get(0).asText());
+            assertEquals("d1", payload.path("departmentId").asText());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.khasanshin.employeeservice;
+
+import com.khasanshin.employeeservice.entity.Employee;
+import com.khasanshin.employeeservice.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures what the list endpoints pay per page: the entity query the read paths used before,
+ * against the EmployeeRow projection they use now, on the same Postgres data.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class EmployeeReadProjectionIT {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeReadProjectionIT.class);
+    private static final int ROWS = 2000;
+    private static final int PAGE = 200;
+    private static final int ROUNDS = 50;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16"));
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = Employee.class)
+    @EnableJpaRepositories(basePackageClasses = EmployeeRepository.class)
+    static class JpaSlice {}
+
+    @Autowired EmployeeRepository repository;
+    @Autowired EntityManager em;
+    @Autowired JdbcTemplate jdbc;
+
+    final Pageable page = PageRequest.of(3, PAGE, Sort.by("lastName", "id"));
+    Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.batchUpdate("""
+                insert into employee (id, version, first_name, last_name, work_email, status, created_at, updated_at)
+                values (?, 0, ?, ?, ?, 'ACTIVE', ?, ?)
+                """, IntStream.range(0, ROWS).mapToObj(i -> {
+            Timestamp now = Timestamp.from(Instant.now());
+            return new Object[] {UUID.randomUUID(), "First" + i, "Last" + i, "e" + i + "@uni.test", now, now};
+        }).toList());
+        stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void projectionPage_loadsNoEntities_andIssuesTheSameQueries() {
+        stats.clear();
+        assertEquals(PAGE, repository.findAll(page).getContent().size());
+        long entityQueries = stats.getPrepareStatementCount();
+        assertEquals(PAGE, stats.getEntityLoadCount());
+        assertEquals(PAGE, em.unwrap(Session.class).getStatistics().getEntityCount());
+        em.clear();
+
+        stats.clear();
+        assertEquals(PAGE, repository.findRows(page).getContent().size());
+        assertEquals(entityQueries, stats.getPrepareStatementCount());
+        assertEquals(0, stats.getEntityLoadCount());
+        assertEquals(0, em.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void projectionPage_allocatesLessThanEntityPage() {
+        Cost entities = measure(() -> repository.findAll(page).getContent());
+        Cost rows = measure(() -> repository.findRows(page).getContent());
+
+        log.info("page of {}: entities {} B / {} µs, rows {} B / {} µs",
+                PAGE, entities.bytes(), entities.micros(), rows.bytes(), rows.micros());
+        assertTrue(rows.bytes() < entities.bytes(),
+                "rows allocated " + rows.bytes() + " B per page, entities " + entities.bytes() + " B");
+    }
+
+    private record Cost(long bytes, long micros) {}
+
+    // the persistence context is cleared after every page, as it is at the end of each request
+    private Cost measure(Supplier<?> query) {
+        for (int i = 0; i < ROUNDS; i++) {
+            query.get();
+            em.clear();
+        }
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+        long bytes = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            query.get();
+            em.clear();
+        }
+        long micros = (System.nanoTime() - start) / 1_000 / ROUNDS;
+        return new Cost((threads.getThreadAllocatedBytes(thread) - bytes) / ROUNDS, micros);
+    }
+}
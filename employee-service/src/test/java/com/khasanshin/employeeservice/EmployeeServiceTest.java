@@ -2,11 +2,16 @@ package com.khasanshin.employeeservice;
 
 import com.khasanshin.employeeservice.application.EmployeeApplicationService;
 import com.khasanshin.employeeservice.domain.model.Employee;
+import com.khasanshin.employeeservice.domain.model.EmployeeChanges;
+import com.khasanshin.employeeservice.domain.port.EmployeeQueryPort;
 import com.khasanshin.employeeservice.domain.port.EmployeeRepositoryPort;
 import com.khasanshin.employeeservice.domain.port.OrgVerifierPort;
+import com.khasanshin.employeeservice.dto.BulkResultDto;
 import com.khasanshin.employeeservice.dto.CreateEmployeeDto;
 import com.khasanshin.employeeservice.dto.EmployeeDto;
+import com.khasanshin.employeeservice.dto.PatchEmployeeDto;
 import com.khasanshin.employeeservice.dto.UpdateEmployeeDto;
+import com.khasanshin.employeeservice.infrastructure.cache.CaffeineEmployeeCacheAdapter;
 import com.khasanshin.employeeservice.mapper.EmployeeMapper;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,9 +19,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.*;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 
@@ -30,12 +39,17 @@ class EmployeeServiceTest {
     @Mock EmployeeRepositoryPort employeeRepository;
     @Mock EmployeeMapper mapper;
     @Mock OrgVerifierPort orgVerifier;
+    @Mock EmployeeQueryPort employeeQuery;
 
+    @Mock ObjectProvider<io.micrometer.core.instrument.MeterRegistry> meterRegistry;
+
+    CaffeineEmployeeCacheAdapter cache;
     EmployeeApplicationService service;
 
     @BeforeEach
     void setUp() {
-        service = new EmployeeApplicationService(employeeRepository, mapper, orgVerifier);
+        cache = new CaffeineEmployeeCacheAdapter(100, Duration.ofMinutes(5), Duration.ofSeconds(10), meterRegistry);
+        service = new EmployeeApplicationService(employeeRepository, mapper, orgVerifier, cache, employeeQuery);
     }
 
     @Test
@@ -47,6 +61,72 @@ class EmployeeServiceTest {
         verify(employeeRepository).existsById(id);
     }
 
+    @Test
+    void missing_singleQueryPerChunk_deduplicated() {
+        UUID known = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        when(employeeRepository.findExistingIds(List.of(known, unknown))).thenReturn(List.of(known));
+
+        assertEquals(Set.of(unknown), service.missing(List.of(known, unknown, known)));
+        verify(employeeRepository, times(1)).findExistingIds(any());
+    }
+
+    @Test
+    void exists_isCached_includingNegativeResult() {
+        UUID known = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        when(employeeRepository.existsById(known)).thenReturn(true);
+        when(employeeRepository.existsById(unknown)).thenReturn(false);
+
+        assertTrue(service.exists(known));
+        assertTrue(service.exists(known));
+        assertFalse(service.exists(unknown));
+        assertFalse(service.exists(unknown));
+
+        verify(employeeRepository, times(1)).existsById(known);
+        verify(employeeRepository, times(1)).existsById(unknown);
+    }
+
+    @Test
+    void get_readsThroughCache_andWritesInvalidate() {
+        UUID id = UUID.randomUUID();
+        Employee current = Employee.builder()
+                .id(id).firstName("A").lastName("B").status(Employee.Status.ACTIVE).build();
+        when(employeeRepository.findById(id)).thenReturn(Optional.of(current));
+        when(employeeRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(mapper.toDto(any(Employee.class))).thenReturn(EmployeeDto.builder().id(id).build());
+
+        service.get(id);
+        service.get(id);
+        verify(employeeRepository, times(1)).findById(id);
+
+        service.fire(id);
+        service.get(id);
+        verify(employeeRepository, times(3)).findById(id);
+    }
+
+    @Test
+    void version_usesVersionOnlyLookup() {
+        UUID id = UUID.randomUUID();
+        when(employeeRepository.findVersionById(id)).thenReturn(Optional.of(7));
+
+        assertEquals(7, service.version(id));
+        verify(employeeRepository, never()).findById(any());
+
+        when(employeeRepository.findVersionById(id)).thenReturn(Optional.empty());
+        assertThrows(EntityNotFoundException.class, () -> service.version(id));
+    }
+
+    @Test
+    void get_notFound_isCachedNegatively() {
+        UUID id = UUID.randomUUID();
+        when(employeeRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> service.get(id));
+        assertThrows(EntityNotFoundException.class, () -> service.get(id));
+        verify(employeeRepository, times(1)).findById(id);
+    }
+
     @Test
     void create_validatesDepartment_thenSaves() {
         UUID dep = UUID.randomUUID();
@@ -83,7 +163,63 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void fire_transitionsToFired_andClearsHead() {
+    void patch_updatesOnlyChangedColumns_andEvictsCache() {
+        UUID id = UUID.randomUUID();
+        UUID dep = UUID.randomUUID();
+        PatchEmployeeDto dto = PatchEmployeeDto.builder().version(3).lastName("C").departmentId(dep).build();
+        EmployeeChanges changes = EmployeeChanges.builder().lastName("C").department(dep).build();
+        Employee patched = Employee.builder()
+                .id(id).version(4).firstName("A").lastName("C").department(dep).status(Employee.Status.ACTIVE).build();
+        when(mapper.toChanges(dto)).thenReturn(changes);
+        when(employeeRepository.patch(id, 3, changes)).thenReturn(Optional.of(patched));
+        when(employeeRepository.findById(id)).thenReturn(Optional.of(patched));
+        when(mapper.toDto(any(Employee.class))).thenReturn(EmployeeDto.builder().id(id).version(4).build());
+
+        cache.findById(id, ignored -> Optional.of(patched.toBuilder().version(3).lastName("B").build()));
+        EmployeeDto out = service.patch(id, dto);
+
+        assertEquals(4, out.getVersion());
+        verify(orgVerifier).ensureDepartmentExists(dep);
+        verify(employeeRepository, never()).save(any());
+        service.get(id);
+        verify(employeeRepository).findById(id);
+    }
+
+    @Test
+    void patch_staleVersion_throwsConflict() {
+        UUID id = UUID.randomUUID();
+        PatchEmployeeDto dto = PatchEmployeeDto.builder().version(1).firstName("X").build();
+        EmployeeChanges changes = EmployeeChanges.builder().firstName("X").build();
+        when(mapper.toChanges(dto)).thenReturn(changes);
+        when(employeeRepository.patch(id, 1, changes)).thenReturn(Optional.empty());
+        when(employeeRepository.findVersionById(id)).thenReturn(Optional.of(2));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> service.patch(id, dto));
+    }
+
+    @Test
+    void patch_missingEmployee_throws404() {
+        UUID id = UUID.randomUUID();
+        PatchEmployeeDto dto = PatchEmployeeDto.builder().version(1).firstName("X").build();
+        EmployeeChanges changes = EmployeeChanges.builder().firstName("X").build();
+        when(mapper.toChanges(dto)).thenReturn(changes);
+        when(employeeRepository.patch(id, 1, changes)).thenReturn(Optional.empty());
+        when(employeeRepository.findVersionById(id)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> service.patch(id, dto));
+    }
+
+    @Test
+    void patch_withoutChanges_isRejected() {
+        PatchEmployeeDto dto = PatchEmployeeDto.builder().version(1).build();
+        when(mapper.toChanges(dto)).thenReturn(EmployeeChanges.builder().build());
+
+        assertThrows(IllegalArgumentException.class, () -> service.patch(UUID.randomUUID(), dto));
+        verify(employeeRepository, never()).patch(any(), anyInt(), any());
+    }
+
+    @Test
+    void fire_transitionsToFired_withoutOrgRoundTrip() {
         UUID id = UUID.randomUUID();
         Employee current = Employee.builder()
                 .id(id).firstName("A").lastName("B").status(Employee.Status.ACTIVE).department(UUID.randomUUID()).build();
@@ -95,7 +231,79 @@ class EmployeeServiceTest {
         EmployeeDto out = service.fire(id);
 
         assertEquals(Employee.Status.FIRED, out.getStatus());
-        verify(orgVerifier).clearHeadByEmployee(id);
+        verifyNoInteractions(orgVerifier);
+    }
+
+    @Test
+    void fireAll_updatesInChunks() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) ids.add(UUID.randomUUID());
+        ids.add(ids.get(0));
+        when(employeeRepository.fireAll(anyCollection()))
+                .thenAnswer(inv -> new ArrayList<>(inv.<Collection<UUID>>getArgument(0)));
+
+        List<List<UUID>> published = new ArrayList<>();
+        BulkResultDto out = service.fireAll(ids, published::add);
+
+        assertEquals(1200, out.getAffected());
+        assertTrue(out.isComplete());
+        assertEquals(List.of(500, 500, 200), published.stream().map(List::size).toList());
+        verify(employeeRepository, times(3)).fireAll(anyCollection());
+        verifyNoInteractions(orgVerifier);
+    }
+
+    @Test
+    void fireAll_failedChunk_keepsAndPublishesCommittedOnes() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) ids.add(UUID.randomUUID());
+        when(employeeRepository.fireAll(anyCollection()))
+                .thenAnswer(inv -> new ArrayList<>(inv.<Collection<UUID>>getArgument(0)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        List<List<UUID>> published = new ArrayList<>();
+        BulkResultDto out = service.fireAll(ids, published::add);
+
+        assertFalse(out.isComplete());
+        assertEquals(500, out.getAffected());
+        assertEquals(ids.subList(0, 500), out.getEmployeeIds());
+        assertEquals(List.of(ids.subList(0, 500)), published);
+        verify(employeeRepository, times(2)).fireAll(anyCollection());
+    }
+
+    @Test
+    void fireAll_nothingChanged() {
+        when(employeeRepository.fireAll(anyCollection())).thenReturn(List.of());
+
+        List<List<UUID>> published = new ArrayList<>();
+        BulkResultDto out = service.fireAll(List.of(UUID.randomUUID()), published::add);
+
+        assertEquals(0, out.getAffected());
+        assertTrue(published.isEmpty());
+        verifyNoInteractions(orgVerifier);
+    }
+
+    @Test
+    void moveDepartment_loopsUntilShortChunk() {
+        UUID from = UUID.randomUUID();
+        UUID to = UUID.randomUUID();
+        List<UUID> full = new ArrayList<>();
+        for (int i = 0; i < 500; i++) full.add(UUID.randomUUID());
+        when(employeeRepository.moveDepartment(from, to, 500))
+                .thenReturn(full)
+                .thenReturn(List.of(UUID.randomUUID()));
+
+        BulkResultDto out = service.moveDepartment(from, to, chunk -> {});
+
+        assertEquals(501, out.getAffected());
+        verify(orgVerifier).ensureDepartmentExists(to);
+        verify(employeeRepository, times(2)).moveDepartment(from, to, 500);
+    }
+
+    @Test
+    void moveDepartment_sameDepartment_isRejected() {
+        UUID dep = UUID.randomUUID();
+        assertThrows(IllegalArgumentException.class, () -> service.moveDepartment(dep, dep, chunk -> {}));
+        verifyNoInteractions(orgVerifier);
     }
 
     @Test
@@ -108,23 +316,51 @@ class EmployeeServiceTest {
     @Test
     void findAll_appliesDefaultSort_whenUnsorted() {
         Pageable in = PageRequest.of(0, 10);
-        when(employeeRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        when(employeeQuery.findAll(any(Pageable.class))).thenReturn(Page.empty());
 
         service.findAll(in);
 
         ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
-        verify(employeeRepository).findAll(captor.capture());
+        verify(employeeQuery).findAll(captor.capture());
         Sort sort = captor.getValue().getSort();
 
         assertEquals(Sort.Direction.DESC, Objects.requireNonNull(sort.getOrderFor("createdAt")).getDirection());
         assertEquals(Sort.Direction.DESC, Objects.requireNonNull(sort.getOrderFor("id")).getDirection());
     }
 
+    @Test
+    void findVersions_usesTheSameDefaultSortAsFindAll() {
+        when(employeeQuery.findVersions(any(Pageable.class))).thenReturn(Page.empty());
+
+        service.findVersions(PageRequest.of(0, 10));
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(employeeQuery).findVersions(captor.capture());
+        assertEquals(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")), captor.getValue().getSort());
+        verify(employeeQuery, never()).findAll(any(Pageable.class));
+    }
+
     @Test
     void stream_noCursor_usesFindAllBy() {
-        Slice<Employee> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 1), false);
-        when(employeeRepository.findAllBy(any())).thenReturn(slice);
+        Slice<EmployeeDto> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 1), false);
+        when(employeeQuery.findAllBy(any())).thenReturn(slice);
         service.stream(null, 2);
-        verify(employeeRepository).findAllBy(any());
+        verify(employeeQuery).findAllBy(any());
+    }
+
+    @Test
+    void stream_withCursor_returnsProjectedRowsAndNextCursor() {
+        Instant cursor = Instant.parse("2024-02-01T00:00:00Z");
+        Instant last = Instant.parse("2024-01-15T00:00:00Z");
+        EmployeeDto row = EmployeeDto.builder().id(UUID.randomUUID()).createdAt(last).build();
+        Slice<EmployeeDto> slice = new SliceImpl<>(List.of(row), PageRequest.of(0, 1), true);
+        when(employeeQuery.findByCreatedAtLessThan(eq(cursor), any())).thenReturn(slice);
+
+        Map<String, Object> out = service.stream(cursor, 1);
+
+        assertEquals(List.of(row), out.get("items"));
+        assertEquals(last, out.get("nextCursor"));
+        assertEquals(true, out.get("hasNext"));
+        verifyNoInteractions(mapper);
     }
 }
@@ -1,148 +1,290 @@
 package com.khasanshin.employmentservice.application;
 
 import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.model.EmploymentPage;
+import com.khasanshin.employmentservice.domain.model.PayrollDelta;
 import com.khasanshin.employmentservice.domain.port.EmployeeVerifierPort;
+import com.khasanshin.employmentservice.domain.port.EmploymentEventPort;
 import com.khasanshin.employmentservice.domain.port.EmploymentRepositoryPort;
+import com.khasanshin.employmentservice.domain.port.OrgReferencePort;
 import com.khasanshin.employmentservice.domain.port.OrgVerifierPort;
+import com.khasanshin.employmentservice.domain.port.PayrollTotalsPort;
 import com.khasanshin.employmentservice.dto.CloseEmploymentDto;
 import com.khasanshin.employmentservice.dto.CreateEmploymentDto;
+import com.khasanshin.employmentservice.dto.EmploymentBatchResultDto;
 import com.khasanshin.employmentservice.dto.EmploymentDto;
+import com.khasanshin.employmentservice.dto.EmploymentPageDto;
+import com.khasanshin.employmentservice.dto.PayrollTotalsDto;
 import com.khasanshin.employmentservice.dto.UpdateEmploymentDto;
+import com.khasanshin.employmentservice.exception.RemoteServiceUnavailableException;
 import com.khasanshin.employmentservice.mapper.EmploymentMapper;
-import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
 public class EmploymentApplicationService implements EmploymentUseCase {
 
+    private static final int REPLAY_PAGE = 500;
+
     private final EmploymentRepositoryPort repo;
     private final EmploymentMapper mapper;
-    private final TransactionTemplate tx;
+    private final TransactionalOperator tx;
     private final OrgVerifierPort orgVerifier;
     private final EmployeeVerifierPort employeeVerifier;
+    private final EmploymentEventPort events;
+    private final PayrollTotalsPort totals;
+    private final OrgReferencePort orgReferences;
+
+    @Value("${employment.verify.timeout:PT3S}")
+    private Duration verifyTimeout = Duration.ofSeconds(3);
 
     @Override
     public Mono<EmploymentDto> get(UUID id) {
-        return Mono.fromCallable(() ->
-                        repo.findById(id).orElseThrow(() -> new EntityNotFoundException("employment not found: " + id)))
-                .map(mapper::toDto)
-                .subscribeOn(Schedulers.boundedElastic());
+        return getOr404(id).map(mapper::toDto);
     }
 
     @Override
     public Mono<EmploymentDto> create(CreateEmploymentDto dto) {
-        return Mono.fromCallable(() -> {
-            employeeVerifier.ensureEmployeeExists(dto.getEmployeeId());
-            orgVerifier.ensureDepartmentExists(dto.getDepartmentId());
-            orgVerifier.ensurePositionExists(dto.getPositionId());
-
-            return tx.execute(status -> {
-                var overlaps =
-                        repo.findOverlaps(
-                                dto.getEmployeeId(),
-                                dto.getDepartmentId(),
-                                dto.getPositionId(),
-                                dto.getStartDate(),
-                                null);
-                if (!overlaps.isEmpty()) {
-                    throw new IllegalStateException("overlapping employment exists for employee/department/position");
-                }
-                Employment e = mapper.toDomain(dto);
-                if (e.getRate() == null) e = e.toBuilder().rate(BigDecimal.valueOf(1.00)).build();
-                e = repo.save(e);
-                return mapper.toDto(e);
-            });
-        }).subscribeOn(Schedulers.boundedElastic());
+        Mono<Employment> insert = Mono.defer(() -> repo.save(newEmployment(dto)))
+                .flatMap(saved -> totals.apply(PayrollDelta.between(null, saved)).thenReturn(saved));
+
+        return verifyReferences(dto)
+                .then(insert.as(tx::transactional))
+                .onErrorMap(DataIntegrityViolationException.class, EmploymentApplicationService::overlap)
+                .flatMap(created -> events.publish(EmploymentEventPort.CREATED, created).thenReturn(created))
+                .map(mapper::toDto);
     }
 
     @Override
-    public Mono<EmploymentDto> update(UUID id, UpdateEmploymentDto dto) {
-        return Mono.fromCallable(() ->
-                        tx.execute(status -> {
-                            Employment e =
-                                    repo.findById(id)
-                                            .orElseThrow(() -> new EntityNotFoundException("employment not found: " + id));
-
-                            Employment updated = mapper.applyUpdates(e, dto);
-
-                            if (updated.getEndDate() != null && updated.getEndDate().isBefore(updated.getStartDate())) {
-                                throw new IllegalArgumentException("endDate must be on or after startDate");
-                            }
+    public Mono<EmploymentBatchResultDto> createBatch(List<CreateEmploymentDto> items) {
+        return Mono.zip(
+                        employeeVerifier.findMissingEmployees(distinct(items, CreateEmploymentDto::getEmployeeId)),
+                        orgVerifier.findMissing(
+                                distinct(items, CreateEmploymentDto::getDepartmentId),
+                                distinct(items, CreateEmploymentDto::getPositionId)))
+                .timeout(verifyTimeout, Mono.error(() ->
+                        new RemoteServiceUnavailableException("reference verification exceeded " + verifyTimeout, null)))
+                .flatMap(missing -> {
+                    var statuses = new EmploymentBatchResultDto.Status[items.size()];
+                    List<Integer> accepted = new ArrayList<>();
+                    for (int i = 0; i < items.size(); i++) {
+                        statuses[i] = rejection(items.get(i), missing.getT1(), missing.getT2());
+                        if (statuses[i] == null) accepted.add(i);
+                    }
+                    List<Employment> candidates = accepted.stream().map(i -> newEmployment(items.get(i))).toList();
+                    return repo.insertAllSkippingOverlaps(candidates)
+                            .collectList()
+                            .flatMap(stored -> totals
+                                    .apply(PayrollDelta.of(stored.stream().flatMap(Optional::stream).toList()))
+                                    .thenReturn(stored))
+                            .as(tx::transactional)
+                            .flatMap(stored -> {
+                                var created = new Employment[items.size()];
+                                for (int k = 0; k < stored.size(); k++) {
+                                    int i = accepted.get(k);
+                                    created[i] = stored.get(k).orElse(null);
+                                    statuses[i] = created[i] != null
+                                            ? EmploymentBatchResultDto.Status.CREATED
+                                            : EmploymentBatchResultDto.Status.OVERLAP;
+                                }
+                                List<Employment> inserted = stored.stream().flatMap(Optional::stream).toList();
+                                Mono<Void> publish = inserted.isEmpty()
+                                        ? Mono.empty()
+                                        : events.publishAll(EmploymentEventPort.CREATED, inserted);
+                                return publish.thenReturn(batchResult(statuses, created, inserted.size()));
+                            });
+                });
+    }
 
-                            updated = repo.save(updated);
-                            return mapper.toDto(updated);
-                        }))
-                .subscribeOn(Schedulers.boundedElastic());
+    @Override
+    public Mono<EmploymentDto> update(UUID id, UpdateEmploymentDto dto) {
+        return getOr404(id)
+                .flatMap(e -> {
+                    Employment updated = mapper.applyUpdates(e, dto);
+                    if (updated.getEndDate() != null && updated.getEndDate().isBefore(updated.getStartDate())) {
+                        return Mono.error(new IllegalArgumentException("endDate must be on or after startDate"));
+                    }
+                    return repo.save(updated)
+                            .flatMap(saved -> totals.apply(PayrollDelta.between(e, saved)).thenReturn(saved));
+                })
+                .as(tx::transactional)
+                .onErrorMap(DataIntegrityViolationException.class, EmploymentApplicationService::overlap)
+                .flatMap(saved -> events.publish(EmploymentEventPort.UPDATED, saved).thenReturn(saved))
+                .map(mapper::toDto);
     }
 
     @Override
     public Mono<EmploymentDto> close(UUID id, CloseEmploymentDto body) {
-        return Mono.fromCallable(() ->
-                        tx.execute(status -> {
-                            Employment e = repo.findById(id)
-                                    .orElseThrow(() -> new EntityNotFoundException("employment not found: " + id));
-                            if (Employment.Status.CLOSED.equals(e.getStatus())) {
-                                return mapper.toDto(e);
-                            }
-                            LocalDate end = body != null && body.getEndDate() != null ? body.getEndDate() : LocalDate.now();
-                            if (end.isBefore(e.getStartDate())) {
-                                throw new IllegalArgumentException("endDate must be on or after startDate");
-                            }
-                            Employment closed = e.toBuilder()
+        return getOr404(id)
+                .flatMap(e -> {
+                    if (Employment.Status.CLOSED.equals(e.getStatus())) {
+                        return Mono.just(e);
+                    }
+                    LocalDate end = body != null && body.getEndDate() != null ? body.getEndDate() : LocalDate.now();
+                    if (end.isBefore(e.getStartDate())) {
+                        return Mono.error(new IllegalArgumentException("endDate must be on or after startDate"));
+                    }
+                    return repo.save(e.toBuilder()
                                     .endDate(end)
                                     .status(Employment.Status.CLOSED)
-                                    .build();
+                                    .build())
+                            .flatMap(saved -> totals.apply(PayrollDelta.between(e, saved)).thenReturn(saved));
+                })
+                .as(tx::transactional)
+                // repeating a close re-sends the same state, which consumers upsert harmlessly
+                .flatMap(saved -> events.publish(EmploymentEventPort.CLOSED, saved).thenReturn(saved))
+                .map(mapper::toDto);
+    }
 
-                            closed = repo.save(closed);
-                            return mapper.toDto(closed);
-                        }))
-                .subscribeOn(Schedulers.boundedElastic());
+    @Override
+    public Mono<EmploymentPageDto> listByEmployee(
+            UUID employeeId, int page, int size, boolean withTotal, Set<Expand> expand) {
+        return repo.findPageByEmployeeId(employeeId, page, size, withTotal)
+                .map(this::toDto)
+                .flatMap(p -> expand(p, expand));
     }
 
     @Override
-    public Flux<EmploymentDto> listByEmployee(UUID employeeId, int page, int size) {
-        var pageable = org.springframework.data.domain.PageRequest.of(page, size);
-        return Mono.fromCallable(() ->
-                        repo.findByEmployeeIdOrderByStartDateDesc(employeeId, pageable)
-                                .map(mapper::toDto))
-                .flatMapMany(pg -> Flux.fromIterable(pg.getContent()))
-                .subscribeOn(Schedulers.boundedElastic());
+    public Mono<EmploymentPageDto> listByDepartment(
+            UUID departmentId, boolean active, int page, int size, boolean withTotal, Set<Expand> expand) {
+        return repo.findPageByDepartmentId(departmentId, active, page, size, withTotal)
+                .map(this::toDto)
+                .flatMap(p -> expand(p, expand));
     }
 
     @Override
-    public Mono<Long> countByEmployee(UUID employeeId) {
-        return Mono.fromCallable(() -> repo.countByEmployeeId(employeeId))
-                .subscribeOn(Schedulers.boundedElastic());
+    public Flux<EmploymentDto> listByDepartmentAsOf(UUID departmentId, LocalDate date) {
+        return repo.findByDepartmentIdOn(departmentId, date).map(mapper::toDto);
     }
 
     @Override
-    public Flux<EmploymentDto> listByDepartment(UUID departmentId, boolean active, int page, int size) {
-        var pageable = org.springframework.data.domain.PageRequest.of(page, size);
-        return Mono.fromCallable(() -> {
-                    var pg = active
-                            ? repo.findByDepartmentIdAndStatus(departmentId, Employment.Status.ACTIVE, pageable)
-                            : repo.findByDepartmentId(departmentId, pageable);
-                    return pg.map(mapper::toDto);
-                })
-                .flatMapMany(pg -> Flux.fromIterable(pg.getContent()))
-                .subscribeOn(Schedulers.boundedElastic());
+    public Flux<EmploymentDto> departmentTimeline(UUID departmentId, LocalDate from, LocalDate to) {
+        if (to != null && to.isBefore(from)) {
+            return Flux.error(new IllegalArgumentException("to must be on or after from"));
+        }
+        return repo.findByDepartmentIdWithin(departmentId, from, to).map(mapper::toDto);
+    }
+
+    @Override
+    public Flux<PayrollTotalsDto> payrollTotals(LocalDate date, UUID departmentId) {
+        return totals.findAsOf(date, departmentId).map(mapper::toTotalsDto);
+    }
+
+    @Override
+    public Mono<Void> rebuildPayrollTotals() {
+        return totals.rebuild().as(tx::transactional);
     }
 
     @Override
-    public Mono<Long> countByDepartment(UUID departmentId, boolean active) {
-        return Mono.fromCallable(() ->
-                        active
-                                ? repo.countByDepartmentIdAndStatus(departmentId, Employment.Status.ACTIVE)
-                                : repo.countByDepartmentId(departmentId))
-                .subscribeOn(Schedulers.boundedElastic());
+    public Mono<Long> replayEvents() {
+        return repo.findPageAfter(null, REPLAY_PAGE)
+                .collectList()
+                .expand(page -> page.size() < REPLAY_PAGE
+                        ? Mono.empty()
+                        : repo.findPageAfter(page.get(page.size() - 1).getId(), REPLAY_PAGE).collectList())
+                .concatMap(page -> events.publishAll(EmploymentEventPort.SNAPSHOT, page).thenReturn((long) page.size()))
+                .reduce(0L, Long::sum);
+    }
+
+    // the first failure cancels the other probes, and all of them share one deadline
+    private Mono<Void> verifyReferences(CreateEmploymentDto dto) {
+        return Mono.when(
+                        employeeVerifier.ensureEmployeeExists(dto.getEmployeeId()),
+                        orgVerifier.ensureDepartmentExists(dto.getDepartmentId()),
+                        orgVerifier.ensurePositionExists(dto.getPositionId()))
+                .timeout(verifyTimeout, Mono.error(() ->
+                        new RemoteServiceUnavailableException("reference verification exceeded " + verifyTimeout, null)));
+    }
+
+    private Employment newEmployment(CreateEmploymentDto dto) {
+        Employment e = mapper.toDomain(dto);
+        return e.getRate() == null ? e.toBuilder().rate(BigDecimal.valueOf(1.00)).build() : e;
+    }
+
+    private static Set<UUID> distinct(List<CreateEmploymentDto> items, Function<CreateEmploymentDto, UUID> id) {
+        return items.stream().map(id).collect(Collectors.toSet());
+    }
+
+    private static EmploymentBatchResultDto.Status rejection(
+            CreateEmploymentDto item, Set<UUID> missingEmployees, OrgVerifierPort.Missing missingOrg) {
+        if (missingEmployees.contains(item.getEmployeeId())) return EmploymentBatchResultDto.Status.EMPLOYEE_NOT_FOUND;
+        if (missingOrg.departmentIds().contains(item.getDepartmentId())) return EmploymentBatchResultDto.Status.DEPARTMENT_NOT_FOUND;
+        if (missingOrg.positionIds().contains(item.getPositionId())) return EmploymentBatchResultDto.Status.POSITION_NOT_FOUND;
+        return null;
+    }
+
+    private EmploymentBatchResultDto batchResult(
+            EmploymentBatchResultDto.Status[] statuses, Employment[] created, int createdCount) {
+        List<EmploymentBatchResultDto.Item> results = new ArrayList<>(statuses.length);
+        for (int i = 0; i < statuses.length; i++) {
+            results.add(EmploymentBatchResultDto.Item.builder()
+                    .index(i)
+                    .status(statuses[i])
+                    .employment(created[i] != null ? mapper.toDto(created[i]) : null)
+                    .build());
+        }
+        return EmploymentBatchResultDto.builder()
+                .created(createdCount)
+                .rejected(statuses.length - createdCount)
+                .items(results)
+                .build();
+    }
+
+    // one local lookup for the whole page instead of a remote call per department and position
+    private Mono<EmploymentPageDto> expand(EmploymentPageDto page, Set<Expand> expand) {
+        boolean departments = expand.contains(Expand.DEPARTMENT);
+        boolean positions = expand.contains(Expand.POSITION);
+        if (!departments && !positions) {
+            return Mono.just(page);
+        }
+        Set<UUID> ids = new HashSet<>();
+        for (EmploymentDto e : page.getItems()) {
+            if (departments) ids.add(e.getDepartmentId());
+            if (positions) ids.add(e.getPositionId());
+        }
+        return orgReferences.findNames(ids).map(names -> {
+            for (EmploymentDto e : page.getItems()) {
+                if (departments) e.setDepartmentName(names.get(e.getDepartmentId()));
+                if (positions) e.setPositionName(names.get(e.getPositionId()));
+            }
+            return page;
+        });
+    }
+
+    private EmploymentPageDto toDto(EmploymentPage page) {
+        return EmploymentPageDto.builder()
+                .items(page.getContent().stream().map(mapper::toDto).toList())
+                .total(page.getTotal())
+                .build();
+    }
+
+    // employment_no_overlap is the only constraint a write here can break
+    private static ResponseStatusException overlap(DataIntegrityViolationException ex) {
+        return new ResponseStatusException(HttpStatus.CONFLICT,
+                "overlapping employment exists for employee/department/position", ex);
+    }
+
+    private Mono<Employment> getOr404(UUID id) {
+        return repo.findById(id)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "employment not found: " + id)));
     }
 }
@@ -2,8 +2,17 @@ package com.khasanshin.employmentservice.application;
 
 import com.khasanshin.employmentservice.dto.CloseEmploymentDto;
 import com.khasanshin.employmentservice.dto.CreateEmploymentDto;
+import com.khasanshin.employmentservice.dto.EmploymentBatchResultDto;
 import com.khasanshin.employmentservice.dto.EmploymentDto;
+import com.khasanshin.employmentservice.dto.EmploymentPageDto;
+import com.khasanshin.employmentservice.dto.PayrollTotalsDto;
 import com.khasanshin.employmentservice.dto.UpdateEmploymentDto;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,15 +25,51 @@ public interface EmploymentUseCase {
 
     Mono<EmploymentDto> create(CreateEmploymentDto dto);
 
+    /** Hires in bulk; the result reports every item, rejected ones included. */
+    Mono<EmploymentBatchResultDto> createBatch(List<CreateEmploymentDto> items);
+
     Mono<EmploymentDto> update(UUID id, UpdateEmploymentDto dto);
 
     Mono<EmploymentDto> close(UUID id, CloseEmploymentDto dto);
 
-    Flux<EmploymentDto> listByEmployee(UUID employeeId, int page, int size);
+    Mono<EmploymentPageDto> listByEmployee(
+            UUID employeeId, int page, int size, boolean withTotal, Set<Expand> expand);
+
+    Mono<EmploymentPageDto> listByDepartment(
+            UUID departmentId, boolean active, int page, int size, boolean withTotal, Set<Expand> expand);
+
+    /** Who held which position in the department on {@code date}. */
+    Flux<EmploymentDto> listByDepartmentAsOf(UUID departmentId, LocalDate date);
+
+    /** Every employment of the department that overlaps [from, to], ordered by start date. */
+    Flux<EmploymentDto> departmentTimeline(UUID departmentId, LocalDate from, LocalDate to);
+
+    /** FTE and salary totals per department and position as of {@code date}. */
+    Flux<PayrollTotalsDto> payrollTotals(LocalDate date, UUID departmentId);
+
+    Mono<Void> rebuildPayrollTotals();
 
-    Mono<Long> countByEmployee(UUID employeeId);
+    /** Re-publishes the current state of every employment; returns how many were sent. */
+    Mono<Long> replayEvents();
 
-    Flux<EmploymentDto> listByDepartment(UUID departmentId, boolean active, int page, int size);
+    /** Names resolved from the local org projection instead of one organization-service call per id. */
+    enum Expand {
+        DEPARTMENT,
+        POSITION;
 
-    Mono<Long> countByDepartment(UUID departmentId, boolean active);
+        public static Set<Expand> parse(Collection<String> values) {
+            if (values == null || values.isEmpty()) {
+                return Set.of();
+            }
+            Set<Expand> out = EnumSet.noneOf(Expand.class);
+            for (String v : values) {
+                try {
+                    out.add(valueOf(v.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException("unknown expand value: " + v);
+                }
+            }
+            return out;
+        }
+    }
 }
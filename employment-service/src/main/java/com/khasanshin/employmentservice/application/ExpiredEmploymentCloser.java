@@ -0,0 +1,49 @@
+package com.khasanshin.employmentservice.application;
+
+import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.port.EmploymentEventPort;
+import com.khasanshin.employmentservice.domain.port.EmploymentRepositoryPort;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredEmploymentCloser {
+
+    private final EmploymentRepositoryPort repo;
+    private final EmploymentEventPort events;
+    private final TransactionalOperator tx;
+
+    @Value("${employment.expiry.batch-size:500}")
+    private int batchSize = 500;
+
+    @Scheduled(fixedDelayString = "${employment.expiry.poll:PT10M}", initialDelayString = "${employment.expiry.initial-delay:PT1M}")
+    public Mono<Long> closeExpired() {
+        return closeBatch()
+                .expand(closed -> closed.size() < batchSize ? Mono.empty() : closeBatch())
+                .map(List::size)
+                .reduce(0L, Long::sum)
+                .doOnNext(total -> {
+                    if (total > 0) log.info("Closed {} expired employments", total);
+                });
+    }
+
+    private Mono<List<Employment>> closeBatch() {
+        // one closer across instances; the lock goes away with the batch transaction
+        return repo.tryLockExpiry()
+                .flatMap(locked -> locked
+                        ? repo.closeExpired(batchSize).collectList()
+                        : Mono.just(List.<Employment>of()))
+                .as(tx::transactional)
+                .flatMap(closed -> closed.isEmpty()
+                        ? Mono.just(closed)
+                        : events.publishAll(EmploymentEventPort.CLOSED, closed).thenReturn(closed));
+    }
+}
@@ -1,25 +0,0 @@
-package com.khasanshin.employmentservice.config;
-
-
-import feign.RequestInterceptor;
-import jakarta.ws.rs.core.HttpHeaders;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
-
-@Configuration
-public class FeignAuthConfig {
-
-    @Bean
-    public RequestInterceptor jwtRelayInterceptor() {
-        return requestTemplate -> {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth instanceof JwtAuthenticationToken jwtAuth) {
-                String tokenValue = jwtAuth.getToken().getTokenValue();
-                requestTemplate.header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenValue);
-            }
-        };
-    }
-}
@@ -0,0 +1,32 @@
+package com.khasanshin.employmentservice.config;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class WebClientConfig {
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder().filter(jwtRelay());
+    }
+
+    // the caller's token lives in the reactor context, not in a thread local
+    static ExchangeFilterFunction jwtRelay() {
+        return (request, next) -> ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(ctx -> ctx.getAuthentication() instanceof JwtAuthenticationToken jwt ? jwt : null)
+                .map(jwt -> ClientRequest.from(request)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt.getToken().getTokenValue())
+                        .build())
+                .defaultIfEmpty(request)
+                .flatMap(next::exchange);
+    }
+}
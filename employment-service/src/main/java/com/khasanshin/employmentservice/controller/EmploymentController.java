@@ -2,8 +2,12 @@ package com.khasanshin.employmentservice.controller;
 
 import com.khasanshin.employmentservice.application.EmploymentUseCase;
 import com.khasanshin.employmentservice.dto.CloseEmploymentDto;
+import com.khasanshin.employmentservice.dto.CreateEmploymentBatchDto;
 import com.khasanshin.employmentservice.dto.CreateEmploymentDto;
+import com.khasanshin.employmentservice.dto.EmploymentBatchResultDto;
 import com.khasanshin.employmentservice.dto.EmploymentDto;
+import com.khasanshin.employmentservice.dto.EmploymentPageDto;
+import com.khasanshin.employmentservice.dto.PayrollTotalsDto;
 import com.khasanshin.employmentservice.dto.UpdateEmploymentDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,12 +18,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
@@ -46,8 +52,8 @@ public class EmploymentController {
   @Operation(summary = "Создать назначение (приём/перевод)")
   @ApiResponses({
     @ApiResponse(responseCode = "201"),
-    @ApiResponse(responseCode = "400", description = "Неверные даты/ставка/перекрытия"),
-    @ApiResponse(responseCode = "409", description = "Конфликт уникальности/целостности")
+    @ApiResponse(responseCode = "400", description = "Неверные даты/ставка"),
+    @ApiResponse(responseCode = "409", description = "Пересечение с другим назначением на ту же кафедру и должность")
   })
   @PostMapping
   @ResponseStatus(HttpStatus.CREATED)
@@ -56,8 +62,28 @@ public class EmploymentController {
       return employmentService.create(body);
   }
 
+  @Operation(
+      summary = "Массовое назначение",
+      description = "Сотрудники, департаменты и должности проверяются двумя пакетными запросами, "
+          + "вставка — одним пакетом в одной транзакции. Пересечения не прерывают пакет, "
+          + "а возвращаются в результате по каждому элементу.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Результат по каждому элементу в порядке запроса"),
+    @ApiResponse(responseCode = "400", description = "Некорректный элемент или больше 1000 элементов"),
+    @ApiResponse(responseCode = "503", description = "employee-service или organization-service недоступен")
+  })
+  @PostMapping("/batch")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
+  public Mono<EmploymentBatchResultDto> createBatch(@Valid @RequestBody CreateEmploymentBatchDto body) {
+      return employmentService.createBatch(body.getItems());
+  }
+
   @Operation(summary = "Обновить назначение (ставка/оклад/дата окончания)")
-  @ApiResponses({@ApiResponse(responseCode = "200"), @ApiResponse(responseCode = "404")})
+  @ApiResponses({
+    @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "404"),
+    @ApiResponse(responseCode = "409", description = "Новая дата окончания пересекается с другим назначением")
+  })
   @PutMapping("/{id}")
   @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
   public Mono<EmploymentDto> update(
@@ -75,59 +101,128 @@ public class EmploymentController {
   }
 
   @Operation(summary = "История назначений сотрудника (пагинация)")
+  @Parameters({
+    @Parameter(name = "count", description = "Вернуть X-Total-Count (default=true); false — для бесконечной прокрутки"),
+    @Parameter(name = "expand", description = "department,position — добавить названия из локальной проекции оргструктуры")
+  })
   @ApiResponse(
       responseCode = "200",
       headers =
           @Header(
               name = "X-Total-Count",
-              description = "Общее количество записей",
+              description = "Общее количество записей (если count=true)",
               schema = @Schema(type = "integer")))
   @GetMapping("/by-employee/{employeeId}")
   @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR') || @perm.isSelf(authentication,#employeeId)")
-  public Flux<EmploymentDto> listByEmployee(
+  public Mono<ResponseEntity<List<EmploymentDto>>> listByEmployee(
           @PathVariable("employeeId") UUID employeeId,
           @RequestParam(name = "page", defaultValue = "0") int page,
           @RequestParam(name = "size", defaultValue = "20") int size,
-          ServerHttpResponse response) {
+          @RequestParam(name = "count", defaultValue = "true") boolean count,
+          @RequestParam(name = "expand", required = false) List<String> expand) {
 
       int p = Math.max(page, 0);
       int s = Math.min(Math.max(size, 1), 50);
-      response.beforeCommit(() ->
-              employmentService.countByEmployee(employeeId)
-                      .doOnNext(total -> response.getHeaders().set("X-Total-Count", String.valueOf(total)))
-                      .then()
-      );
-
-      return employmentService.listByEmployee(employeeId, p, s);
+      return employmentService.listByEmployee(employeeId, p, s, count, EmploymentUseCase.Expand.parse(expand))
+              .map(EmploymentController::toResponse);
   }
 
   @Operation(summary = "Назначения по департаменту (active=true по умолчанию)")
-  @Parameters(
-      @Parameter(name = "active", description = "Только активные на сегодня (default=true)"))
+  @Parameters({
+    @Parameter(name = "active", description = "Только активные на сегодня (default=true)"),
+    @Parameter(name = "count", description = "Вернуть X-Total-Count (default=true); false — для бесконечной прокрутки"),
+    @Parameter(name = "expand", description = "department,position — добавить названия из локальной проекции оргструктуры")
+  })
   @ApiResponse(
       responseCode = "200",
       headers =
           @Header(
               name = "X-Total-Count",
-              description = "Общее количество записей",
+              description = "Общее количество записей (если count=true)",
               schema = @Schema(type = "integer")))
   @GetMapping("/by-department/{departmentId}")
   @PreAuthorize("@perm.canManageDept(authentication,#departmentId)")
-  public Flux<EmploymentDto> listByDepartment(
+  public Mono<ResponseEntity<List<EmploymentDto>>> listByDepartment(
           @PathVariable("departmentId") UUID departmentId,
           @RequestParam(name = "active", defaultValue = "true") boolean active,
           @RequestParam(name = "page", defaultValue = "0") int page,
           @RequestParam(name = "size", defaultValue = "20") int size,
-          ServerHttpResponse response) {
+          @RequestParam(name = "count", defaultValue = "true") boolean count,
+          @RequestParam(name = "expand", required = false) List<String> expand) {
 
       int p = Math.max(page, 0);
       int s = Math.min(Math.max(size, 1), 50);
-      response.beforeCommit(() ->
-              employmentService.countByDepartment(departmentId, active)
-                      .doOnNext(total -> response.getHeaders().set("X-Total-Count", String.valueOf(total)))
-                      .then()
-      );
+      return employmentService.listByDepartment(
+                      departmentId, active, p, s, count, EmploymentUseCase.Expand.parse(expand))
+              .map(EmploymentController::toResponse);
+  }
+
+  @Operation(
+      summary = "Состав департамента на дату",
+      description = "Кто занимал какие должности в департаменте на указанную дату, независимо от текущего статуса.")
+  @GetMapping("/as-of")
+  @PreAuthorize("@perm.canManageDept(authentication,#departmentId)")
+  public Flux<EmploymentDto> listByDepartmentAsOf(
+          @RequestParam("departmentId") UUID departmentId,
+          @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+      return employmentService.listByDepartmentAsOf(departmentId, date);
+  }
+
+  @Operation(
+      summary = "Хронология назначений департамента",
+      description = "Все назначения, пересекающиеся с периодом [from, to]; без to — по сей день.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "400", description = "to раньше from")
+  })
+  @GetMapping("/timeline")
+  @PreAuthorize("@perm.canManageDept(authentication,#departmentId)")
+  public Flux<EmploymentDto> departmentTimeline(
+          @RequestParam("departmentId") UUID departmentId,
+          @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+          @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+      return employmentService.departmentTimeline(departmentId, from, to);
+  }
+
+  @Operation(
+      summary = "Ставки и фонд оплаты по департаментам и должностям",
+      description = "Итоги на дату (по умолчанию — сегодня) из сводной таблицы, которая обновляется "
+          + "в той же транзакции, что и назначения. Без departmentId — по всем департаментам.")
+  @GetMapping("/totals")
+  @PreAuthorize("@perm.canManageDept(authentication,#departmentId)")
+  public Flux<PayrollTotalsDto> payrollTotals(
+          @RequestParam(name = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+          @RequestParam(name = "departmentId", required = false) UUID departmentId) {
+      return employmentService.payrollTotals(date != null ? date : LocalDate.now(), departmentId);
+  }
+
+  @Operation(
+      summary = "Пересчитать сводную таблицу ставок и фонда оплаты",
+      description = "Полный пересчёт из назначений; записи на время пересчёта ждут его окончания.")
+  @ApiResponse(responseCode = "204")
+  @PostMapping("/totals/rebuild")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN')")
+  public Mono<Void> rebuildPayrollTotals() {
+      return employmentService.rebuildPayrollTotals();
+  }
+
+  @Operation(
+      summary = "Переотправить текущее состояние всех назначений в employment.events",
+      description = "Для первичного заполнения и восстановления проекций (статистика штата). Безопасно повторять.")
+  @ApiResponse(responseCode = "202", description = "Количество отправленных событий")
+  @PostMapping("/events/replay")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN')")
+  public Mono<Long> replayEvents() {
+      return employmentService.replayEvents();
+  }
 
-      return employmentService.listByDepartment(departmentId, active, p, s);
+  private static ResponseEntity<List<EmploymentDto>> toResponse(EmploymentPageDto page) {
+      var ok = ResponseEntity.ok();
+      if (page.getTotal() != null) {
+          ok.header("X-Total-Count", String.valueOf(page.getTotal()));
+      }
+      return ok.body(page.getItems());
   }
 }
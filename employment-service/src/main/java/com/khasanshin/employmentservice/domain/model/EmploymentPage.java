@@ -0,0 +1,13 @@
+package com.khasanshin.employmentservice.domain.model;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class EmploymentPage {
+    List<Employment> content;
+    /** {@code null} when the caller did not ask for a total. */
+    Long total;
+}
@@ -0,0 +1,70 @@
+package com.khasanshin.employmentservice.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Change of department/position totals effective from a date. An employment contributes +1 headcount,
+ * +rate and +salary on its start date and the negation the day after its end date, so the totals on any
+ * date are the sum of all deltas effective on or before it.
+ */
+public record PayrollDelta(UUID departmentId, UUID positionId, LocalDate effectiveDate,
+                           int headcount, BigDecimal fte, long salary) {
+
+    private static final Comparator<PayrollDelta> KEY_ORDER = Comparator
+            .comparing(PayrollDelta::departmentId)
+            .thenComparing(PayrollDelta::positionId)
+            .thenComparing(PayrollDelta::effectiveDate);
+
+    /**
+     * Deltas that turn the contribution of {@code before} into that of {@code after}; either side may be null.
+     * Entries on the same key are merged, zero entries dropped, and the result is in key order so that
+     * concurrent writers lock summary rows in the same order.
+     */
+    public static List<PayrollDelta> between(Employment before, Employment after) {
+        List<PayrollDelta> raw = new ArrayList<>();
+        if (before != null) contribute(raw, before, -1);
+        if (after != null) contribute(raw, after, 1);
+        return merge(raw);
+    }
+
+    public static List<PayrollDelta> of(List<Employment> created) {
+        List<PayrollDelta> raw = new ArrayList<>();
+        created.forEach(e -> contribute(raw, e, 1));
+        return merge(raw);
+    }
+
+    private static void contribute(List<PayrollDelta> out, Employment e, int sign) {
+        BigDecimal rate = e.getRate() == null ? BigDecimal.ZERO : e.getRate();
+        long salary = e.getSalary() == null ? 0 : e.getSalary();
+        out.add(new PayrollDelta(e.getDepartmentId(), e.getPositionId(), e.getStartDate(),
+                sign, rate.multiply(BigDecimal.valueOf(sign)), sign * salary));
+        if (e.getEndDate() != null) {
+            out.add(new PayrollDelta(e.getDepartmentId(), e.getPositionId(), e.getEndDate().plusDays(1),
+                    -sign, rate.multiply(BigDecimal.valueOf(-sign)), -sign * salary));
+        }
+    }
+
+    private static List<PayrollDelta> merge(List<PayrollDelta> raw) {
+        Map<PayrollDelta, PayrollDelta> merged = new TreeMap<>(KEY_ORDER);
+        for (PayrollDelta d : raw) {
+            merged.merge(d, d, PayrollDelta::plus);
+        }
+        return merged.values().stream().filter(d -> !d.isZero()).toList();
+    }
+
+    private PayrollDelta plus(PayrollDelta other) {
+        return new PayrollDelta(departmentId, positionId, effectiveDate,
+                headcount + other.headcount, fte.add(other.fte), salary + other.salary);
+    }
+
+    private boolean isZero() {
+        return headcount == 0 && fte.signum() == 0 && salary == 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.khasanshin.employmentservice.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class PayrollTotals {
+    UUID departmentId;
+    UUID positionId;
+    long headcount;
+    BigDecimal fte;
+    long salary;
+}
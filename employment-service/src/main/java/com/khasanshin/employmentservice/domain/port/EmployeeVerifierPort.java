@@ -1,8 +1,14 @@
 package com.khasanshin.employmentservice.domain.port;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
+import reactor.core.publisher.Mono;
 
 public interface EmployeeVerifierPort {
 
-    void ensureEmployeeExists(UUID employeeId);
+    Mono<Void> ensureEmployeeExists(UUID employeeId);
+
+    /** One remote call for the whole set; emits the ids that do not exist. */
+    Mono<Set<UUID>> findMissingEmployees(Collection<UUID> employeeIds);
 }
@@ -0,0 +1,23 @@
+package com.khasanshin.employmentservice.domain.port;
+
+import com.khasanshin.employmentservice.domain.model.Employment;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+public interface EmploymentEventPort {
+
+    String CREATED = "EMPLOYMENT_CREATED";
+    String UPDATED = "EMPLOYMENT_UPDATED";
+    String CLOSED = "EMPLOYMENT_CLOSED";
+    String SNAPSHOT = "EMPLOYMENT_SNAPSHOT";
+
+    /**
+     * Every event carries the full current state, so consumers can upsert instead of replaying deltas.
+     * Completes when the broker has acknowledged the event; a failed send is logged rather than
+     * propagated, because the change it describes is already committed.
+     */
+    Mono<Void> publish(String eventType, Employment employment);
+
+    /** Sends the whole batch at once; completes when the broker has acknowledged every event. */
+    Mono<Void> publishAll(String eventType, List<Employment> employments);
+}
@@ -1,30 +1,48 @@
 package com.khasanshin.employmentservice.domain.port;
 
 import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.model.EmploymentPage;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface EmploymentRepositoryPort {
 
-    Optional<Employment> findById(UUID id);
+    Mono<Employment> findById(UUID id);
 
-    Employment save(Employment employment);
+    Mono<Employment> save(Employment employment);
 
-    Page<Employment> findByEmployeeIdOrderByStartDateDesc(UUID employeeId, Pageable pageable);
+    /**
+     * Inserts new employments in one batched statement. Emits exactly one element per input, in order:
+     * the stored row, or empty where the period would overlap an existing one.
+     */
+    Flux<Optional<Employment>> insertAllSkippingOverlaps(List<Employment> employments);
 
-    Page<Employment> findByDepartmentId(UUID departmentId, Pageable pageable);
+    /**
+     * Page of the employee's history, newest first. The total is fetched in the same query
+     * unless {@code withTotal} is false, in which case {@link EmploymentPage#getTotal()} is null.
+     */
+    Mono<EmploymentPage> findPageByEmployeeId(UUID employeeId, int page, int size, boolean withTotal);
 
-    Page<Employment> findByDepartmentIdAndStatus(UUID departmentId, Employment.Status status, Pageable pageable);
+    /** Same as {@link #findPageByEmployeeId}, optionally restricted to ACTIVE employments. */
+    Mono<EmploymentPage> findPageByDepartmentId(
+            UUID departmentId, boolean activeOnly, int page, int size, boolean withTotal);
 
-    List<Employment> findOverlaps(UUID employeeId, UUID departmentId, UUID positionId, LocalDate start, LocalDate end);
+    /** Employments of the department whose period contains {@code date}, regardless of current status. */
+    Flux<Employment> findByDepartmentIdOn(UUID departmentId, LocalDate date);
 
-    long countByEmployeeId(UUID employeeId);
+    /** Employments of the department whose period intersects [from, to]; {@code to == null} is open-ended. */
+    Flux<Employment> findByDepartmentIdWithin(UUID departmentId, LocalDate from, LocalDate to);
 
-    long countByDepartmentId(UUID departmentId);
+    /** Transaction-scoped advisory lock that keeps the expiry job on a single instance. */
+    Mono<Boolean> tryLockExpiry();
 
-    long countByDepartmentIdAndStatus(UUID departmentId, Employment.Status status);
+    /** Closes up to {@code limit} ACTIVE employments whose end date has passed and returns them. */
+    Flux<Employment> closeExpired(int limit);
+
+    /** Keyset page ordered by id; {@code afterId == null} starts from the beginning. */
+    Flux<Employment> findPageAfter(UUID afterId, int limit);
 }
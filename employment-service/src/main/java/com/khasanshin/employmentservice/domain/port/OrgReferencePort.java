@@ -0,0 +1,20 @@
+package com.khasanshin.employmentservice.domain.port;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/** Local projection of organization-service names, so listings can be expanded without remote calls. */
+public interface OrgReferencePort {
+
+    String DEPARTMENT = "DEPARTMENT";
+    String POSITION = "POSITION";
+
+    /** Names of the given departments and positions; ids not projected yet are absent from the map. */
+    Mono<Map<UUID, String>> findNames(Collection<UUID> ids);
+
+    Mono<Void> upsert(UUID id, String kind, String name);
+
+    Mono<Void> delete(UUID id);
+}
@@ -1,10 +1,18 @@
 package com.khasanshin.employmentservice.domain.port;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
+import reactor.core.publisher.Mono;
 
 public interface OrgVerifierPort {
 
-    void ensureDepartmentExists(UUID departmentId);
+    Mono<Void> ensureDepartmentExists(UUID departmentId);
 
-    void ensurePositionExists(UUID positionId);
+    Mono<Void> ensurePositionExists(UUID positionId);
+
+    /** One remote call for both sets; emits the ids that do not exist. */
+    Mono<Missing> findMissing(Collection<UUID> departmentIds, Collection<UUID> positionIds);
+
+    record Missing(Set<UUID> departmentIds, Set<UUID> positionIds) {}
 }
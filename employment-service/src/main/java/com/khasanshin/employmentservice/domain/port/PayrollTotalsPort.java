@@ -0,0 +1,21 @@
+package com.khasanshin.employmentservice.domain.port;
+
+import com.khasanshin.employmentservice.domain.model.PayrollDelta;
+import com.khasanshin.employmentservice.domain.model.PayrollTotals;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Summary table maintained in the same transaction as every employment write. */
+public interface PayrollTotalsPort {
+
+    Mono<Void> apply(List<PayrollDelta> deltas);
+
+    /** Totals per department and position as of {@code date}; {@code departmentId == null} means all. */
+    Flux<PayrollTotals> findAsOf(LocalDate date, UUID departmentId);
+
+    /** Recomputes the whole table from the employment rows. */
+    Mono<Void> rebuild();
+}
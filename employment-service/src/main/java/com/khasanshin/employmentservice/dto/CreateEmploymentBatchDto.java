@@ -0,0 +1,20 @@
+package com.khasanshin.employmentservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class CreateEmploymentBatchDto {
+
+  @NotEmpty
+  @Size(max = 1000)
+  List<@Valid @NotNull CreateEmploymentDto> items;
+}
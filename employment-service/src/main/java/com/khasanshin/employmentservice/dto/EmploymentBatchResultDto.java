@@ -0,0 +1,39 @@
+package com.khasanshin.employmentservice.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class EmploymentBatchResultDto {
+
+  int created;
+
+  int rejected;
+
+  /** One entry per request item, in request order. */
+  List<Item> items;
+
+  @Data
+  @Builder
+  @Jacksonized
+  public static class Item {
+
+    int index;
+
+    Status status;
+
+    EmploymentDto employment;
+  }
+
+  public enum Status {
+    CREATED,
+    EMPLOYEE_NOT_FOUND,
+    DEPARTMENT_NOT_FOUND,
+    POSITION_NOT_FOUND,
+    OVERLAP
+  }
+}
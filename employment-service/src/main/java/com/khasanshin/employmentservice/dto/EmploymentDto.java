@@ -1,6 +1,7 @@
 package com.khasanshin.employmentservice.dto;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.khasanshin.employmentservice.domain.model.Employment;
 import java.math.BigDecimal;
@@ -48,4 +49,16 @@ public class EmploymentDto {
   @JsonProperty("updated_at")
   @JsonAlias("updated_at")
   Instant updatedAt;
+
+  /** Filled only with {@code expand=department}. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("department_name")
+  @JsonAlias("department_name")
+  String departmentName;
+
+  /** Filled only with {@code expand=position}. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("position_name")
+  @JsonAlias("position_name")
+  String positionName;
 }
@@ -0,0 +1,13 @@
+package com.khasanshin.employmentservice.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class EmploymentPageDto {
+  List<EmploymentDto> items;
+  /** {@code null} when totals were skipped. */
+  Long total;
+}
@@ -0,0 +1,31 @@
+package com.khasanshin.employmentservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class PayrollTotalsDto {
+
+  @JsonProperty("department_id")
+  @JsonAlias("department_id")
+  UUID departmentId;
+
+  @JsonProperty("position_id")
+  @JsonAlias("position_id")
+  UUID positionId;
+
+  long headcount;
+
+  BigDecimal fte;
+
+  @JsonProperty("salary_total")
+  @JsonAlias("salary_total")
+  long salaryTotal;
+}
@@ -1,15 +1,16 @@
 package com.khasanshin.employmentservice.entity;
 
-import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
-@Entity
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,43 +20,42 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Employment {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
   private UUID id;
 
-  @Column(name = "employee_id", nullable = false)
+  @Column("employee_id")
   private UUID employeeId;
 
-  @Column(name = "department_id", nullable = false)
+  @Column("department_id")
   private UUID departmentId;
 
-  @Column(name = "position_id", nullable = false)
+  @Column("position_id")
   private UUID positionId;
 
-  @Column(name = "start_date", nullable = false)
+  @Column("start_date")
   private LocalDate startDate;
 
-  @Column(name = "end_date")
+  @Column("end_date")
   private LocalDate endDate;
 
-  @Column(nullable = false)
+  @Column("rate")
   private BigDecimal rate;
 
-  @Column private Integer salary;
+  @Column("salary")
+  private Integer salary;
 
   public enum Status {
     ACTIVE,
     CLOSED
   }
 
-  @Enumerated(EnumType.STRING)
-  @Column(nullable = false)
+  @Column("status")
   private Status status;
 
-  @CreationTimestamp
-  @Column(name = "created_at", updatable = false)
+  @CreatedDate
+  @Column("created_at")
   private Instant createdAt;
 
-  @UpdateTimestamp
-  @Column(name = "updated_at")
+  @LastModifiedDate
+  @Column("updated_at")
   private Instant updatedAt;
 }
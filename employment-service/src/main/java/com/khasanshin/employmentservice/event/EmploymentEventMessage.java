@@ -0,0 +1,14 @@
+package com.khasanshin.employmentservice.event;
+
+import com.khasanshin.employmentservice.dto.EmploymentDto;
+import java.time.Instant;
+import java.util.UUID;
+
+public record EmploymentEventMessage(
+        UUID eventId,
+        String eventType,
+        String source,
+        Instant occurredAt,
+        UUID entityId,
+        EmploymentDto payload
+) {}
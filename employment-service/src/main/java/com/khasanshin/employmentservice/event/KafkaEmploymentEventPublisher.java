@@ -0,0 +1,69 @@
+package com.khasanshin.employmentservice.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.port.EmploymentEventPort;
+import com.khasanshin.employmentservice.mapper.EmploymentMapper;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KafkaEmploymentEventPublisher implements EmploymentEventPort {
+
+    private static final String SOURCE = "employment-service";
+
+    private final KafkaTemplate<String, String> kafka;
+    private final ObjectMapper objectMapper;
+    private final EmploymentMapper mapper;
+
+    @Value("${kafka.topics.employment:employment.events}")
+    private String topic;
+
+    @Override
+    public Mono<Void> publish(String eventType, Employment employment) {
+        return Mono.fromFuture(() -> send(eventType, employment))
+                // the producer can block on metadata or a full buffer, which must not happen on an event loop
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnError(ex -> log.warn("Failed to publish {} for employment {}: {}",
+                        eventType, employment.getId(), ex.getMessage()))
+                .onErrorComplete()
+                .then();
+    }
+
+    @Override
+    public Mono<Void> publishAll(String eventType, List<Employment> employments) {
+        return Mono.defer(() -> {
+                    CompletableFuture<?>[] sent = employments.stream()
+                            .map(e -> send(eventType, e))
+                            .toArray(CompletableFuture[]::new);
+                    return Mono.fromFuture(CompletableFuture.allOf(sent));
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnError(ex -> log.warn("Failed to publish {} for {} employments: {}",
+                        eventType, employments.size(), ex.getMessage()));
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(String eventType, Employment employment) {
+        EmploymentEventMessage msg = new EmploymentEventMessage(
+                UUID.randomUUID(), eventType, SOURCE, Instant.now(), employment.getId(), mapper.toDto(employment));
+        try {
+            // keyed by employment so that its events stay ordered within one partition
+            return kafka.send(topic, employment.getId().toString(), objectMapper.writeValueAsString(msg));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.khasanshin.employmentservice.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.employmentservice.domain.port.OrgReferencePort;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgReferenceListener {
+
+    private final OrgReferencePort references;
+    private final ObjectMapper objectMapper;
+
+    // org.events is compacted and every message is a full snapshot, so reading it from the start
+    // rebuilds the projection and a replayed message is a harmless upsert
+    @KafkaListener(
+            topics = "${kafka.topics.org:org.events}",
+            groupId = "${employment.org-projection.group:employment-org-projection}",
+            autoStartup = "${employment.org-projection.enabled:true}",
+            properties = "auto.offset.reset=earliest")
+    public void onOrgEvent(String json) {
+        String kind;
+        UUID id;
+        boolean deleted;
+        String name;
+        try {
+            JsonNode root = objectMapper.readTree(json);
+            kind = root.path("entityType").asText();
+            if (!OrgReferencePort.DEPARTMENT.equals(kind) && !OrgReferencePort.POSITION.equals(kind)) {
+                return;
+            }
+            id = UUID.fromString(root.path("entityId").asText());
+            deleted = root.path("deleted").asBoolean(false);
+            name = root.path("snapshot").path("name").asText(null);
+        } catch (Exception ex) {
+            log.warn("Skipping unreadable org event: {}", ex.getMessage());
+            return;
+        }
+        if (deleted) {
+            references.delete(id).block();
+        } else if (name != null) {
+            references.upsert(id, kind, name).block();
+        }
+    }
+}
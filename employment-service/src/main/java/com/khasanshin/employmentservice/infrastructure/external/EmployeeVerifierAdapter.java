@@ -1,19 +1,55 @@
 package com.khasanshin.employmentservice.infrastructure.external;
 
 import com.khasanshin.employmentservice.domain.port.EmployeeVerifierPort;
-import com.khasanshin.employmentservice.feign.EmployeeVerifier;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Component
-@RequiredArgsConstructor
 public class EmployeeVerifierAdapter implements EmployeeVerifierPort {
 
-    private final EmployeeVerifier delegate;
+    private final WebClient client;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration timeout;
+    private final MeterRegistry meters;
+
+    public EmployeeVerifierAdapter(
+            WebClient.Builder loadBalancedWebClientBuilder,
+            CircuitBreakerRegistry circuitBreakers,
+            MeterRegistry meters,
+            @Value("${employment.remote.employee-url:http://employee-service}") String baseUrl,
+            @Value("${employment.remote.timeout:PT2S}") Duration timeout) {
+        this.client = loadBalancedWebClientBuilder.clone().baseUrl(baseUrl).build();
+        this.circuitBreaker = circuitBreakers.circuitBreaker("employeeClient");
+        this.timeout = timeout;
+        this.meters = meters;
+    }
+
+    @Override
+    public Mono<Void> ensureEmployeeExists(UUID employeeId) {
+        return RemoteHeadCheck.ensureExists(client, "/api/v1/employees/{id}", employeeId, timeout,
+                circuitBreaker, meters, "employee", "employee-service");
+    }
 
     @Override
-    public void ensureEmployeeExists(UUID employeeId) {
-        delegate.ensureEmployeeExists(employeeId);
+    public Mono<Set<UUID>> findMissingEmployees(Collection<UUID> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        return RemoteHeadCheck.postForMissing(client, "/api/v1/employees/exists", Map.of("ids", employeeIds),
+                        MissingIds.class, timeout, circuitBreaker, meters, "employee-bulk", "employee-service")
+                .map(r -> r.missingIds() == null ? Set.<UUID>of() : r.missingIds());
     }
+
+    record MissingIds(@JsonProperty("missing_ids") Set<UUID> missingIds) {}
 }
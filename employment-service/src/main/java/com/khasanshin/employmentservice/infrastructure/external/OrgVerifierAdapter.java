@@ -1,24 +1,70 @@
 package com.khasanshin.employmentservice.infrastructure.external;
 
 import com.khasanshin.employmentservice.domain.port.OrgVerifierPort;
-import com.khasanshin.employmentservice.feign.OrgVerifier;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Component
-@RequiredArgsConstructor
 public class OrgVerifierAdapter implements OrgVerifierPort {
 
-    private final OrgVerifier delegate;
+    private final WebClient client;
+    private final CircuitBreaker departments;
+    private final CircuitBreaker positions;
+    private final Duration timeout;
+    private final MeterRegistry meters;
+
+    public OrgVerifierAdapter(
+            WebClient.Builder loadBalancedWebClientBuilder,
+            CircuitBreakerRegistry circuitBreakers,
+            MeterRegistry meters,
+            @Value("${employment.remote.org-url:http://organization-service}") String baseUrl,
+            @Value("${employment.remote.timeout:PT2S}") Duration timeout) {
+        this.client = loadBalancedWebClientBuilder.clone().baseUrl(baseUrl).build();
+        this.departments = circuitBreakers.circuitBreaker("departmentClient");
+        this.positions = circuitBreakers.circuitBreaker("positionClient");
+        this.timeout = timeout;
+        this.meters = meters;
+    }
+
+    @Override
+    public Mono<Void> ensureDepartmentExists(UUID departmentId) {
+        return RemoteHeadCheck.ensureExists(client, "/api/v1/departments/{id}", departmentId, timeout,
+                departments, meters, "department", "org-service");
+    }
 
     @Override
-    public void ensureDepartmentExists(UUID departmentId) {
-        delegate.ensureDepartmentExists(departmentId);
+    public Mono<Void> ensurePositionExists(UUID positionId) {
+        return RemoteHeadCheck.ensureExists(client, "/api/v1/positions/{id}", positionId, timeout,
+                positions, meters, "position", "org-service");
     }
 
     @Override
-    public void ensurePositionExists(UUID positionId) {
-        delegate.ensurePositionExists(positionId);
+    public Mono<Missing> findMissing(Collection<UUID> departmentIds, Collection<UUID> positionIds) {
+        if (departmentIds.isEmpty() && positionIds.isEmpty()) {
+            return Mono.just(new Missing(Set.of(), Set.of()));
+        }
+        var body = Map.of("department_ids", departmentIds, "position_ids", positionIds);
+        return RemoteHeadCheck.postForMissing(client, "/api/v1/org/exists", body,
+                        MissingIds.class, timeout, departments, meters, "org-bulk", "org-service")
+                .map(r -> new Missing(orEmpty(r.departmentIds()), orEmpty(r.positionIds())));
+    }
+
+    private static Set<UUID> orEmpty(Set<UUID> ids) {
+        return ids == null ? Set.of() : ids;
     }
+
+    record MissingIds(
+            @JsonProperty("missing_department_ids") Set<UUID> departmentIds,
+            @JsonProperty("missing_position_ids") Set<UUID> positionIds) {}
 }
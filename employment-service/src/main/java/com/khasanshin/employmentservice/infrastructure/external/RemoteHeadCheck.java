@@ -0,0 +1,94 @@
+package com.khasanshin.employmentservice.infrastructure.external;
+
+import com.khasanshin.employmentservice.exception.RemoteServiceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * HEAD existence probe shared by the verifier adapters: 404 means missing, transport failures mean 503.
+ * Every probe is timed as {@code employment.remote.verify} tagged with the dependency and its outcome,
+ * including probes cancelled because a sibling check already failed. Bulk lookups against the
+ * {@code /exists} endpoints go through {@link #postForMissing} with the same error mapping.
+ */
+final class RemoteHeadCheck {
+
+    private RemoteHeadCheck() {}
+
+    static final String METRIC = "employment.remote.verify";
+
+    static Mono<Void> ensureExists(WebClient client, String uri, UUID id, Duration timeout,
+                                   CircuitBreaker circuitBreaker, MeterRegistry meters, String what, String service) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meters);
+            return probe(client, uri, id, timeout, circuitBreaker, what, service)
+                    .doOnSuccess(v -> stop(sample, meters, what, "found"))
+                    .doOnError(ex -> stop(sample, meters, what, outcome(ex)))
+                    .doOnCancel(() -> stop(sample, meters, what, "cancelled"));
+        });
+    }
+
+    static <T> Mono<T> postForMissing(WebClient client, String uri, Object body, Class<T> type, Duration timeout,
+                                      CircuitBreaker circuitBreaker, MeterRegistry meters, String what, String service) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meters);
+            return client.post().uri(uri)
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(type)
+                    .timeout(timeout)
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .onErrorMap(RemoteHeadCheck::unavailable,
+                            ex -> new RemoteServiceUnavailableException(service + " unavailable", ex))
+                    .doOnSuccess(v -> stop(sample, meters, what, "found"))
+                    .doOnError(ex -> stop(sample, meters, what, outcome(ex)))
+                    .doOnCancel(() -> stop(sample, meters, what, "cancelled"));
+        });
+    }
+
+    private static Mono<Void> probe(WebClient client, String uri, UUID id, Duration timeout,
+                                    CircuitBreaker circuitBreaker, String what, String service) {
+        return client.head().uri(uri, id)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(timeout)
+                .onErrorMap(WebClientResponseException.NotFound.class,
+                        ex -> new ResponseStatusException(HttpStatus.NOT_FOUND, what + " not found: " + id))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(RemoteHeadCheck::unavailable,
+                        ex -> new RemoteServiceUnavailableException(service + " unavailable", ex))
+                .then();
+    }
+
+    private static void stop(Timer.Sample sample, MeterRegistry meters, String dependency, String outcome) {
+        sample.stop(Timer.builder(METRIC)
+                .tag("dependency", dependency)
+                .tag("outcome", outcome)
+                .register(meters));
+    }
+
+    private static String outcome(Throwable ex) {
+        if (ex instanceof ResponseStatusException r && r.getStatusCode().value() == 404) {
+            return "not_found";
+        }
+        return ex instanceof RemoteServiceUnavailableException ? "unavailable" : "error";
+    }
+
+    private static boolean unavailable(Throwable ex) {
+        return ex instanceof CallNotPermittedException
+                || ex instanceof WebClientRequestException
+                || ex instanceof TimeoutException
+                || ex instanceof WebClientResponseException r && r.getStatusCode().is5xxServerError();
+    }
+}
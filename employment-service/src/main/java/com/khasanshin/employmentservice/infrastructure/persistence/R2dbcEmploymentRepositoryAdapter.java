@@ -0,0 +1,206 @@
+package com.khasanshin.employmentservice.infrastructure.persistence;
+
+import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.model.EmploymentPage;
+import com.khasanshin.employmentservice.domain.port.EmploymentRepositoryPort;
+import com.khasanshin.employmentservice.repository.EmploymentRepository;
+import io.r2dbc.spi.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class R2dbcEmploymentRepositoryAdapter implements EmploymentRepositoryPort {
+
+    private static final long EXPIRY_LOCK = 0x656d70657870L; // "empexp"
+
+    private final EmploymentRepository repository;
+    private final R2dbcEntityTemplate template;
+
+    @Override
+    public Mono<Employment> findById(UUID id) {
+        return repository.findById(id).map(this::toDomain);
+    }
+
+    @Override
+    public Mono<Employment> save(Employment employment) {
+        return repository.save(toEntity(employment)).map(this::toDomain);
+    }
+
+    @Override
+    public Flux<Optional<Employment>> insertAllSkippingOverlaps(List<Employment> employments) {
+        if (employments.isEmpty()) {
+            return Flux.empty();
+        }
+        var converter = template.getConverter();
+        return template.getDatabaseClient().inConnectionMany(conn -> {
+            // do nothing on conflict covers the employment_no_overlap exclusion constraint
+            Statement st = conn.createStatement("""
+                    insert into employment
+                        (employee_id, department_id, position_id, start_date, rate, salary, status, created_at, updated_at)
+                    values ($1, $2, $3, $4, $5, $6, 'ACTIVE', now(), now())
+                    on conflict do nothing
+                    returning *
+                    """);
+            for (int i = 0; i < employments.size(); i++) {
+                if (i > 0) st.add();
+                Employment e = employments.get(i);
+                st.bind(0, e.getEmployeeId())
+                        .bind(1, e.getDepartmentId())
+                        .bind(2, e.getPositionId())
+                        .bind(3, e.getStartDate())
+                        .bind(4, e.getRate());
+                if (e.getSalary() != null) st.bind(5, e.getSalary());
+                else st.bindNull(5, Integer.class);
+            }
+            // one result per binding, in binding order; a skipped row yields an empty result
+            return Flux.from(st.execute())
+                    .concatMap(result -> Flux.from(result.map((row, meta) -> toDomain(
+                                    converter.read(com.khasanshin.employmentservice.entity.Employment.class, row, meta))))
+                            .next()
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty()));
+        });
+    }
+
+    @Override
+    public Mono<EmploymentPage> findPageByEmployeeId(UUID employeeId, int page, int size, boolean withTotal) {
+        return findPage("employee_id = :key", employeeId, page, size, withTotal,
+                () -> repository.countByEmployeeId(employeeId));
+    }
+
+    @Override
+    public Mono<EmploymentPage> findPageByDepartmentId(
+            UUID departmentId, boolean activeOnly, int page, int size, boolean withTotal) {
+        return activeOnly
+                ? findPage("department_id = :key and status = 'ACTIVE'", departmentId, page, size, withTotal,
+                        () -> repository.countByDepartmentIdAndStatus(
+                                departmentId, com.khasanshin.employmentservice.entity.Employment.Status.ACTIVE))
+                : findPage("department_id = :key", departmentId, page, size, withTotal,
+                        () -> repository.countByDepartmentId(departmentId));
+    }
+
+    @Override
+    public Mono<Boolean> tryLockExpiry() {
+        return template.getDatabaseClient().sql("select pg_try_advisory_xact_lock(:key) as locked")
+                .bind("key", EXPIRY_LOCK)
+                .map(row -> Boolean.TRUE.equals(row.get("locked", Boolean.class)))
+                .one();
+    }
+
+    @Override
+    public Flux<Employment> closeExpired(int limit) {
+        var converter = template.getConverter();
+        return template.getDatabaseClient().sql("""
+                        update employment
+                           set status = 'CLOSED', updated_at = now()
+                         where id in (select id from employment
+                                       where status = 'ACTIVE' and end_date < current_date
+                                       order by end_date
+                                       limit :limit
+                                       for update skip locked)
+                        returning *
+                        """)
+                .bind("limit", limit)
+                .map((row, meta) -> toDomain(
+                        converter.read(com.khasanshin.employmentservice.entity.Employment.class, row, meta)))
+                .all();
+    }
+
+    @Override
+    public Flux<Employment> findPageAfter(UUID afterId, int limit) {
+        var page = PageRequest.of(0, limit);
+        var rows = afterId == null
+                ? repository.findAllByOrderByIdAsc(page)
+                : repository.findByIdGreaterThanOrderByIdAsc(afterId, page);
+        return rows.map(this::toDomain);
+    }
+
+    @Override
+    public Flux<Employment> findByDepartmentIdOn(UUID departmentId, LocalDate date) {
+        return repository.findByDepartmentIdOn(departmentId, date).map(this::toDomain);
+    }
+
+    @Override
+    public Flux<Employment> findByDepartmentIdWithin(UUID departmentId, LocalDate from, LocalDate to) {
+        return repository.findByDepartmentIdWithin(departmentId, from, to).map(this::toDomain);
+    }
+
+    private Mono<EmploymentPage> findPage(
+            String where, UUID key, int page, int size, boolean withTotal, Supplier<Mono<Long>> count) {
+        String sql = "select *" + (withTotal ? ", count(*) over () as total_count" : "")
+                + " from employment where " + where
+                + " order by start_date desc, id limit :limit offset :offset";
+        var converter = template.getConverter();
+        return template.getDatabaseClient().sql(sql)
+                .bind("key", key)
+                .bind("limit", size)
+                .bind("offset", (long) page * size)
+                .map((row, meta) -> new CountedRow(
+                        toDomain(converter.read(com.khasanshin.employmentservice.entity.Employment.class, row, meta)),
+                        withTotal ? row.get("total_count", Long.class) : null))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    var builder = EmploymentPage.builder()
+                            .content(rows.stream().map(CountedRow::employment).toList());
+                    if (!withTotal) {
+                        return Mono.just(builder.build());
+                    }
+                    if (!rows.isEmpty()) {
+                        return Mono.just(builder.total(rows.get(0).total()).build());
+                    }
+                    // past the last row there is nothing for the window to count over
+                    return (page == 0 ? Mono.just(0L) : count.get())
+                            .map(total -> builder.total(total).build());
+                });
+    }
+
+    private record CountedRow(Employment employment, Long total) {}
+
+    private Employment toDomain(com.khasanshin.employmentservice.entity.Employment e) {
+        return Employment.builder()
+                .id(e.getId())
+                .employeeId(e.getEmployeeId())
+                .departmentId(e.getDepartmentId())
+                .positionId(e.getPositionId())
+                .startDate(e.getStartDate())
+                .endDate(e.getEndDate())
+                .rate(e.getRate())
+                .salary(e.getSalary())
+                .status(Employment.Status.valueOf(e.getStatus().name()))
+                .createdAt(e.getCreatedAt())
+                .updatedAt(e.getUpdatedAt())
+                .build();
+    }
+
+    private com.khasanshin.employmentservice.entity.Employment toEntity(Employment e) {
+        com.khasanshin.employmentservice.entity.Employment ent = com.khasanshin.employmentservice.entity.Employment.builder()
+                .id(e.getId())
+                .employeeId(e.getEmployeeId())
+                .departmentId(e.getDepartmentId())
+                .positionId(e.getPositionId())
+                .startDate(e.getStartDate())
+                .endDate(e.getEndDate())
+                .rate(e.getRate())
+                .salary(e.getSalary())
+                .status(toEntityStatus(e.getStatus()))
+                .createdAt(e.getCreatedAt())
+                .updatedAt(e.getUpdatedAt())
+                .build();
+        return ent;
+    }
+
+    private com.khasanshin.employmentservice.entity.Employment.Status toEntityStatus(Employment.Status status) {
+        return com.khasanshin.employmentservice.entity.Employment.Status.valueOf(status.name());
+    }
+}
@@ -0,0 +1,47 @@
+package com.khasanshin.employmentservice.infrastructure.persistence;
+
+import com.khasanshin.employmentservice.domain.port.OrgReferencePort;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class R2dbcOrgReferenceAdapter implements OrgReferencePort {
+
+    private final DatabaseClient db;
+
+    @Override
+    public Mono<Map<UUID, String>> findNames(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return db.sql("select id, name from org_reference where id in (:ids)")
+                .bind("ids", ids)
+                .map(row -> Map.entry(row.get("id", UUID.class), row.get("name", String.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    @Override
+    public Mono<Void> upsert(UUID id, String kind, String name) {
+        return db.sql("""
+                        insert into org_reference (id, kind, name, updated_at)
+                        values (:id, :kind, :name, now())
+                        on conflict (id) do update set name = excluded.name, updated_at = now()
+                        """)
+                .bind("id", id)
+                .bind("kind", kind)
+                .bind("name", name)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> delete(UUID id) {
+        return db.sql("delete from org_reference where id = :id").bind("id", id).then();
+    }
+}
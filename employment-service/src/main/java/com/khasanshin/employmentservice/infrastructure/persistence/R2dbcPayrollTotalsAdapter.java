@@ -0,0 +1,98 @@
+package com.khasanshin.employmentservice.infrastructure.persistence;
+
+import com.khasanshin.employmentservice.domain.model.PayrollDelta;
+import com.khasanshin.employmentservice.domain.model.PayrollTotals;
+import com.khasanshin.employmentservice.domain.port.PayrollTotalsPort;
+import io.r2dbc.spi.Statement;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class R2dbcPayrollTotalsAdapter implements PayrollTotalsPort {
+
+    private final DatabaseClient db;
+
+    @Override
+    public Mono<Void> apply(List<PayrollDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.empty();
+        }
+        return db.inConnectionMany(conn -> {
+            Statement st = conn.createStatement("""
+                    insert into employment_totals as t
+                        (department_id, position_id, effective_date, headcount, fte, salary)
+                    values ($1, $2, $3, $4, $5, $6)
+                    on conflict (department_id, position_id, effective_date) do update
+                       set headcount = t.headcount + excluded.headcount,
+                           fte = t.fte + excluded.fte,
+                           salary = t.salary + excluded.salary
+                    """);
+            for (int i = 0; i < deltas.size(); i++) {
+                if (i > 0) st.add();
+                PayrollDelta d = deltas.get(i);
+                st.bind(0, d.departmentId())
+                        .bind(1, d.positionId())
+                        .bind(2, d.effectiveDate())
+                        .bind(3, d.headcount())
+                        .bind(4, d.fte())
+                        .bind(5, d.salary());
+            }
+            return Flux.from(st.execute()).concatMap(r -> Flux.from(r.getRowsUpdated()));
+        }).then();
+    }
+
+    @Override
+    public Flux<PayrollTotals> findAsOf(LocalDate date, UUID departmentId) {
+        var spec = db.sql("""
+                        select department_id, position_id,
+                               sum(headcount) as headcount, sum(fte) as fte, sum(salary) as salary
+                          from employment_totals
+                         where effective_date <= :date
+                        """ + (departmentId == null ? "" : " and department_id = :departmentId") + """
+                         group by department_id, position_id
+                        having sum(headcount) <> 0
+                         order by department_id, position_id
+                        """)
+                .bind("date", date);
+        if (departmentId != null) {
+            spec = spec.bind("departmentId", departmentId);
+        }
+        return spec
+                .map(row -> PayrollTotals.builder()
+                        .departmentId(row.get("department_id", UUID.class))
+                        .positionId(row.get("position_id", UUID.class))
+                        .headcount(row.get("headcount", Long.class))
+                        .fte(row.get("fte", BigDecimal.class))
+                        .salary(row.get("salary", BigDecimal.class).longValue())
+                        .build())
+                .all();
+    }
+
+    @Override
+    public Mono<Void> rebuild() {
+        // writers upsert into the table, so the exclusive lock makes them wait for the new contents
+        return db.sql("lock table employment_totals in exclusive mode").then()
+                .then(db.sql("delete from employment_totals").then())
+                .then(db.sql("""
+                        insert into employment_totals (department_id, position_id, effective_date, headcount, fte, salary)
+                        select department_id, position_id, d, sum(h), sum(f), sum(s)
+                          from (select department_id, position_id, start_date as d, 1 as h, rate as f,
+                                       coalesce(salary, 0)::bigint as s
+                                  from employment
+                                union all
+                                select department_id, position_id, end_date + 1, -1, -rate, -coalesce(salary, 0)::bigint
+                                  from employment
+                                 where end_date is not null) x
+                         group by department_id, position_id, d
+                        having sum(h) <> 0 or sum(f) <> 0 or sum(s) <> 0
+                        """).then());
+    }
+}
@@ -1,8 +1,10 @@
 package com.khasanshin.employmentservice.mapper;
 
 import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.model.PayrollTotals;
 import com.khasanshin.employmentservice.dto.CreateEmploymentDto;
 import com.khasanshin.employmentservice.dto.EmploymentDto;
+import com.khasanshin.employmentservice.dto.PayrollTotalsDto;
 import com.khasanshin.employmentservice.dto.UpdateEmploymentDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -10,8 +12,13 @@ import org.mapstruct.Mapping;
 @Mapper(componentModel = "spring")
 public interface EmploymentMapper {
 
+  @Mapping(target = "departmentName", ignore = true)
+  @Mapping(target = "positionName", ignore = true)
   EmploymentDto toDto(Employment e);
 
+  @Mapping(target = "salaryTotal", source = "salary")
+  PayrollTotalsDto toTotalsDto(PayrollTotals totals);
+
   @Mapping(target = "id", ignore = true)
   @Mapping(target = "status", constant = "ACTIVE")
   @Mapping(target = "createdAt", ignore = true)
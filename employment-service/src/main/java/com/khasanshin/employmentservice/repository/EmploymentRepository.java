@@ -1,43 +1,44 @@
 package com.khasanshin.employmentservice.repository;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.UUID;
 
 import com.khasanshin.employmentservice.entity.Employment;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
-
-public interface EmploymentRepository extends JpaRepository<Employment, UUID> {
-
-  Page<Employment> findByEmployeeIdOrderByStartDateDesc(UUID employeeId, Pageable pageable);
-
-  Page<Employment> findByDepartmentId(UUID departmentId, Pageable pageable);
-
-  Page<Employment> findByDepartmentIdAndStatus(
-      UUID departmentId, Employment.Status status, Pageable pageable);
-
-  @Query(
-      """
-  select e from Employment e
-  where e.employeeId = :emp
-    and e.departmentId = :dept
-    and e.positionId  = :pos
-    and (:endDate   is null or :endDate   >= e.startDate)
-    and ( e.endDate is null or  e.endDate >= :startDate)
-    """)
-  List<Employment> findOverlaps(
-      @Param("emp") UUID employeeId,
-      @Param("dept") UUID departmentId,
-      @Param("pos") UUID positionId,
-      @Param("startDate") LocalDate start,
-      @Param("endDate") LocalDate end);
-
-  long countByEmployeeId(UUID employeeId);
-  long countByDepartmentId(UUID departmentId);
-  long countByDepartmentIdAndStatus(UUID departmentId, Employment.Status status);
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface EmploymentRepository extends R2dbcRepository<Employment, UUID> {
+
+  @Query("""
+      select * from employment
+       where department_id = :departmentId
+         and period @> cast(:date as date)
+       order by position_id, start_date, id
+      """)
+  Flux<Employment> findByDepartmentIdOn(
+      @Param("departmentId") UUID departmentId, @Param("date") LocalDate date);
+
+  @Query("""
+      select * from employment
+       where department_id = :departmentId
+         and period && daterange(cast(:from as date), cast(:to as date), '[]')
+       order by start_date, id
+      """)
+  Flux<Employment> findByDepartmentIdWithin(
+      @Param("departmentId") UUID departmentId,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  Flux<Employment> findAllByOrderByIdAsc(Pageable pageable);
+
+  Flux<Employment> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+  Mono<Long> countByEmployeeId(UUID employeeId);
+  Mono<Long> countByDepartmentId(UUID departmentId);
+  Mono<Long> countByDepartmentIdAndStatus(UUID departmentId, Employment.Status status);
 
 }
@@ -0,0 +1,2 @@
+-- ids used to come from Hibernate; R2DBC inserts leave them to the database
+alter table employment alter column id set default gen_random_uuid();
@@ -0,0 +1,9 @@
+create extension if not exists btree_gist;
+
+-- inclusive on both ends, open-ended while end_date is null
+alter table employment
+    add column period daterange generated always as (daterange(start_date, end_date, '[]')) stored;
+
+alter table employment
+    add constraint employment_no_overlap
+    exclude using gist (employee_id with =, department_id with =, position_id with =, period with &&);
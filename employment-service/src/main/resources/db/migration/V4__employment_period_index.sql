@@ -0,0 +1,2 @@
+-- point-in-time and timeline lookups: department_id = ? and period @> date / && range
+create index idx_employment_dept_period on employment using gist (department_id, period);
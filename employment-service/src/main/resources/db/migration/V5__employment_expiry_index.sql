@@ -0,0 +1,3 @@
+-- the expiry job only ever looks at active rows that have an end date
+create index idx_employment_active_end on employment (end_date)
+    where status = 'ACTIVE' and end_date is not null;
@@ -0,0 +1,21 @@
+-- dated deltas per department/position: an employment adds itself on start_date and removes itself
+-- the day after end_date, so totals as of D are the sum of the deltas up to D
+create table employment_totals (
+    department_id  uuid          not null,
+    position_id    uuid          not null,
+    effective_date date          not null,
+    headcount      integer       not null default 0,
+    fte            numeric(12,2) not null default 0,
+    salary         bigint        not null default 0,
+    primary key (department_id, position_id, effective_date)
+);
+
+insert into employment_totals (department_id, position_id, effective_date, headcount, fte, salary)
+select department_id, position_id, d, sum(h), sum(f), sum(s)
+  from (select department_id, position_id, start_date as d, 1 as h, rate as f, coalesce(salary, 0)::bigint as s
+          from employment
+        union all
+        select department_id, position_id, end_date + 1, -1, -rate, -coalesce(salary, 0)::bigint
+          from employment
+         where end_date is not null) x
+ group by department_id, position_id, d;
@@ -0,0 +1,7 @@
+-- read-only copy of department and position names, fed from the compacted org.events topic
+create table org_reference (
+    id         uuid primary key,
+    kind       varchar(20)  not null, -- DEPARTMENT/POSITION
+    name       varchar(255) not null,
+    updated_at timestamptz  not null default now()
+);
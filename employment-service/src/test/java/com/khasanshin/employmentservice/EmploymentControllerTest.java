@@ -68,7 +68,7 @@ class EmploymentControllerTest {
 
     @Test
     void get_404() {
-        when(service.get(any())).thenReturn(Mono.error(new jakarta.persistence.EntityNotFoundException()));
+        when(service.get(any())).thenReturn(Mono.error(new org.springframework.web.server.ResponseStatusException(org.springframework.http.HttpStatus.NOT_FOUND, "employment not found")));
 
         webTestClient.get().uri("/api/v1/employments/{id}", UUID.randomUUID())
                 .exchange()
@@ -118,6 +118,39 @@ class EmploymentControllerTest {
                 .expectStatus().isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
     }
 
+    @Test
+    void createBatch_200_perItemResults() {
+        when(service.createBatch(anyList())).thenReturn(Mono.just(EmploymentBatchResultDto.builder()
+                .created(0).rejected(1)
+                .items(List.of(EmploymentBatchResultDto.Item.builder()
+                        .index(0).status(EmploymentBatchResultDto.Status.OVERLAP).build()))
+                .build()));
+
+        var item = Map.of(
+                "employee_id", UUID.randomUUID().toString(),
+                "department_id", UUID.randomUUID().toString(),
+                "position_id", UUID.randomUUID().toString(),
+                "start_date", "2025-09-01");
+
+        webTestClient.post().uri("/api/v1/employments/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("items", List.of(item)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.rejected").isEqualTo(1)
+                .jsonPath("$.items[0].status").isEqualTo("OVERLAP");
+    }
+
+    @Test
+    void createBatch_400_whenEmpty() {
+        webTestClient.post().uri("/api/v1/employments/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("items", List.of()))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     void update_200() {
         UUID id = UUID.randomUUID();
@@ -157,10 +190,8 @@ class EmploymentControllerTest {
     void listByEmployee_200_withHeader_andFluxBody() {
         var dto = EmploymentDto.builder().id(UUID.randomUUID()).build();
 
-        when(service.listByEmployee(any(), anyInt(), anyInt()))
-                .thenReturn(reactor.core.publisher.Flux.just(dto));
-        when(service.countByEmployee(any()))
-                .thenReturn(reactor.core.publisher.Mono.just(1L));
+        when(service.listByEmployee(any(), anyInt(), anyInt(), eq(true), any()))
+                .thenReturn(Mono.just(EmploymentPageDto.builder().items(List.of(dto)).total(1L).build()));
 
         webTestClient.get().uri(uriBuilder -> uriBuilder
                         .path("/api/v1/employments/by-employee/{id}")
@@ -177,10 +208,8 @@ class EmploymentControllerTest {
     void listByDepartment_200_withHeader_defaultActiveTrue_andFluxBody() {
         var dto = EmploymentDto.builder().id(UUID.randomUUID()).build();
 
-        when(service.listByDepartment(any(), eq(true), anyInt(), anyInt()))
-                .thenReturn(reactor.core.publisher.Flux.just(dto));
-        when(service.countByDepartment(any(), eq(true)))
-                .thenReturn(reactor.core.publisher.Mono.just(1L));
+        when(service.listByDepartment(any(), eq(true), anyInt(), anyInt(), eq(true), any()))
+                .thenReturn(Mono.just(EmploymentPageDto.builder().items(List.of(dto)).total(1L).build()));
 
         webTestClient.get().uri(uriBuilder -> uriBuilder
                         .path("/api/v1/employments/by-department/{depId}")
@@ -197,10 +226,8 @@ class EmploymentControllerTest {
     void listByDepartment_200_withHeader_activeFalse_andFluxBody() {
         var dto = EmploymentDto.builder().id(UUID.randomUUID()).build();
 
-        when(service.listByDepartment(any(), eq(false), anyInt(), anyInt()))
-                .thenReturn(reactor.core.publisher.Flux.just(dto));
-        when(service.countByDepartment(any(), eq(false)))
-                .thenReturn(reactor.core.publisher.Mono.just(1L));
+        when(service.listByDepartment(any(), eq(false), anyInt(), anyInt(), eq(true), any()))
+                .thenReturn(Mono.just(EmploymentPageDto.builder().items(List.of(dto)).total(1L).build()));
 
         webTestClient.get().uri(uriBuilder -> uriBuilder
                         .path("/api/v1/employments/by-department/{depId}")
@@ -214,4 +241,55 @@ class EmploymentControllerTest {
                 .jsonPath("$[0].id").isEqualTo(dto.getId().toString());
     }
 
+    @Test
+    void listByEmployee_countFalse_noTotalHeader() {
+        var dto = EmploymentDto.builder().id(UUID.randomUUID()).build();
+
+        when(service.listByEmployee(any(), anyInt(), anyInt(), eq(false), any()))
+                .thenReturn(Mono.just(EmploymentPageDto.builder().items(List.of(dto)).build()));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/employments/by-employee/{id}")
+                        .queryParam("count", "false")
+                        .build(UUID.randomUUID()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Total-Count")
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(dto.getId().toString());
+    }
+
+    @Test
+    void asOf_200_passesDepartmentAndDate() {
+        UUID depId = UUID.randomUUID();
+        var dto = EmploymentDto.builder().id(UUID.randomUUID()).build();
+
+        when(service.listByDepartmentAsOf(depId, java.time.LocalDate.of(2024, 3, 1)))
+                .thenReturn(reactor.core.publisher.Flux.just(dto));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/employments/as-of")
+                        .queryParam("departmentId", depId)
+                        .queryParam("date", "2024-03-01")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(dto.getId().toString());
+    }
+
+    @Test
+    void timeline_400_whenRangeReversed() {
+        when(service.departmentTimeline(any(), any(), any()))
+                .thenReturn(reactor.core.publisher.Flux.error(new IllegalArgumentException("to must be on or after from")));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/employments/timeline")
+                        .queryParam("departmentId", UUID.randomUUID())
+                        .queryParam("from", "2024-03-01")
+                        .queryParam("to", "2024-01-01")
+                        .build())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
 }
@@ -1,16 +1,23 @@
 package com.khasanshin.employmentservice;
 
 import com.khasanshin.employmentservice.application.EmploymentApplicationService;
+import com.khasanshin.employmentservice.application.EmploymentUseCase;
 import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.model.EmploymentPage;
+import com.khasanshin.employmentservice.domain.model.PayrollDelta;
 import com.khasanshin.employmentservice.domain.port.EmployeeVerifierPort;
+import com.khasanshin.employmentservice.domain.port.EmploymentEventPort;
 import com.khasanshin.employmentservice.domain.port.EmploymentRepositoryPort;
+import com.khasanshin.employmentservice.domain.port.OrgReferencePort;
 import com.khasanshin.employmentservice.domain.port.OrgVerifierPort;
+import com.khasanshin.employmentservice.domain.port.PayrollTotalsPort;
 import com.khasanshin.employmentservice.dto.CloseEmploymentDto;
 import com.khasanshin.employmentservice.dto.CreateEmploymentDto;
+import com.khasanshin.employmentservice.dto.EmploymentBatchResultDto;
 import com.khasanshin.employmentservice.dto.EmploymentDto;
-import com.khasanshin.employmentservice.dto.UpdateEmploymentDto;
+import com.khasanshin.employmentservice.dto.EmploymentPageDto;
+import com.khasanshin.employmentservice.exception.RemoteServiceUnavailableException;
 import com.khasanshin.employmentservice.mapper.EmploymentMapper;
-import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,14 +25,21 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,74 +53,277 @@ class EmploymentServiceTest {
     @Mock EmploymentMapper mapper;
     @Mock OrgVerifierPort orgVerifier;
     @Mock EmployeeVerifierPort employeeVerifier;
-    @Mock org.springframework.transaction.support.TransactionTemplate tx;
+    @Mock EmploymentEventPort events;
+    @Mock TransactionalOperator tx;
+    @Mock PayrollTotalsPort totals;
+    @Mock OrgReferencePort orgReferences;
 
     EmploymentApplicationService service;
 
     @BeforeEach
     void setUp() {
-        when(tx.execute(any())).thenAnswer(inv -> ((org.springframework.transaction.support.TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
-        service = new EmploymentApplicationService(repo, mapper, tx, orgVerifier, employeeVerifier);
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(employeeVerifier.ensureEmployeeExists(any())).thenReturn(Mono.empty());
+        when(orgVerifier.ensureDepartmentExists(any())).thenReturn(Mono.empty());
+        when(orgVerifier.ensurePositionExists(any())).thenReturn(Mono.empty());
+        when(totals.apply(anyList())).thenReturn(Mono.empty());
+        when(events.publish(any(), any())).thenReturn(Mono.empty());
+        service = new EmploymentApplicationService(
+                repo, mapper, tx, orgVerifier, employeeVerifier, events, totals, orgReferences);
     }
 
-    @Test
-    void create_validatesAndSaves() {
-        UUID emp = UUID.randomUUID();
-        UUID dept = UUID.randomUUID();
-        UUID pos = UUID.randomUUID();
-        CreateEmploymentDto dto = CreateEmploymentDto.builder()
-                .employeeId(emp).departmentId(dept).positionId(pos)
+    private CreateEmploymentDto createDto() {
+        return CreateEmploymentDto.builder()
+                .employeeId(UUID.randomUUID()).departmentId(UUID.randomUUID()).positionId(UUID.randomUUID())
                 .startDate(LocalDate.now())
                 .build();
+    }
+
+    private static Employment domainOf(CreateEmploymentDto dto) {
+        return Employment.builder()
+                .employeeId(dto.getEmployeeId()).departmentId(dto.getDepartmentId()).positionId(dto.getPositionId())
+                .startDate(dto.getStartDate()).status(Employment.Status.ACTIVE).rate(BigDecimal.ONE)
+                .build();
+    }
+
+    @Test
+    void create_validatesAndSaves() {
+        CreateEmploymentDto dto = createDto();
 
         Employment toSave = Employment.builder()
-                .employeeId(emp).departmentId(dept).positionId(pos)
+                .employeeId(dto.getEmployeeId()).departmentId(dto.getDepartmentId()).positionId(dto.getPositionId())
                 .startDate(dto.getStartDate()).status(Employment.Status.ACTIVE).rate(BigDecimal.ONE)
                 .build();
         Employment saved = toSave.toBuilder().id(UUID.randomUUID()).build();
 
-        when(repo.findOverlaps(emp, dept, pos, dto.getStartDate(), null)).thenReturn(List.of());
         when(mapper.toDomain(dto)).thenReturn(toSave);
-        when(repo.save(toSave)).thenReturn(saved);
+        when(repo.save(toSave)).thenReturn(Mono.just(saved));
         when(mapper.toDto(saved)).thenReturn(EmploymentDto.builder().id(saved.getId()).build());
 
+        PublisherProbe<Void> published = PublisherProbe.empty();
+        when(events.publish(EmploymentEventPort.CREATED, saved)).thenReturn(published.mono());
+
         EmploymentDto out = service.create(dto).block();
 
         assertNotNull(out);
-        verify(employeeVerifier).ensureEmployeeExists(emp);
-        verify(orgVerifier).ensureDepartmentExists(dept);
-        verify(orgVerifier).ensurePositionExists(pos);
+        published.assertWasSubscribed();
+        verify(employeeVerifier).ensureEmployeeExists(dto.getEmployeeId());
+        verify(orgVerifier).ensureDepartmentExists(dto.getDepartmentId());
+        verify(orgVerifier).ensurePositionExists(dto.getPositionId());
+        verify(tx).transactional(any(Mono.class));
+        verify(events).publish(EmploymentEventPort.CREATED, saved);
+    }
+
+    @Test
+    void create_unknownDepartment_404_beforeAnyQuery() {
+        CreateEmploymentDto dto = createDto();
+        when(orgVerifier.ensureDepartmentExists(dto.getDepartmentId()))
+                .thenReturn(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "department not found")));
+
+        StepVerifier.create(service.create(dto))
+                .expectErrorSatisfies(ex -> assertEquals(HttpStatus.NOT_FOUND, ((ResponseStatusException) ex).getStatusCode()))
+                .verify();
+        verify(repo, never()).save(any());
+        verifyNoInteractions(events);
+    }
+
+    @Test
+    void create_runsChecksConcurrently_andCancelsOthersOnFirst404() {
+        AtomicBoolean positionCancelled = new AtomicBoolean();
+        AtomicInteger subscribed = new AtomicInteger();
+        when(employeeVerifier.ensureEmployeeExists(any()))
+                .thenAnswer(inv -> Mono.delay(Duration.ofMillis(100)).then().doOnSubscribe(s -> subscribed.incrementAndGet()));
+        when(orgVerifier.ensureDepartmentExists(any()))
+                .thenAnswer(inv -> Mono.delay(Duration.ofMillis(20))
+                        .then(Mono.<Void>error(new ResponseStatusException(HttpStatus.NOT_FOUND, "department not found")))
+                        .doOnSubscribe(s -> subscribed.incrementAndGet()));
+        when(orgVerifier.ensurePositionExists(any()))
+                .thenReturn(Mono.<Void>never()
+                        .doOnSubscribe(s -> subscribed.incrementAndGet())
+                        .doOnCancel(() -> positionCancelled.set(true)));
+
+        StepVerifier.withVirtualTime(() -> service.create(createDto()))
+                .thenAwait(Duration.ofMillis(20))
+                .expectError(ResponseStatusException.class)
+                .verify();
+
+        assertEquals(3, subscribed.get());
+        assertTrue(positionCancelled.get());
+        verify(repo, never()).save(any());
+    }
+
+    @Test
+    void create_checksShareOneTimeoutBudget() {
+        when(employeeVerifier.ensureEmployeeExists(any())).thenReturn(Mono.never());
+
+        StepVerifier.withVirtualTime(() -> service.create(createDto()))
+                .thenAwait(Duration.ofSeconds(3))
+                .expectError(RemoteServiceUnavailableException.class)
+                .verify();
+    }
+
+    @Test
+    void create_concurrentRequests_doNotHoldThreads() {
+        // under virtual time a blocking implementation could not finish at all: all 500 hires
+        // complete after the latency of one request (checks run side by side), so none parks a thread
+        when(employeeVerifier.ensureEmployeeExists(any())).thenAnswer(inv -> Mono.delay(Duration.ofMillis(50)).then());
+        when(orgVerifier.ensureDepartmentExists(any())).thenAnswer(inv -> Mono.delay(Duration.ofMillis(50)).then());
+        when(orgVerifier.ensurePositionExists(any())).thenAnswer(inv -> Mono.delay(Duration.ofMillis(50)).then());
+        when(mapper.toDomain(any())).thenAnswer(inv -> domainOf(inv.getArgument(0)));
+        when(repo.save(any())).thenAnswer(inv -> Mono.delay(Duration.ofMillis(10)).thenReturn(inv.getArgument(0)));
+        when(mapper.toDto(any())).thenReturn(EmploymentDto.builder().build());
+
+        StepVerifier.withVirtualTime(() -> Flux.range(0, 500).flatMap(i -> service.create(createDto()), 500))
+                .thenAwait(Duration.ofMillis(60))
+                .expectNextCount(500)
+                .verifyComplete();
     }
 
     @Test
     void get_notFound_throws404() {
-        when(repo.findById(any())).thenReturn(Optional.empty());
-        assertThrows(EntityNotFoundException.class, () -> service.get(UUID.randomUUID()).block());
+        when(repo.findById(any())).thenReturn(Mono.empty());
+
+        var ex = assertThrows(ResponseStatusException.class, () -> service.get(UUID.randomUUID()).block());
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
     }
 
     @Test
     void close_updatesStatus() {
         UUID id = UUID.randomUUID();
         Employment current = Employment.builder()
-                .id(id).startDate(LocalDate.now().minusDays(10)).status(Employment.Status.ACTIVE).build();
+                .id(id).departmentId(UUID.randomUUID()).positionId(UUID.randomUUID()).rate(BigDecimal.ONE)
+                .startDate(LocalDate.now().minusDays(10)).status(Employment.Status.ACTIVE).build();
         Employment closed = current.toBuilder().status(Employment.Status.CLOSED).endDate(LocalDate.now()).build();
 
-        when(repo.findById(id)).thenReturn(Optional.of(current));
-        when(repo.save(any())).thenReturn(closed);
+        when(repo.findById(id)).thenReturn(Mono.just(current));
+        when(repo.save(any())).thenReturn(Mono.just(closed));
         when(mapper.toDto(closed)).thenReturn(EmploymentDto.builder().id(id).status(Employment.Status.CLOSED).build());
 
         EmploymentDto out = service.close(id, CloseEmploymentDto.builder().build()).block();
 
         assertEquals(Employment.Status.CLOSED, out.getStatus());
+        verify(events).publish(EmploymentEventPort.CLOSED, closed);
+        verify(totals).apply(PayrollDelta.between(current, closed));
+    }
+
+    @Test
+    void create_overlap_conflict_publishesNothing() {
+        when(mapper.toDomain(any())).thenReturn(Employment.builder().rate(BigDecimal.ONE).build());
+        when(repo.save(any())).thenReturn(Mono.error(
+                new DataIntegrityViolationException("conflicting key value violates exclusion constraint \"employment_no_overlap\"")));
+
+        var ex = assertThrows(ResponseStatusException.class, () -> service.create(createDto()).block());
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        verifyNoInteractions(events);
+    }
+
+    @Test
+    void createBatch_verifiesOnceForAllItems_andReportsEachItem() {
+        UUID missingEmployee = UUID.randomUUID();
+        CreateEmploymentDto ok = createDto();
+        CreateEmploymentDto unknownEmployee = createDto();
+        unknownEmployee.setEmployeeId(missingEmployee);
+        CreateEmploymentDto overlapping = createDto();
+        Employment stored = domainOf(ok).toBuilder().id(UUID.randomUUID()).build();
+
+        when(employeeVerifier.findMissingEmployees(any())).thenReturn(Mono.just(Set.of(missingEmployee)));
+        when(orgVerifier.findMissing(any(), any())).thenReturn(Mono.just(new OrgVerifierPort.Missing(Set.of(), Set.of())));
+        when(mapper.toDomain(any())).thenAnswer(inv -> domainOf(inv.getArgument(0)));
+        when(repo.insertAllSkippingOverlaps(anyList())).thenReturn(Flux.just(Optional.of(stored), Optional.empty()));
+        when(events.publishAll(any(), anyList())).thenReturn(Mono.empty());
+        when(mapper.toDto(stored)).thenReturn(EmploymentDto.builder().id(stored.getId()).build());
+
+        EmploymentBatchResultDto out = service.createBatch(List.of(ok, unknownEmployee, overlapping)).block();
+
+        assertEquals(1, out.getCreated());
+        assertEquals(2, out.getRejected());
+        assertEquals(List.of(EmploymentBatchResultDto.Status.CREATED,
+                        EmploymentBatchResultDto.Status.EMPLOYEE_NOT_FOUND,
+                        EmploymentBatchResultDto.Status.OVERLAP),
+                out.getItems().stream().map(EmploymentBatchResultDto.Item::getStatus).toList());
+        assertEquals(stored.getId(), out.getItems().get(0).getEmployment().getId());
+        verify(employeeVerifier).findMissingEmployees(
+                Set.of(ok.getEmployeeId(), missingEmployee, overlapping.getEmployeeId()));
+        verify(repo).insertAllSkippingOverlaps(argThat(list -> list.size() == 2));
+        verify(events).publishAll(EmploymentEventPort.CREATED, List.of(stored));
+        verify(employeeVerifier, never()).ensureEmployeeExists(any());
+    }
+
+    @Test
+    void departmentTimeline_reversedRange_rejectedWithoutQuery() {
+        LocalDate from = LocalDate.of(2024, 3, 1);
+
+        StepVerifier.create(service.departmentTimeline(UUID.randomUUID(), from, from.minusDays(1)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(repo, never()).findByDepartmentIdWithin(any(), any(), any());
+    }
+
+    @Test
+    void replayEvents_walksKeysetPages() {
+        List<Employment> first = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            first.add(Employment.builder().id(UUID.randomUUID()).build());
+        }
+        Employment last = Employment.builder().id(UUID.randomUUID()).build();
+        UUID boundary = first.get(499).getId();
+        when(repo.findPageAfter(null, 500)).thenReturn(Flux.fromIterable(first));
+        when(repo.findPageAfter(boundary, 500)).thenReturn(Flux.just(last));
+
+        when(events.publishAll(eq(EmploymentEventPort.SNAPSHOT), anyList())).thenReturn(Mono.empty());
+
+        assertEquals(501L, service.replayEvents().block());
+        verify(events).publishAll(EmploymentEventPort.SNAPSHOT, first);
+        verify(events).publishAll(EmploymentEventPort.SNAPSHOT, List.of(last));
+        verify(events, never()).publish(any(), any());
+        verify(repo, times(2)).findPageAfter(any(), anyInt());
+    }
+
+    @Test
+    void listByDepartment_mapsPageAndTotal() {
+        UUID dept = UUID.randomUUID();
+        Employment e = Employment.builder().id(UUID.randomUUID()).build();
+        when(repo.findPageByDepartmentId(dept, true, 0, 10, true))
+                .thenReturn(Mono.just(EmploymentPage.builder().content(List.of(e)).total(42L).build()));
+        when(mapper.toDto(e)).thenReturn(EmploymentDto.builder().id(e.getId()).build());
+
+        EmploymentPageDto page = service.listByDepartment(dept, true, 0, 10, true, Set.of()).block();
+
+        assertEquals(42L, page.getTotal());
+        assertEquals(e.getId(), page.getItems().get(0).getId());
     }
 
     @Test
-    void listByDepartment_delegates() {
+    void listByEmployee_expand_resolvesNamesWithOneLocalLookup() {
+        UUID employee = UUID.randomUUID();
         UUID dept = UUID.randomUUID();
-        Pageable pageable = PageRequest.of(0, 10);
-        when(repo.findByDepartmentIdAndStatus(eq(dept), eq(Employment.Status.ACTIVE), any()))
-                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
-        service.listByDepartment(dept, true, 0, 10).collectList().block();
-        verify(repo).findByDepartmentIdAndStatus(eq(dept), eq(Employment.Status.ACTIVE), any());
+        UUID pos = UUID.randomUUID();
+        Employment a = Employment.builder().id(UUID.randomUUID()).departmentId(dept).positionId(pos).build();
+        Employment b = Employment.builder().id(UUID.randomUUID()).departmentId(dept).positionId(pos).build();
+        when(repo.findPageByEmployeeId(employee, 0, 10, false))
+                .thenReturn(Mono.just(EmploymentPage.builder().content(List.of(a, b)).build()));
+        when(mapper.toDto(any(Employment.class))).thenAnswer(inv -> {
+            Employment e = inv.getArgument(0);
+            return EmploymentDto.builder().id(e.getId()).departmentId(e.getDepartmentId()).positionId(e.getPositionId()).build();
+        });
+        when(orgReferences.findNames(Set.of(dept, pos))).thenReturn(Mono.just(Map.of(dept, "Кафедра ВТ", pos, "Доцент")));
+
+        EmploymentPageDto page = service.listByEmployee(employee, 0, 10, false,
+                EnumSet.allOf(EmploymentUseCase.Expand.class)).block();
+
+        assertTrue(page.getItems().stream().allMatch(d -> "Кафедра ВТ".equals(d.getDepartmentName())));
+        assertTrue(page.getItems().stream().allMatch(d -> "Доцент".equals(d.getPositionName())));
+        verify(orgReferences, times(1)).findNames(any());
+    }
+
+    @Test
+    void listByEmployee_withoutExpand_doesNotTouchProjection() {
+        UUID employee = UUID.randomUUID();
+        when(repo.findPageByEmployeeId(employee, 0, 10, true))
+                .thenReturn(Mono.just(EmploymentPage.builder().content(List.of()).total(0L).build()));
+
+        service.listByEmployee(employee, 0, 10, true, Set.of()).block();
+
+        verifyNoInteractions(orgReferences);
     }
 }
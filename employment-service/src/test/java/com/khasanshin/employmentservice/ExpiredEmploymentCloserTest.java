@@ -0,0 +1,71 @@
+package com.khasanshin.employmentservice;
+
+import com.khasanshin.employmentservice.application.ExpiredEmploymentCloser;
+import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.port.EmploymentEventPort;
+import com.khasanshin.employmentservice.domain.port.EmploymentRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredEmploymentCloserTest {
+
+    @Mock EmploymentRepositoryPort repo;
+    @Mock EmploymentEventPort events;
+    @Mock TransactionalOperator tx;
+
+    @InjectMocks ExpiredEmploymentCloser closer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(closer, "batchSize", 3);
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void closesInBatchesUntilAShortOne_andPublishesEachBatch() {
+        List<Employment> full = employments(3);
+        List<Employment> tail = employments(1);
+        when(repo.tryLockExpiry()).thenReturn(Mono.just(true));
+        when(repo.closeExpired(3)).thenReturn(Flux.fromIterable(full), Flux.fromIterable(tail));
+        when(events.publishAll(eq(EmploymentEventPort.CLOSED), anyList())).thenReturn(Mono.empty());
+
+        assertEquals(4L, closer.closeExpired().block());
+
+        verify(events).publishAll(EmploymentEventPort.CLOSED, full);
+        verify(events).publishAll(EmploymentEventPort.CLOSED, tail);
+        verify(repo, times(2)).tryLockExpiry();
+    }
+
+    @Test
+    void anotherInstanceHoldsTheLock_doesNothing() {
+        when(repo.tryLockExpiry()).thenReturn(Mono.just(false));
+
+        assertEquals(0L, closer.closeExpired().block());
+
+        verify(repo, never()).closeExpired(anyInt());
+        verifyNoInteractions(events);
+    }
+
+    private static List<Employment> employments(int n) {
+        return IntStream.range(0, n)
+                .mapToObj(i -> Employment.builder().id(UUID.randomUUID()).status(Employment.Status.CLOSED).build())
+                .toList();
+    }
+}
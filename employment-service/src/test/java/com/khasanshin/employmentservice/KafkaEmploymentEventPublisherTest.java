@@ -0,0 +1,65 @@
+package com.khasanshin.employmentservice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.port.EmploymentEventPort;
+import com.khasanshin.employmentservice.dto.EmploymentDto;
+import com.khasanshin.employmentservice.event.KafkaEmploymentEventPublisher;
+import com.khasanshin.employmentservice.mapper.EmploymentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaEmploymentEventPublisherTest {
+
+    @Mock KafkaTemplate<String, String> kafka;
+    @Mock EmploymentMapper mapper;
+
+    KafkaEmploymentEventPublisher publisher;
+    final Employment employment = Employment.builder().id(UUID.randomUUID()).build();
+
+    @BeforeEach
+    void setUp() {
+        publisher = new KafkaEmploymentEventPublisher(kafka, new ObjectMapper().registerModule(new JavaTimeModule()), mapper);
+        ReflectionTestUtils.setField(publisher, "topic", "employment.events");
+        when(mapper.toDto(employment)).thenReturn(EmploymentDto.builder().id(employment.getId()).build());
+    }
+
+    @Test
+    void publish_completesOnAck_andSendsOffTheCallingThread() {
+        AtomicReference<Thread> sender = new AtomicReference<>();
+        when(kafka.send(eq("employment.events"), eq(employment.getId().toString()), anyString())).thenAnswer(inv -> {
+            sender.set(Thread.currentThread());
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+
+        StepVerifier.create(publisher.publish(EmploymentEventPort.UPDATED, employment)).verifyComplete();
+
+        assertNotEquals(Thread.currentThread(), sender.get());
+    }
+
+    @Test
+    void publish_failedSend_isLoggedNotPropagated() {
+        when(kafka.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        StepVerifier.create(publisher.publish(EmploymentEventPort.CLOSED, employment)).verifyComplete();
+        verify(kafka).send(eq("employment.events"), eq(employment.getId().toString()), anyString());
+    }
+}
@@ -0,0 +1,66 @@
+package com.khasanshin.employmentservice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.employmentservice.domain.port.OrgReferencePort;
+import com.khasanshin.employmentservice.event.OrgReferenceListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrgReferenceListenerTest {
+
+    @Mock OrgReferencePort references;
+
+    OrgReferenceListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new OrgReferenceListener(references, new ObjectMapper());
+    }
+
+    @Test
+    void departmentSnapshot_upsertsName() {
+        UUID id = UUID.randomUUID();
+        when(references.upsert(id, "DEPARTMENT", "Кафедра ВТ")).thenReturn(Mono.empty());
+
+        listener.onOrgEvent("""
+                {"eventType":"DEPARTMENT_UPDATED","entityType":"DEPARTMENT","entityId":"%s","deleted":false,
+                 "snapshot":{"id":"%s","name":"Кафедра ВТ"}}
+                """.formatted(id, id));
+
+        verify(references).upsert(id, "DEPARTMENT", "Кафедра ВТ");
+    }
+
+    @Test
+    void deletedPosition_removesProjection() {
+        UUID id = UUID.randomUUID();
+        when(references.delete(id)).thenReturn(Mono.empty());
+
+        listener.onOrgEvent("""
+                {"eventType":"POSITION_DELETED","entityType":"POSITION","entityId":"%s","deleted":true,"snapshot":null}
+                """.formatted(id));
+
+        verify(references).delete(id);
+    }
+
+    @Test
+    void facultyEvents_andGarbage_areIgnored() {
+        listener.onOrgEvent("""
+                {"eventType":"FACULTY_CREATED","entityType":"FACULTY","entityId":"%s","deleted":false,
+                 "snapshot":{"name":"ФПИиКТ"}}
+                """.formatted(UUID.randomUUID()));
+        listener.onOrgEvent("not json");
+
+        verify(references, never()).upsert(any(), any(), any());
+        verify(references, never()).delete(any());
+    }
+}
@@ -0,0 +1,61 @@
+package com.khasanshin.employmentservice;
+
+import com.khasanshin.employmentservice.domain.model.Employment;
+import com.khasanshin.employmentservice.domain.model.PayrollDelta;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayrollDeltaTest {
+
+    final UUID dept = UUID.randomUUID();
+    final UUID pos = UUID.randomUUID();
+    final LocalDate start = LocalDate.of(2025, 9, 1);
+
+    private Employment employment(String rate, Integer salary, LocalDate end) {
+        return Employment.builder()
+                .id(UUID.randomUUID()).departmentId(dept).positionId(pos)
+                .startDate(start).endDate(end).rate(new BigDecimal(rate)).salary(salary)
+                .build();
+    }
+
+    @Test
+    void openEndedHire_addsOnStartDateOnly() {
+        assertEquals(
+                List.of(new PayrollDelta(dept, pos, start, 1, new BigDecimal("0.50"), 40000)),
+                PayrollDelta.between(null, employment("0.50", 40000, null)));
+    }
+
+    @Test
+    void close_removesTheDayAfterEnd() {
+        Employment open = employment("1.00", 80000, null);
+        Employment closed = open.toBuilder().endDate(LocalDate.of(2025, 12, 31)).build();
+
+        assertEquals(
+                List.of(new PayrollDelta(dept, pos, LocalDate.of(2026, 1, 1), -1, new BigDecimal("-1.00"), -80000)),
+                PayrollDelta.between(open, closed));
+    }
+
+    @Test
+    void rateChange_mergesIntoOneDeltaPerDate() {
+        Employment before = employment("0.50", null, null);
+        Employment after = before.toBuilder().rate(new BigDecimal("0.75")).build();
+
+        List<PayrollDelta> deltas = PayrollDelta.between(before, after);
+
+        assertEquals(1, deltas.size());
+        assertEquals(0, deltas.get(0).headcount());
+        assertEquals(0, new BigDecimal("0.25").compareTo(deltas.get(0).fte()));
+    }
+
+    @Test
+    void unchanged_producesNothing() {
+        Employment e = employment("1.00", 50000, null);
+        assertTrue(PayrollDelta.between(e, e.toBuilder().build()).isEmpty());
+    }
+}
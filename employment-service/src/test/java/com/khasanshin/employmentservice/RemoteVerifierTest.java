@@ -0,0 +1,114 @@
+package com.khasanshin.employmentservice;
+
+import com.khasanshin.employmentservice.exception.RemoteServiceUnavailableException;
+import com.khasanshin.employmentservice.infrastructure.external.EmployeeVerifierAdapter;
+import com.khasanshin.employmentservice.infrastructure.external.OrgVerifierAdapter;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RemoteVerifierTest {
+
+    final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+
+    private static WebClient.Builder respondingWith(HttpStatus status, AtomicReference<URI> seen) {
+        return WebClient.builder().exchangeFunction(request -> {
+            seen.set(request.url());
+            assertEquals(HttpMethod.HEAD, request.method());
+            return Mono.just(ClientResponse.create(status).build());
+        });
+    }
+
+    @Test
+    void existingEmployee_completesEmpty() {
+        var seen = new AtomicReference<URI>();
+        UUID id = UUID.randomUUID();
+        var adapter = new EmployeeVerifierAdapter(respondingWith(HttpStatus.OK, seen),
+                CircuitBreakerRegistry.ofDefaults(), meters, "http://employee-service", Duration.ofSeconds(1));
+
+        StepVerifier.create(adapter.ensureEmployeeExists(id)).verifyComplete();
+        assertEquals("/api/v1/employees/" + id, seen.get().getPath());
+        assertEquals(1, meters.get("employment.remote.verify")
+                .tags("dependency", "employee", "outcome", "found").timer().count());
+    }
+
+    @Test
+    void missingPosition_404() {
+        var adapter = new OrgVerifierAdapter(respondingWith(HttpStatus.NOT_FOUND, new AtomicReference<>()),
+                CircuitBreakerRegistry.ofDefaults(), meters, "http://organization-service", Duration.ofSeconds(1));
+
+        StepVerifier.create(adapter.ensurePositionExists(UUID.randomUUID()))
+                .expectErrorSatisfies(ex -> assertEquals(HttpStatus.NOT_FOUND, ((ResponseStatusException) ex).getStatusCode()))
+                .verify();
+        assertEquals(1, meters.get("employment.remote.verify")
+                .tags("dependency", "position", "outcome", "not_found").timer().count());
+    }
+
+    @Test
+    void cancelledProbe_isRecordedAsCancelled() {
+        var hanging = WebClient.builder().exchangeFunction(request -> Mono.never());
+        var adapter = new EmployeeVerifierAdapter(hanging,
+                CircuitBreakerRegistry.ofDefaults(), meters, "http://employee-service", Duration.ofSeconds(5));
+
+        StepVerifier.create(adapter.ensureEmployeeExists(UUID.randomUUID()))
+                .thenCancel()
+                .verify();
+        assertEquals(1, meters.get("employment.remote.verify")
+                .tags("dependency", "employee", "outcome", "cancelled").timer().count());
+    }
+
+    @Test
+    void connectFailure_and5xx_becomeUnavailable() {
+        var refused = WebClient.builder().exchangeFunction(request -> Mono.error(new WebClientRequestException(
+                new ConnectException("refused"), request.method(), request.url(), request.headers())));
+        var adapter = new OrgVerifierAdapter(refused,
+                CircuitBreakerRegistry.ofDefaults(), meters, "http://organization-service", Duration.ofSeconds(1));
+        StepVerifier.create(adapter.ensureDepartmentExists(UUID.randomUUID()))
+                .expectError(RemoteServiceUnavailableException.class)
+                .verify();
+
+        var failing = new EmployeeVerifierAdapter(respondingWith(HttpStatus.BAD_GATEWAY, new AtomicReference<>()),
+                CircuitBreakerRegistry.ofDefaults(), meters, "http://employee-service", Duration.ofSeconds(1));
+        StepVerifier.create(failing.ensureEmployeeExists(UUID.randomUUID()))
+                .expectError(RemoteServiceUnavailableException.class)
+                .verify();
+    }
+
+    @Test
+    void bulkEmployeeLookup_isOnePost_andReturnsMissing() {
+        UUID missing = UUID.randomUUID();
+        var calls = new java.util.concurrent.atomic.AtomicInteger();
+        var client = WebClient.builder().exchangeFunction(request -> {
+            calls.incrementAndGet();
+            assertEquals(HttpMethod.POST, request.method());
+            assertEquals("/api/v1/employees/exists", request.url().getPath());
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header("Content-Type", "application/json")
+                    .body("{\"missing_ids\":[\"" + missing + "\"],\"all_exist\":false}")
+                    .build());
+        });
+        var adapter = new EmployeeVerifierAdapter(client,
+                CircuitBreakerRegistry.ofDefaults(), meters, "http://employee-service", Duration.ofSeconds(1));
+
+        StepVerifier.create(adapter.findMissingEmployees(java.util.List.of(UUID.randomUUID(), missing)))
+                .expectNext(java.util.Set.of(missing))
+                .verifyComplete();
+        assertEquals(1, calls.get());
+    }
+}
@@ -11,5 +11,7 @@ kafka-topics --bootstrap-server kafka1:9092 --create --if-not-exists --topic lea
 kafka-topics --bootstrap-server kafka1:9092 --create --if-not-exists --topic employee.events --partitions 3 --replication-factor 3
 kafka-topics --bootstrap-server kafka1:9092 --create --if-not-exists --topic duty.events --partitions 3 --replication-factor 3
 kafka-topics --bootstrap-server kafka1:9092 --create --if-not-exists --topic notification.dlq --partitions 3 --replication-factor 3
+kafka-topics --bootstrap-server kafka1:9092 --create --if-not-exists --topic org.events --partitions 3 --replication-factor 3 --config cleanup.policy=compact
+kafka-topics --bootstrap-server kafka1:9092 --create --if-not-exists --topic employment.events --partitions 3 --replication-factor 3
 
 echo "Topics created"
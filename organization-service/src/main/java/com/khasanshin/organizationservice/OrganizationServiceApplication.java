@@ -3,9 +3,11 @@ package com.khasanshin.organizationservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableFeignClients(basePackages = "com.khasanshin.organizationservice.feign")
 @SpringBootApplication
+@EnableScheduling
 public class OrganizationServiceApplication {
 
     public static void main(String[] args) {
@@ -4,16 +4,21 @@ import com.khasanshin.organizationservice.domain.model.Department;
 import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
 import com.khasanshin.organizationservice.domain.port.EmployeeVerifierPort;
 import com.khasanshin.organizationservice.domain.port.FacultyRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.OrgIdIndexPort;
 import com.khasanshin.organizationservice.dto.CreateDepartmentDto;
 import com.khasanshin.organizationservice.dto.DepartmentDto;
 import com.khasanshin.organizationservice.dto.UpdateDepartmentDto;
 import com.khasanshin.organizationservice.mapper.DepartmentMapper;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,6 +34,8 @@ public class DepartmentApplicationService implements DepartmentUseCase {
     private final DepartmentMapper mapper;
     private final FacultyRepositoryPort facultyRepository;
     private final EmployeeVerifierPort employeeVerifier;
+    private final ApplicationEventPublisher events;
+    private final OrgIdIndexPort idIndex;
 
     private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.ASC, "name");
     private static final Set<String> ALLOWED_SORT = Set.of("id", "name", "code", "createdAt", "updatedAt");
@@ -63,8 +70,13 @@ public class DepartmentApplicationService implements DepartmentUseCase {
             employeeVerifier.ensureEmployeeExists(dto.getHeadEmployeeId());
         }
 
-        Department e = mapper.toDomain(dto);
-        return mapper.toDto(departmentRepository.save(e));
+        if (dto.getParentId() != null) {
+            requireSameFaculty(loadParent(dto.getParentId()), dto.getFacultyId());
+        }
+
+        Department saved = departmentRepository.save(mapper.toDomain(dto));
+        departmentRepository.linkToParent(saved.getId(), saved.getParentId());
+        return changed(OrgStructureChangedEvent.Change.CREATED, saved);
     }
 
     @Override
@@ -79,12 +91,15 @@ public class DepartmentApplicationService implements DepartmentUseCase {
         if (dto.getFacultyId() != null && !facultyRepository.existsById(dto.getFacultyId())) {
             throw new EntityNotFoundException("faculty " + dto.getFacultyId());
         }
+        if (!Objects.equals(updated.getFacultyId(), e.getFacultyId())
+                && (e.getParentId() != null || departmentRepository.hasChildren(id))) {
+            throw new IllegalArgumentException("nested department cannot change faculty: " + id);
+        }
         if (dto.getHeadEmployeeId() != null) {
             employeeVerifier.ensureEmployeeExists(dto.getHeadEmployeeId());
         }
 
-        Department saved = departmentRepository.save(updated);
-        return mapper.toDto(saved);
+        return changed(OrgStructureChangedEvent.Change.UPDATED, departmentRepository.save(updated));
     }
 
     @Override
@@ -94,9 +109,15 @@ public class DepartmentApplicationService implements DepartmentUseCase {
                 .findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("department not found: " + id));
 
+        if (departmentRepository.hasChildren(id)) {
+            throw new DataIntegrityViolationException("department has sub-departments: " + id);
+        }
+
         Department cleared = dep.toBuilder().headEmployeeId(null).build();
 
         departmentRepository.delete(cleared);
+        events.publishEvent(new OrgStructureChangedEvent(
+                OrgStructureChangedEvent.Kind.DEPARTMENT, OrgStructureChangedEvent.Change.DELETED, id, null));
     }
 
     @Override
@@ -108,7 +129,52 @@ public class DepartmentApplicationService implements DepartmentUseCase {
 
         employeeVerifier.ensureEmployeeExists(employeeId);
         Department updated = dep.toBuilder().headEmployeeId(employeeId).build();
-        return mapper.toDto(departmentRepository.save(updated));
+        return changed(OrgStructureChangedEvent.Change.HEAD_CHANGED, departmentRepository.save(updated));
+    }
+
+    @Override
+    @Transactional
+    public DepartmentDto move(UUID id, UUID parentId) {
+        Department dep = departmentRepository
+                .findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("department not found: " + id));
+        if (parentId != null) {
+            if (departmentRepository.isInSubtree(id, parentId)) {
+                throw new IllegalArgumentException("department " + parentId + " is nested in " + id);
+            }
+            requireSameFaculty(loadParent(parentId), dep.getFacultyId());
+        }
+        if (Objects.equals(dep.getParentId(), parentId)) {
+            return mapper.toDto(dep);
+        }
+
+        Department moved = departmentRepository.save(dep.toBuilder().parentId(parentId).build());
+        departmentRepository.moveSubtree(id, parentId);
+        return changed(OrgStructureChangedEvent.Change.UPDATED, moved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentDto> subtree(UUID id, Integer maxDepth) {
+        List<Department> nodes = departmentRepository.findSubtree(id, 0, depthLimit(maxDepth));
+        if (nodes.isEmpty()) {
+            throw new EntityNotFoundException("department not found: " + id);
+        }
+        return nodes.stream().map(mapper::toDto).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentDto> children(UUID id, int depth) {
+        requireExists(id);
+        return departmentRepository.findSubtree(id, 1, depthLimit(depth)).stream().map(mapper::toDto).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentDto> ancestors(UUID id) {
+        requireExists(id);
+        return departmentRepository.findAncestors(id).stream().map(mapper::toDto).toList();
     }
 
     @Override
@@ -127,17 +193,68 @@ public class DepartmentApplicationService implements DepartmentUseCase {
                 .findById(deptId)
                 .orElseThrow(() -> new EntityNotFoundException("department not found: " + deptId));
         Department cleared = dep.toBuilder().headEmployeeId(null).build();
-        departmentRepository.save(cleared);
+        changed(OrgStructureChangedEvent.Change.HEAD_CHANGED, departmentRepository.save(cleared));
     }
 
     @Override
     public boolean exists(UUID id) {
-        return departmentRepository.existsById(id);
+        return idIndex.departmentExists(id);
     }
 
     @Override
     @Transactional
     public int clearHeadByEmployee(UUID employeeId) {
-        return departmentRepository.clearHeadByEmployeeId(employeeId);
+        return clearHeadByEmployees(List.of(employeeId));
+    }
+
+    @Override
+    @Transactional
+    public int clearHeadByEmployees(Collection<UUID> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return 0;
+        }
+        List<Department> headed = departmentRepository.findByHeadEmployeeIds(employeeIds);
+        if (headed.isEmpty()) {
+            return 0;
+        }
+        int affected = departmentRepository.clearHeadByEmployeeIds(employeeIds);
+        headed.forEach(d -> changed(
+                OrgStructureChangedEvent.Change.HEAD_CHANGED, d.toBuilder().headEmployeeId(null).build()));
+        return affected;
+    }
+
+    private Department loadParent(UUID parentId) {
+        return departmentRepository
+                .findById(parentId)
+                .orElseThrow(() -> new EntityNotFoundException("parent department not found: " + parentId));
+    }
+
+    private static void requireSameFaculty(Department parent, UUID facultyId) {
+        if (!parent.getFacultyId().equals(facultyId)) {
+            throw new IllegalArgumentException("parent department " + parent.getId() + " belongs to another faculty");
+        }
+    }
+
+    private void requireExists(UUID id) {
+        if (!departmentRepository.existsById(id)) {
+            throw new EntityNotFoundException("department not found: " + id);
+        }
+    }
+
+    private static int depthLimit(Integer depth) {
+        if (depth == null) {
+            return Integer.MAX_VALUE;
+        }
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth must be positive");
+        }
+        return depth;
+    }
+
+    private DepartmentDto changed(OrgStructureChangedEvent.Change change, Department department) {
+        DepartmentDto dto = mapper.toDto(department);
+        events.publishEvent(new OrgStructureChangedEvent(
+                OrgStructureChangedEvent.Kind.DEPARTMENT, change, department.getId(), dto));
+        return dto;
     }
 }
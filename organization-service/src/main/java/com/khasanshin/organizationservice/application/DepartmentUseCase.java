@@ -3,6 +3,8 @@ package com.khasanshin.organizationservice.application;
 import com.khasanshin.organizationservice.dto.CreateDepartmentDto;
 import com.khasanshin.organizationservice.dto.DepartmentDto;
 import com.khasanshin.organizationservice.dto.UpdateDepartmentDto;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +21,14 @@ public interface DepartmentUseCase {
 
     DepartmentDto setHead(UUID deptId, UUID employeeId);
 
+    DepartmentDto move(UUID id, UUID parentId);
+
+    List<DepartmentDto> subtree(UUID id, Integer maxDepth);
+
+    List<DepartmentDto> children(UUID id, int depth);
+
+    List<DepartmentDto> ancestors(UUID id);
+
     Page<DepartmentDto> findAll(Pageable pageable);
 
     void removeHead(UUID deptId);
@@ -26,4 +36,6 @@ public interface DepartmentUseCase {
     boolean exists(UUID id);
 
     int clearHeadByEmployee(UUID employeeId);
+
+    int clearHeadByEmployees(Collection<UUID> employeeIds);
 }
@@ -9,6 +9,7 @@ import com.khasanshin.organizationservice.mapper.FacultyMapper;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,7 @@ public class FacultyApplicationService implements FacultyUseCase {
 
   private final FacultyRepositoryPort repo;
   private final FacultyMapper mapper;
+  private final ApplicationEventPublisher events;
 
   @Override
   public Page<FacultyDto> page(Pageable pageable) {
@@ -44,7 +46,7 @@ public class FacultyApplicationService implements FacultyUseCase {
   @Transactional
   public FacultyDto create(CreateFacultyDto dto) {
     Faculty faculty = mapper.toDomain(dto);
-    return mapper.toDto(repo.save(faculty));
+    return changed(OrgStructureChangedEvent.Change.CREATED, repo.save(faculty));
   }
 
   @Override
@@ -55,7 +57,7 @@ public class FacultyApplicationService implements FacultyUseCase {
             .orElseThrow(() -> new EntityNotFoundException("faculty not found: " + id));
 
     Faculty updated = mapper.updateDomain(dto, e);
-    return mapper.toDto(repo.save(updated));
+    return changed(OrgStructureChangedEvent.Change.UPDATED, repo.save(updated));
   }
 
   @Override
@@ -65,5 +67,14 @@ public class FacultyApplicationService implements FacultyUseCase {
       throw new EntityNotFoundException("faculty not found: " + id);
     }
     repo.deleteById(id);
+    events.publishEvent(new OrgStructureChangedEvent(
+        OrgStructureChangedEvent.Kind.FACULTY, OrgStructureChangedEvent.Change.DELETED, id, null));
+  }
+
+  private FacultyDto changed(OrgStructureChangedEvent.Change change, Faculty faculty) {
+    FacultyDto dto = mapper.toDto(faculty);
+    events.publishEvent(new OrgStructureChangedEvent(
+        OrgStructureChangedEvent.Kind.FACULTY, change, faculty.getId(), dto));
+    return dto;
   }
 }
@@ -0,0 +1,13 @@
+package com.khasanshin.organizationservice.application;
+
+import java.util.List;
+
+/** In-memory copy of org data that has to follow changes committed by other instances. */
+public interface OrgChangeSubscriber {
+
+    /** One poll of org.events; local writes arrive here too, after their own transaction events. */
+    void onRemoteChanges(List<OrgStructureChangedEvent> changes);
+
+    /** Changes may have been missed or could not be read; everything derived from the database is suspect. */
+    void onResync();
+}
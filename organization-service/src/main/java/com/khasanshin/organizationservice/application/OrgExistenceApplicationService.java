@@ -0,0 +1,30 @@
+package com.khasanshin.organizationservice.application;
+
+import com.khasanshin.organizationservice.domain.port.OrgIdIndexPort;
+import com.khasanshin.organizationservice.dto.OrgExistsRequestDto;
+import com.khasanshin.organizationservice.dto.OrgExistsResponseDto;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class OrgExistenceApplicationService implements OrgExistenceUseCase {
+
+    private final OrgIdIndexPort idIndex;
+
+    @Override
+    public OrgExistsResponseDto exists(OrgExistsRequestDto request) {
+        return OrgExistsResponseDto.builder()
+                .missingDepartmentIds(missing(request.getDepartmentIds(), idIndex::missingDepartments))
+                .missingPositionIds(missing(request.getPositionIds(), idIndex::missingPositions))
+                .build();
+    }
+
+    private static Set<UUID> missing(List<UUID> ids, Function<List<UUID>, Set<UUID>> lookup) {
+        return ids == null || ids.isEmpty() ? Set.of() : lookup.apply(ids);
+    }
+}
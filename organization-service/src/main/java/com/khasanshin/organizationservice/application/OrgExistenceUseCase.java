@@ -0,0 +1,9 @@
+package com.khasanshin.organizationservice.application;
+
+import com.khasanshin.organizationservice.dto.OrgExistsRequestDto;
+import com.khasanshin.organizationservice.dto.OrgExistsResponseDto;
+
+public interface OrgExistenceUseCase {
+
+    OrgExistsResponseDto exists(OrgExistsRequestDto request);
+}
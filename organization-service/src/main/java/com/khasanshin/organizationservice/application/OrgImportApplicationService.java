@@ -0,0 +1,136 @@
+package com.khasanshin.organizationservice.application;
+
+import com.khasanshin.organizationservice.domain.model.Department;
+import com.khasanshin.organizationservice.domain.model.Faculty;
+import com.khasanshin.organizationservice.domain.port.EmployeeVerifierPort;
+import com.khasanshin.organizationservice.domain.port.OrgImportPort;
+import com.khasanshin.organizationservice.dto.DepartmentImportDto;
+import com.khasanshin.organizationservice.dto.FacultyImportDto;
+import com.khasanshin.organizationservice.dto.OrgImportDto;
+import com.khasanshin.organizationservice.dto.OrgImportResultDto;
+import com.khasanshin.organizationservice.mapper.DepartmentMapper;
+import com.khasanshin.organizationservice.mapper.FacultyMapper;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Service
+@RequiredArgsConstructor
+public class OrgImportApplicationService implements OrgImportUseCase {
+
+    private static final int MAX_DEPARTMENTS = 5000;
+
+    private final OrgImportPort importPort;
+    private final EmployeeVerifierPort employeeVerifier;
+    private final FacultyMapper facultyMapper;
+    private final DepartmentMapper departmentMapper;
+    private final ApplicationEventPublisher events;
+    private final TransactionOperations transactions;
+
+    // the code lookups and the employee-service call run before any transaction is opened, so no
+    // connection is held across the HTTP round trip; the unique constraints still guard the insert
+    @Override
+    public OrgImportResultDto importStructure(OrgImportDto document) {
+        Plan plan = plan(document);
+
+        Set<String> takenFaculties = importPort.findExistingFacultyCodes(plan.facultyIds().keySet());
+        Set<String> takenDepartments = importPort.findExistingDepartmentCodes(plan.departmentIds().keySet());
+        if (!takenFaculties.isEmpty() || !takenDepartments.isEmpty()) {
+            throw new DataIntegrityViolationException("codes already exist: faculties "
+                    + new TreeSet<>(takenFaculties) + ", departments " + new TreeSet<>(takenDepartments));
+        }
+        if (!plan.heads().isEmpty()) {
+            employeeVerifier.ensureEmployeesExist(plan.heads());
+        }
+
+        transactions.executeWithoutResult(tx -> insert(plan));
+
+        return OrgImportResultDto.builder()
+                .facultyIds(plan.facultyIds())
+                .departmentIds(plan.departmentIds())
+                .build();
+    }
+
+    private void insert(Plan plan) {
+        importPort.insert(plan.faculties(), plan.departments());
+
+        List<OrgStructureChangedEvent> changes = new ArrayList<>();
+        plan.faculties().forEach(f -> changes.add(new OrgStructureChangedEvent(
+                OrgStructureChangedEvent.Kind.FACULTY, OrgStructureChangedEvent.Change.CREATED,
+                f.getId(), facultyMapper.toDto(f))));
+        plan.departments().forEach(d -> changes.add(new OrgStructureChangedEvent(
+                OrgStructureChangedEvent.Kind.DEPARTMENT, OrgStructureChangedEvent.Change.CREATED,
+                d.getId(), departmentMapper.toDto(d))));
+        events.publishEvent(new OrgStructureImportedEvent(List.copyOf(changes)));
+    }
+
+    private record Plan(
+            List<Faculty> faculties,
+            List<Department> departments,
+            Map<String, UUID> facultyIds,
+            Map<String, UUID> departmentIds,
+            Set<UUID> heads) {}
+
+    // flattens the document parent-first and checks it on its own, before touching the database
+    private static Plan plan(OrgImportDto document) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Plan plan = new Plan(new ArrayList<>(), new ArrayList<>(), new LinkedHashMap<>(), new LinkedHashMap<>(),
+                new LinkedHashSet<>());
+        Set<String> duplicates = new TreeSet<>();
+
+        for (FacultyImportDto f : document.getFaculties()) {
+            Faculty faculty = Faculty.builder().id(UUID.randomUUID()).code(f.getCode()).name(f.getName()).build();
+            if (plan.facultyIds().putIfAbsent(f.getCode(), faculty.getId()) != null) {
+                duplicates.add("faculty " + f.getCode());
+            }
+            plan.faculties().add(faculty);
+            addDepartments(plan, duplicates, f.getDepartments(), faculty.getId(), null, now);
+        }
+        if (!duplicates.isEmpty()) {
+            throw new IllegalArgumentException("duplicate codes in import: " + duplicates);
+        }
+        if (plan.departments().size() > MAX_DEPARTMENTS) {
+            throw new IllegalArgumentException("too many departments in one import: " + plan.departments().size());
+        }
+        return plan;
+    }
+
+    private static void addDepartments(Plan plan, Set<String> duplicates, List<DepartmentImportDto> nodes,
+                                       UUID facultyId, UUID parentId, Instant now) {
+        if (nodes == null) {
+            return;
+        }
+        for (DepartmentImportDto node : nodes) {
+            Department d = Department.builder()
+                    .id(UUID.randomUUID())
+                    .code(node.getCode())
+                    .name(node.getName())
+                    .facultyId(facultyId)
+                    .parentId(parentId)
+                    .headEmployeeId(node.getHeadEmployeeId())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            if (plan.departmentIds().putIfAbsent(d.getCode(), d.getId()) != null) {
+                duplicates.add("department " + d.getCode());
+            }
+            if (d.getHeadEmployeeId() != null) {
+                plan.heads().add(d.getHeadEmployeeId());
+            }
+            plan.departments().add(d);
+            addDepartments(plan, duplicates, node.getChildren(), facultyId, d.getId(), now);
+        }
+    }
+}
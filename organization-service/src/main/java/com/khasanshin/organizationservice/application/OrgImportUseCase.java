@@ -0,0 +1,9 @@
+package com.khasanshin.organizationservice.application;
+
+import com.khasanshin.organizationservice.dto.OrgImportDto;
+import com.khasanshin.organizationservice.dto.OrgImportResultDto;
+
+public interface OrgImportUseCase {
+
+    OrgImportResultDto importStructure(OrgImportDto document);
+}
@@ -0,0 +1,23 @@
+package com.khasanshin.organizationservice.application;
+
+import java.util.UUID;
+
+public record OrgStructureChangedEvent(Kind kind, Change change, UUID entityId, Object snapshot) {
+
+    public enum Kind {
+        FACULTY,
+        DEPARTMENT,
+        POSITION
+    }
+
+    public enum Change {
+        CREATED,
+        UPDATED,
+        DELETED,
+        HEAD_CHANGED
+    }
+
+    public String eventType() {
+        return kind + "_" + change;
+    }
+}
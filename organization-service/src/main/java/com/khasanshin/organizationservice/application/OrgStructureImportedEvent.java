@@ -0,0 +1,8 @@
+package com.khasanshin.organizationservice.application;
+
+import java.util.List;
+
+/**
+ * One event for a whole import, so that caches and snapshots are rebuilt once instead of once per created row.
+ */
+public record OrgStructureImportedEvent(List<OrgStructureChangedEvent> changes) {}
@@ -0,0 +1,138 @@
+package com.khasanshin.organizationservice.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.domain.model.Department;
+import com.khasanshin.organizationservice.domain.model.Faculty;
+import com.khasanshin.organizationservice.domain.model.Position;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.FacultyRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
+import com.khasanshin.organizationservice.dto.DepartmentNodeDto;
+import com.khasanshin.organizationservice.dto.FacultyNodeDto;
+import com.khasanshin.organizationservice.dto.OrgTreeDto;
+import com.khasanshin.organizationservice.dto.PositionDto;
+import com.khasanshin.organizationservice.mapper.PositionMapper;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrgTreeApplicationService implements OrgTreeUseCase, OrgChangeSubscriber {
+
+    private static final Comparator<String> NULLS_LAST = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final FacultyRepositoryPort facultyRepository;
+    private final DepartmentRepositoryPort departmentRepository;
+    private final PositionRepositoryPort positionRepository;
+    private final PositionMapper positionMapper;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Override
+    public Snapshot tree() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    @Override
+    public void onRemoteChanges(List<OrgStructureChangedEvent> changes) {
+        invalidate("org events");
+    }
+
+    @Override
+    public void onResync() {
+        invalidate("resync");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureChanged(OrgStructureChangedEvent event) {
+        invalidate(event.kind() + " change");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureImported(OrgStructureImportedEvent event) {
+        invalidate("import");
+    }
+
+    private void invalidate(String cause) {
+        generation.incrementAndGet();
+        current.set(null);
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Org tree rebuild after {} failed, next read will retry: {}", cause, ex.getMessage());
+        }
+    }
+
+    private synchronized Snapshot rebuild() {
+        Snapshot existing = current.get();
+        if (existing != null) {
+            return existing;
+        }
+        long startedAt = generation.get();
+
+        Map<UUID, List<DepartmentNodeDto>> departmentsByFaculty = departmentRepository.findAll().stream()
+                .sorted(Comparator.comparing(Department::getCode, NULLS_LAST)
+                        .thenComparing(Department::getName, NULLS_LAST))
+                .collect(Collectors.groupingBy(
+                        Department::getFacultyId,
+                        Collectors.mapping(this::toNode, Collectors.toUnmodifiableList())));
+
+        List<FacultyNodeDto> faculties = facultyRepository.findAll().stream()
+                .sorted(Comparator.comparing(Faculty::getCode, NULLS_LAST)
+                        .thenComparing(Faculty::getName, NULLS_LAST))
+                .map(f -> FacultyNodeDto.builder()
+                        .id(f.getId())
+                        .code(f.getCode())
+                        .name(f.getName())
+                        .departments(departmentsByFaculty.getOrDefault(f.getId(), List.of()))
+                        .build())
+                .toList();
+
+        List<PositionDto> positions = positionRepository.findAll().stream()
+                .sorted(Comparator.comparing(Position::getName, NULLS_LAST))
+                .map(positionMapper::toDto)
+                .toList();
+
+        OrgTreeDto tree = OrgTreeDto.builder().faculties(faculties).positions(positions).build();
+        Snapshot snapshot = new Snapshot(tree, etagOf(tree));
+
+        // a write committed while we were reading: do not publish what may already be stale
+        if (generation.get() == startedAt) {
+            current.set(snapshot);
+        }
+        return snapshot;
+    }
+
+    private DepartmentNodeDto toNode(Department d) {
+        return DepartmentNodeDto.builder()
+                .id(d.getId())
+                .code(d.getCode())
+                .name(d.getName())
+                .parentId(d.getParentId())
+                .headEmployeeId(d.getHeadEmployeeId())
+                .build();
+    }
+
+    private String etagOf(OrgTreeDto tree) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(tree)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize org tree", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.khasanshin.organizationservice.application;
+
+import com.khasanshin.organizationservice.dto.OrgTreeDto;
+
+public interface OrgTreeUseCase {
+
+    Snapshot tree();
+
+    record Snapshot(OrgTreeDto tree, String etag) {}
+}
@@ -1,7 +1,9 @@
 package com.khasanshin.organizationservice.application;
 
 import com.khasanshin.organizationservice.domain.model.Position;
+import com.khasanshin.organizationservice.domain.port.OrgIdIndexPort;
 import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.PositionSuggestPort;
 import com.khasanshin.organizationservice.dto.CreatePositionDto;
 import com.khasanshin.organizationservice.dto.PositionDto;
 import com.khasanshin.organizationservice.dto.UpdatePositionDto;
@@ -12,6 +14,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -26,9 +29,13 @@ public class PositionApplicationService implements PositionUseCase {
 
     private final PositionRepositoryPort positionRepository;
     private final PositionMapper positionMapper;
+    private final ApplicationEventPublisher events;
+    private final OrgIdIndexPort idIndex;
+    private final PositionSuggestPort suggestIndex;
 
     private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.ASC, "name");
     private static final Set<String> ALLOWED_SORT = Set.of("id", "name", "createdAt", "updatedAt");
+    private static final int MAX_SUGGEST = 50;
 
     @Override
     @Transactional(readOnly = true)
@@ -43,6 +50,12 @@ public class PositionApplicationService implements PositionUseCase {
         return page.map(positionMapper::toDto);
     }
 
+    @Override
+    public List<PositionDto> suggest(String q, int limit) {
+        int capped = Math.min(Math.max(limit, 1), MAX_SUGGEST);
+        return suggestIndex.suggest(q, capped).stream().map(positionMapper::toDto).toList();
+    }
+
     private Sort sanitizeSort(Sort incoming) {
         List<Sort.Order> safe = new ArrayList<>();
         for (Sort.Order o : incoming) {
@@ -73,7 +86,7 @@ public class PositionApplicationService implements PositionUseCase {
         } catch (DataIntegrityViolationException ex) {
             throw new IllegalStateException("position name already exists", ex);
         }
-        return positionMapper.toDto(e);
+        return changed(OrgStructureChangedEvent.Change.CREATED, e);
     }
 
     @Override
@@ -89,7 +102,7 @@ public class PositionApplicationService implements PositionUseCase {
         } catch (DataIntegrityViolationException ex) {
             throw new IllegalStateException("position name already exists", ex);
         }
-        return positionMapper.toDto(updated);
+        return changed(OrgStructureChangedEvent.Change.UPDATED, updated);
     }
 
     @Override
@@ -98,10 +111,19 @@ public class PositionApplicationService implements PositionUseCase {
         if (!positionRepository.existsById(id))
             throw new EntityNotFoundException("position not found: " + id);
         positionRepository.deleteById(id);
+        events.publishEvent(new OrgStructureChangedEvent(
+                OrgStructureChangedEvent.Kind.POSITION, OrgStructureChangedEvent.Change.DELETED, id, null));
     }
 
     @Override
     public boolean exists(UUID id) {
-        return positionRepository.existsById(id);
+        return idIndex.positionExists(id);
+    }
+
+    private PositionDto changed(OrgStructureChangedEvent.Change change, Position position) {
+        PositionDto dto = positionMapper.toDto(position);
+        events.publishEvent(new OrgStructureChangedEvent(
+                OrgStructureChangedEvent.Kind.POSITION, change, position.getId(), dto));
+        return dto;
     }
 }
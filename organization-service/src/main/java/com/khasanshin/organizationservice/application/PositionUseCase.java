@@ -3,6 +3,7 @@ package com.khasanshin.organizationservice.application;
 import com.khasanshin.organizationservice.dto.CreatePositionDto;
 import com.khasanshin.organizationservice.dto.PositionDto;
 import com.khasanshin.organizationservice.dto.UpdatePositionDto;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +12,8 @@ public interface PositionUseCase {
 
     Page<PositionDto> findAll(String q, Pageable pageable);
 
+    List<PositionDto> suggest(String q, int limit);
+
     PositionDto get(UUID id);
 
     PositionDto create(CreatePositionDto dto);
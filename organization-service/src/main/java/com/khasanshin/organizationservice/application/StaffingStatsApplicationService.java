@@ -0,0 +1,150 @@
+package com.khasanshin.organizationservice.application;
+
+import com.khasanshin.organizationservice.domain.model.StaffingAssignment;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.StaffingStatsPort;
+import com.khasanshin.organizationservice.dto.StaffingStatsDto;
+import com.khasanshin.organizationservice.dto.StaffingTotalsDto;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class StaffingStatsApplicationService implements StaffingStatsUseCase {
+
+    private final StaffingStatsPort stats;
+    private final DepartmentRepositoryPort departmentRepository;
+    private final PositionRepositoryPort positionRepository;
+
+    @Override
+    @Transactional
+    public void applyEmployment(UUID employmentId, StaffingAssignment next) {
+        if (next == null) {
+            stats.lockAssignment(employmentId).ifPresent(c -> {
+                stats.deleteAssignment(employmentId);
+                adjust(counted(List.of(c)), -1);
+            });
+            return;
+        }
+
+        // the employee row is locked before the assignment, in the same order as the status flips take them,
+        // so a concurrent fire either is seen here or sees the row we save
+        boolean employeeActive = stats.lockEmployeeActive(next.getEmployeeId());
+        Optional<StaffingAssignment> current = stats.lockAssignment(employmentId);
+        StaffingAssignment target = next.toBuilder().employeeActive(employeeActive).build();
+        if (current.isPresent() && sameCounters(current.get(), target)) {
+            return;
+        }
+        stats.saveAssignment(target);
+        adjust(counted(current.map(List::of).orElse(List.of())), -1);
+        adjust(counted(List.of(target)), 1);
+    }
+
+    @Override
+    @Transactional
+    public void employeesDeactivated(Collection<UUID> employeeIds) {
+        stats.saveEmployeesActive(employeeIds, false);
+        // the returned rows were counted until this update
+        adjust(stats.setEmployeesActive(employeeIds, false), -1);
+    }
+
+    @Override
+    @Transactional
+    public void employeesActivated(Collection<UUID> employeeIds) {
+        stats.saveEmployeesActive(employeeIds, true);
+        adjust(stats.setEmployeesActive(employeeIds, true), 1);
+    }
+
+    @Override
+    @Transactional
+    public void employeesDeleted(Collection<UUID> employeeIds) {
+        // a late employment event of a deleted employee must not be counted
+        stats.saveEmployeesActive(employeeIds, false);
+        adjust(counted(stats.deleteByEmployees(employeeIds)), -1);
+    }
+
+    @Override
+    @Transactional
+    public void plan(UUID departmentId, UUID positionId, BigDecimal plannedFte) {
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new EntityNotFoundException("department not found: " + departmentId);
+        }
+        if (!positionRepository.existsById(positionId)) {
+            throw new EntityNotFoundException("position not found: " + positionId);
+        }
+        stats.setPlanned(departmentId, positionId, plannedFte);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StaffingStatsDto stats(UUID facultyId) {
+        List<StaffingTotalsDto> departments = new ArrayList<>();
+        Map<UUID, StaffingTotalsDto> faculties = new LinkedHashMap<>();
+        for (StaffingStatsPort.DepartmentTotals t : stats.findDepartmentTotals(facultyId)) {
+            departments.add(StaffingTotalsDto.builder()
+                    .departmentId(t.departmentId())
+                    .facultyId(t.facultyId())
+                    .headcount(t.headcount())
+                    .fte(t.fte())
+                    .plannedFte(t.plannedFte())
+                    .openFte(t.openFte())
+                    .build());
+            faculties.merge(t.facultyId(),
+                    StaffingTotalsDto.builder()
+                            .facultyId(t.facultyId())
+                            .headcount(t.headcount())
+                            .fte(t.fte())
+                            .plannedFte(t.plannedFte())
+                            .openFte(t.openFte())
+                            .build(),
+                    (a, b) -> a.toBuilder()
+                            .headcount(a.getHeadcount() + b.getHeadcount())
+                            .fte(a.getFte().add(b.getFte()))
+                            .plannedFte(a.getPlannedFte().add(b.getPlannedFte()))
+                            .openFte(a.getOpenFte().add(b.getOpenFte()))
+                            .build());
+        }
+        return StaffingStatsDto.builder()
+                .faculties(List.copyOf(faculties.values()))
+                .departments(departments)
+                .build();
+    }
+
+    private static boolean sameCounters(StaffingAssignment a, StaffingAssignment b) {
+        return Objects.equals(a.getEmployeeId(), b.getEmployeeId())
+                && Objects.equals(a.getDepartmentId(), b.getDepartmentId())
+                && Objects.equals(a.getPositionId(), b.getPositionId())
+                && a.getRate().compareTo(b.getRate()) == 0
+                && a.isEmployeeActive() == b.isEmployeeActive();
+    }
+
+    private static List<StaffingAssignment> counted(List<StaffingAssignment> assignments) {
+        return assignments.stream().filter(StaffingAssignment::isEmployeeActive).toList();
+    }
+
+    private void adjust(List<StaffingAssignment> assignments, int sign) {
+        Map<List<UUID>, StaffingStatsPort.Delta> deltas = new LinkedHashMap<>();
+        for (StaffingAssignment a : assignments) {
+            deltas.merge(List.of(a.getDepartmentId(), a.getPositionId()),
+                    new StaffingStatsPort.Delta(a.getDepartmentId(), a.getPositionId(), sign,
+                            sign > 0 ? a.getRate() : a.getRate().negate()),
+                    (x, y) -> new StaffingStatsPort.Delta(x.departmentId(), x.positionId(),
+                            x.headcount() + y.headcount(), x.fte().add(y.fte())));
+        }
+        if (!deltas.isEmpty()) {
+            stats.adjust(List.copyOf(deltas.values()));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.khasanshin.organizationservice.application;
+
+import com.khasanshin.organizationservice.domain.model.StaffingAssignment;
+import com.khasanshin.organizationservice.dto.StaffingStatsDto;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface StaffingStatsUseCase {
+
+    /** Applies the current state of an employment; {@code assignment == null} means it is no longer active. */
+    void applyEmployment(UUID employmentId, StaffingAssignment assignment);
+
+    void employeesDeactivated(Collection<UUID> employeeIds);
+
+    void employeesActivated(Collection<UUID> employeeIds);
+
+    void employeesDeleted(Collection<UUID> employeeIds);
+
+    void plan(UUID departmentId, UUID positionId, BigDecimal plannedFte);
+
+    StaffingStatsDto stats(UUID facultyId);
+}
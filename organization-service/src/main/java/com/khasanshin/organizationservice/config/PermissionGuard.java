@@ -1,5 +1,7 @@
 package com.khasanshin.organizationservice.config;
 
+import com.khasanshin.organizationservice.domain.port.DepartmentAncestryPort;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
@@ -9,8 +11,11 @@ import java.util.Set;
 import java.util.UUID;
 
 @Component("perm")
+@RequiredArgsConstructor
 public class PermissionGuard {
 
+    private final DepartmentAncestryPort ancestry;
+
     private boolean hasRole(Authentication auth, String role) {
         if (auth == null) return false;
         String needed = "ROLE_" + role.toUpperCase();
@@ -36,7 +41,12 @@ public class PermissionGuard {
     }
 
     public boolean canManageDept(Authentication auth, UUID deptId) {
-        return hasRole(auth, "ORG_ADMIN") || hasRole(auth, "HR") || managed(auth).contains(deptId);
+        if (hasRole(auth, "ORG_ADMIN") || hasRole(auth, "HR")) return true;
+        if (deptId == null) return false;
+        Set<UUID> managed = managed(auth);
+        if (managed.isEmpty()) return false;
+        // managing a department covers everything nested in it
+        return managed.contains(deptId) || ancestry.ancestorsOf(deptId).stream().anyMatch(managed::contains);
     }
 
     public boolean isSelf(Authentication auth, UUID empId) {
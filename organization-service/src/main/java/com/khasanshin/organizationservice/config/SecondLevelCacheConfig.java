@@ -0,0 +1,27 @@
+package com.khasanshin.organizationservice.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Regions are configured in {@code application.conf} (Caffeine JCache). */
+@Configuration
+@ConditionalOnProperty(name = "org.l2-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCache() {
+        return props -> {
+            props.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            props.put(AvailableSettings.USE_QUERY_CACHE, true);
+            props.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            props.put(ConfigSettings.PROVIDER, CaffeineCachingProvider.class.getName());
+            props.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            props.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
@@ -11,6 +11,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.time.Duration;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +31,8 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Department", description = "Кафедры/департаменты (CRUD, назначение заведующего)")
 public class DepartmentController {
 
+  private static final CacheControl EXISTS_CACHE = CacheControl.maxAge(Duration.ofSeconds(30));
+
   private final DepartmentUseCase service;
 
   @Operation(
@@ -125,6 +129,62 @@ public class DepartmentController {
     return ResponseEntity.noContent().build();
   }
 
+  @Operation(
+      summary = "Перенести подразделение",
+      description = "Делает департамент дочерним для parentId вместе со всем поддеревом.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "400", description = "Цикл или другой факультет"),
+    @ApiResponse(responseCode = "404", description = "Департамент не найден")
+  })
+  @PutMapping("/{id}/parent/{parentId}")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN')")
+  public ResponseEntity<DepartmentDto> move(
+      @PathVariable("id") UUID id, @PathVariable("parentId") UUID parentId) {
+    return ResponseEntity.ok(service.move(id, parentId));
+  }
+
+  @Operation(summary = "Сделать департамент корневым в факультете")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "404", description = "Департамент не найден")
+  })
+  @DeleteMapping("/{id}/parent")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN')")
+  public ResponseEntity<DepartmentDto> detach(@PathVariable("id") UUID id) {
+    return ResponseEntity.ok(service.move(id, null));
+  }
+
+  @Operation(
+      summary = "Поддерево департамента",
+      description = "Сам департамент и все вложенные подразделения, по уровням. max_depth ограничивает глубину.")
+  @ApiResponses({@ApiResponse(responseCode = "200"), @ApiResponse(responseCode = "404")})
+  @GetMapping("/{id}/subtree")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<List<DepartmentDto>> subtree(
+      @PathVariable("id") UUID id,
+      @RequestParam(name = "max_depth", required = false) Integer maxDepth) {
+    return ResponseEntity.ok(service.subtree(id, maxDepth));
+  }
+
+  @Operation(summary = "Вложенные подразделения до заданной глубины (по умолчанию только прямые)")
+  @ApiResponses({@ApiResponse(responseCode = "200"), @ApiResponse(responseCode = "404")})
+  @GetMapping("/{id}/children")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<List<DepartmentDto>> children(
+      @PathVariable("id") UUID id,
+      @RequestParam(name = "depth", defaultValue = "1") int depth) {
+    return ResponseEntity.ok(service.children(id, depth));
+  }
+
+  @Operation(summary = "Цепочка родительских подразделений, от ближайшего к корню")
+  @ApiResponses({@ApiResponse(responseCode = "200"), @ApiResponse(responseCode = "404")})
+  @GetMapping("/{id}/ancestors")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<List<DepartmentDto>> ancestors(@PathVariable("id") UUID id) {
+    return ResponseEntity.ok(service.ancestors(id));
+  }
+
   @Operation(
           summary = "Проверить существование департамента",
           description = "HEAD-запрос без тела. Возвращает 200, если департамент существует, иначе 404."
@@ -137,8 +197,8 @@ public class DepartmentController {
   @PreAuthorize("isAuthenticated()")
   public ResponseEntity<Void> head(@PathVariable("id") UUID id) {
     return service.exists(id)
-            ? ResponseEntity.ok().build()
-            : ResponseEntity.notFound().build();
+            ? ResponseEntity.ok().cacheControl(EXISTS_CACHE).build()
+            : ResponseEntity.notFound().cacheControl(CacheControl.noCache()).build();
   }
 
   @Operation(
@@ -157,4 +217,20 @@ public class DepartmentController {
     return new ResponseEntity<>(headers, HttpStatus.NO_CONTENT);
   }
 
+  @Operation(
+          summary = "Снять заведующих по списку employeeId",
+          description = "Пакетный вариант /head/by-employee/{employeeId}: один UPDATE на весь список"
+  )
+  @ApiResponses({
+          @ApiResponse(responseCode = "204", description = "Готово")
+  })
+  @PostMapping("/head/by-employees/clear")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN')")
+  public ResponseEntity<Void> clearHeadByEmployees(@RequestBody List<UUID> employeeIds) {
+    int affected = service.clearHeadByEmployees(employeeIds);
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("X-Affected-Count", String.valueOf(affected));
+    return new ResponseEntity<>(headers, HttpStatus.NO_CONTENT);
+  }
+
 }
@@ -0,0 +1,93 @@
+package com.khasanshin.organizationservice.controller;
+
+import com.khasanshin.organizationservice.application.OrgExistenceUseCase;
+import com.khasanshin.organizationservice.application.OrgImportUseCase;
+import com.khasanshin.organizationservice.application.OrgTreeUseCase;
+import com.khasanshin.organizationservice.dto.OrgExistsRequestDto;
+import com.khasanshin.organizationservice.dto.OrgExistsResponseDto;
+import com.khasanshin.organizationservice.dto.OrgImportDto;
+import com.khasanshin.organizationservice.dto.OrgImportResultDto;
+import com.khasanshin.organizationservice.dto.OrgTreeDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/org")
+@Tag(name = "Org", description = "Оргструктура целиком")
+public class OrgController {
+
+  private final OrgTreeUseCase service;
+  private final OrgExistenceUseCase existence;
+  private final OrgImportUseCase importer;
+
+  @Operation(
+      summary = "Дерево факультет → кафедры + справочник должностей",
+      description = "Неизменяемый снимок, пересобирается только при изменениях. Поддерживает If-None-Match.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200"),
+    @ApiResponse(responseCode = "304", description = "Снимок не изменился")
+  })
+  @GetMapping("/tree")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<OrgTreeDto> tree(
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    OrgTreeUseCase.Snapshot snapshot = service.tree();
+    if (matches(ifNoneMatch, snapshot.etag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+    }
+    return ResponseEntity.ok()
+        .eTag(snapshot.etag())
+        .cacheControl(CacheControl.noCache())
+        .body(snapshot.tree());
+  }
+
+  @Operation(
+      summary = "Пакетная проверка существования департаментов и должностей",
+      description = "Возвращает id, которых нет. Один запрос вместо HEAD на каждый id.")
+  @ApiResponse(responseCode = "200")
+  @PostMapping("/exists")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<OrgExistsResponseDto> exists(@Valid @RequestBody OrgExistsRequestDto body) {
+    return ResponseEntity.ok(existence.exists(body));
+  }
+
+  @Operation(
+      summary = "Импорт оргструктуры целиком",
+      description = "Факультеты с вложенными кафедрами одним документом. Коды проверяются в памяти, "
+          + "заведующие — одним пакетным запросом, вставка — в одной транзакции.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "201"),
+    @ApiResponse(responseCode = "400", description = "Некорректный документ или повтор кода"),
+    @ApiResponse(responseCode = "409", description = "Код уже существует"),
+    @ApiResponse(responseCode = "503", description = "employee-service недоступен")
+  })
+  @PostMapping("/import")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN')")
+  public ResponseEntity<OrgImportResultDto> importStructure(@Valid @RequestBody OrgImportDto body) {
+    return ResponseEntity.status(HttpStatus.CREATED).body(importer.importStructure(body));
+  }
+
+  private static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String c = candidate.trim();
+      if (c.equals("*") || c.equals(etag) || c.equals("W/" + etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
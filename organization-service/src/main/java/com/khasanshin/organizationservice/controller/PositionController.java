@@ -13,6 +13,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -27,6 +29,8 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Position", description = "Справочник должностей")
 public class PositionController {
 
+  private static final CacheControl EXISTS_CACHE = CacheControl.maxAge(Duration.ofSeconds(30));
+
   private final PositionUseCase positionService;
 
   @Operation(
@@ -51,6 +55,21 @@ public class PositionController {
     return new ResponseEntity<>(page, headers, HttpStatus.OK);
   }
 
+  @Operation(
+      summary = "Подсказки по названию должности",
+      description = "Автодополнение из индекса в памяти: точное совпадение, начало названия, начало слова, подстрока.")
+  @Parameters({
+    @Parameter(name = "q", description = "Введённая часть названия", required = true),
+    @Parameter(name = "limit", description = "Максимум подсказок (1..50)")
+  })
+  @GetMapping("/suggest")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<List<PositionDto>> suggest(
+      @RequestParam(name = "q") String q,
+      @RequestParam(name = "limit", defaultValue = "10") int limit) {
+    return ResponseEntity.ok(positionService.suggest(q, limit));
+  }
+
   @Operation(summary = "Получить должность по ID")
   @ApiResponses({@ApiResponse(responseCode = "200"), @ApiResponse(responseCode = "404")})
   @GetMapping("/{id}")
@@ -105,8 +124,8 @@ public class PositionController {
   @PreAuthorize("isAuthenticated()")
   public ResponseEntity<Void> head(@PathVariable("id") UUID id) {
     return positionService.exists(id)
-            ? ResponseEntity.ok().build()
-            : ResponseEntity.notFound().build();
+            ? ResponseEntity.ok().cacheControl(EXISTS_CACHE).build()
+            : ResponseEntity.notFound().cacheControl(CacheControl.noCache()).build();
   }
 
 }
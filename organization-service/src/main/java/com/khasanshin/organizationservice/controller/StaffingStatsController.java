@@ -0,0 +1,54 @@
+package com.khasanshin.organizationservice.controller;
+
+import com.khasanshin.organizationservice.application.StaffingStatsUseCase;
+import com.khasanshin.organizationservice.dto.StaffingPlanDto;
+import com.khasanshin.organizationservice.dto.StaffingStatsDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/org/stats")
+@Tag(name = "Staffing stats", description = "Численность, ставки и вакансии по кафедрам и факультетам")
+public class StaffingStatsController {
+
+  private final StaffingStatsUseCase service;
+
+  @Operation(
+      summary = "Статистика штата по кафедрам и факультетам",
+      description = "Читается из счётчиков, которые обновляются по employment.events и employee.events; "
+          + "стоимость не зависит от числа назначений.")
+  @Parameter(name = "faculty_id", description = "Только кафедры указанного факультета")
+  @ApiResponse(responseCode = "200")
+  @GetMapping
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN','HR')")
+  public ResponseEntity<StaffingStatsDto> stats(
+      @RequestParam(name = "faculty_id", required = false) UUID facultyId) {
+    return ResponseEntity.ok(service.stats(facultyId));
+  }
+
+  @Operation(summary = "Задать плановое число ставок должности на кафедре")
+  @ApiResponses({
+    @ApiResponse(responseCode = "204"),
+    @ApiResponse(responseCode = "400"),
+    @ApiResponse(responseCode = "404", description = "Кафедра или должность не найдены")
+  })
+  @PutMapping("/plan/{departmentId}/{positionId}")
+  @PreAuthorize("@perm.hasAny(authentication,'ORG_ADMIN')")
+  public ResponseEntity<Void> plan(
+      @PathVariable("departmentId") UUID departmentId,
+      @PathVariable("positionId") UUID positionId,
+      @Valid @RequestBody StaffingPlanDto body) {
+    service.plan(departmentId, positionId, body.getPlannedFte());
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -12,6 +12,7 @@ public class Department {
     String code;
     String name;
     UUID facultyId;
+    UUID parentId;
     UUID headEmployeeId;
     Instant createdAt;
     Instant updatedAt;
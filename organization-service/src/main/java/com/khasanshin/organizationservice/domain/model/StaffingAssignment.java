@@ -0,0 +1,17 @@
+package com.khasanshin.organizationservice.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(toBuilder = true)
+public class StaffingAssignment {
+    UUID employmentId;
+    UUID employeeId;
+    UUID departmentId;
+    UUID positionId;
+    BigDecimal rate;
+    boolean employeeActive;
+}
@@ -0,0 +1,10 @@
+package com.khasanshin.organizationservice.domain.port;
+
+import java.util.Set;
+import java.util.UUID;
+
+public interface DepartmentAncestryPort {
+
+    /** Ids of all departments the given one is nested in (not including itself). */
+    Set<UUID> ancestorsOf(UUID departmentId);
+}
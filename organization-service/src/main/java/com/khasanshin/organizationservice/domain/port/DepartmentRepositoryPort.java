@@ -1,7 +1,11 @@
 package com.khasanshin.organizationservice.domain.port;
 
 import com.khasanshin.organizationservice.domain.model.Department;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,5 +22,31 @@ public interface DepartmentRepositoryPort {
 
     Page<Department> findAll(Pageable pageable);
 
-    int clearHeadByEmployeeId(UUID employeeId);
+    List<Department> findAll();
+
+    List<UUID> findAllIds();
+
+    List<UUID> findExistingIds(Collection<UUID> ids);
+
+    int clearHeadByEmployeeIds(Collection<UUID> employeeIds);
+
+    List<Department> findByHeadEmployeeIds(Collection<UUID> employeeIds);
+
+    boolean hasChildren(UUID id);
+
+    /** Adds closure links for a freshly saved department; {@code parentId} may be null for a root. */
+    void linkToParent(UUID id, UUID parentId);
+
+    /** Re-hangs the whole subtree of {@code id} under {@code parentId} (null makes it a root). */
+    void moveSubtree(UUID id, UUID parentId);
+
+    boolean isInSubtree(UUID rootId, UUID id);
+
+    /** The department itself and its descendants down to {@code maxDepth}, shallowest first. */
+    List<Department> findSubtree(UUID id, int minDepth, int maxDepth);
+
+    /** Ancestors of the department, nearest first. */
+    List<Department> findAncestors(UUID id);
+
+    Map<UUID, Set<UUID>> findAncestorIds();
 }
@@ -1,8 +1,11 @@
 package com.khasanshin.organizationservice.domain.port;
 
+import java.util.Collection;
 import java.util.UUID;
 
 public interface EmployeeVerifierPort {
 
     void ensureEmployeeExists(UUID employeeId);
+
+    void ensureEmployeesExist(Collection<UUID> employeeIds);
 }
@@ -1,6 +1,7 @@
 package com.khasanshin.organizationservice.domain.port;
 
 import com.khasanshin.organizationservice.domain.model.Faculty;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -16,4 +17,6 @@ public interface FacultyRepositoryPort {
     void deleteById(UUID id);
 
     Page<Faculty> findAll(Pageable pageable);
+
+    List<Faculty> findAll();
 }
@@ -0,0 +1,16 @@
+package com.khasanshin.organizationservice.domain.port;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface OrgIdIndexPort {
+
+    boolean departmentExists(UUID id);
+
+    boolean positionExists(UUID id);
+
+    Set<UUID> missingDepartments(Collection<UUID> ids);
+
+    Set<UUID> missingPositions(Collection<UUID> ids);
+}
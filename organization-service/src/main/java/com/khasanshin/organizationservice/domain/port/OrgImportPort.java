@@ -0,0 +1,17 @@
+package com.khasanshin.organizationservice.domain.port;
+
+import com.khasanshin.organizationservice.domain.model.Department;
+import com.khasanshin.organizationservice.domain.model.Faculty;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface OrgImportPort {
+
+    Set<String> findExistingFacultyCodes(Collection<String> codes);
+
+    Set<String> findExistingDepartmentCodes(Collection<String> codes);
+
+    /** Batch insert; every department must come after its parent. */
+    void insert(List<Faculty> faculties, List<Department> departments);
+}
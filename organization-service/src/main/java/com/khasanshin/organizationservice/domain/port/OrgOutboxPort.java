@@ -0,0 +1,19 @@
+package com.khasanshin.organizationservice.domain.port;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OrgOutboxPort {
+
+    void append(UUID key, String eventType, String payload);
+
+    /** Locks the relay for the current transaction; false when another instance holds it. */
+    boolean tryLockRelay();
+
+    List<Entry> findPending(int limit);
+
+    void delete(Collection<Long> ids);
+
+    record Entry(long id, UUID key, String payload) {}
+}
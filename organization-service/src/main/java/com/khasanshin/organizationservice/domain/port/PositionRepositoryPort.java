@@ -1,6 +1,8 @@
 package com.khasanshin.organizationservice.domain.port;
 
 import com.khasanshin.organizationservice.domain.model.Position;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -20,5 +22,11 @@ public interface PositionRepositoryPort {
 
     Page<Position> findAll(Pageable pageable);
 
+    List<Position> findAll();
+
+    List<UUID> findAllIds();
+
+    List<UUID> findExistingIds(Collection<UUID> ids);
+
     Page<Position> findByNameContainingIgnoreCase(String q, Pageable pageable);
 }
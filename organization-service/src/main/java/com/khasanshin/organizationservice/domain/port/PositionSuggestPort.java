@@ -0,0 +1,10 @@
+package com.khasanshin.organizationservice.domain.port;
+
+import com.khasanshin.organizationservice.domain.model.Position;
+import java.util.List;
+
+public interface PositionSuggestPort {
+
+    /** Positions whose name contains {@code q}, best matches (exact, prefix, word prefix) first. */
+    List<Position> suggest(String q, int limit);
+}
@@ -0,0 +1,43 @@
+package com.khasanshin.organizationservice.domain.port;
+
+import com.khasanshin.organizationservice.domain.model.StaffingAssignment;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StaffingStatsPort {
+
+    /** Row-locks the assignment for the rest of the transaction. */
+    Optional<StaffingAssignment> lockAssignment(UUID employmentId);
+
+    /**
+     * Row-locks the employee's last recorded status for the rest of the transaction and returns it;
+     * an employee never seen in any event is recorded as active.
+     */
+    boolean lockEmployeeActive(UUID employeeId);
+
+    void saveEmployeesActive(Collection<UUID> employeeIds, boolean active);
+
+    void saveAssignment(StaffingAssignment assignment);
+
+    void deleteAssignment(UUID employmentId);
+
+    /** Flips {@code employee_active} and returns only the rows that actually changed. */
+    List<StaffingAssignment> setEmployeesActive(Collection<UUID> employeeIds, boolean active);
+
+    List<StaffingAssignment> deleteByEmployees(Collection<UUID> employeeIds);
+
+    void adjust(Collection<Delta> deltas);
+
+    void setPlanned(UUID departmentId, UUID positionId, BigDecimal plannedFte);
+
+    /** Totals per department; {@code facultyId == null} means all faculties. */
+    List<DepartmentTotals> findDepartmentTotals(UUID facultyId);
+
+    record Delta(UUID departmentId, UUID positionId, int headcount, BigDecimal fte) {}
+
+    record DepartmentTotals(
+            UUID departmentId, UUID facultyId, long headcount, BigDecimal fte, BigDecimal plannedFte, BigDecimal openFte) {}
+}
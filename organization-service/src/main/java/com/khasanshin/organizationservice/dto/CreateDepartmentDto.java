@@ -23,6 +23,10 @@ public class CreateDepartmentDto {
   @JsonAlias("faculty_id")
   UUID facultyId;
 
+  @JsonProperty("parent_id")
+  @JsonAlias("parent_id")
+  UUID parentId;
+
   @JsonProperty("head_employee_id")
   @JsonAlias("head_employee_id")
   UUID headEmployeeId;
@@ -0,0 +1,34 @@
+package com.khasanshin.organizationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class DepartmentImportDto {
+
+  @NotBlank
+  @Size(max = 64)
+  String code;
+
+  @NotBlank
+  @Size(max = 150)
+  String name;
+
+  @JsonProperty("head_employee_id")
+  @JsonAlias("head_employee_id")
+  UUID headEmployeeId;
+
+  /** Nested sub-departments (labs, sections). */
+  List<@NotNull @Valid DepartmentImportDto> children;
+}
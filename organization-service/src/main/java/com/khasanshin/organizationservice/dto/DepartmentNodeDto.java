@@ -0,0 +1,26 @@
+package com.khasanshin.organizationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class DepartmentNodeDto {
+
+  UUID id;
+  String code;
+  String name;
+
+  @JsonProperty("parent_id")
+  @JsonAlias("parent_id")
+  UUID parentId;
+
+  @JsonProperty("head_employee_id")
+  @JsonAlias("head_employee_id")
+  UUID headEmployeeId;
+}
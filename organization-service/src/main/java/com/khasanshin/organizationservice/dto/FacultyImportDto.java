@@ -0,0 +1,26 @@
+package com.khasanshin.organizationservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class FacultyImportDto {
+
+  @NotBlank
+  @Size(max = 64)
+  String code;
+
+  @NotBlank
+  @Size(max = 150)
+  String name;
+
+  List<@NotNull @Valid DepartmentImportDto> departments;
+}
@@ -0,0 +1,18 @@
+package com.khasanshin.organizationservice.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class FacultyNodeDto {
+
+  UUID id;
+  String code;
+  String name;
+  List<DepartmentNodeDto> departments;
+}
@@ -0,0 +1,27 @@
+package com.khasanshin.organizationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class OrgExistsRequestDto {
+
+  @Size(max = 1000)
+  @JsonProperty("department_ids")
+  @JsonAlias("department_ids")
+  List<@NotNull UUID> departmentIds;
+
+  @Size(max = 1000)
+  @JsonProperty("position_ids")
+  @JsonAlias("position_ids")
+  List<@NotNull UUID> positionIds;
+}
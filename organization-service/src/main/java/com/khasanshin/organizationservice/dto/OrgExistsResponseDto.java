@@ -0,0 +1,28 @@
+package com.khasanshin.organizationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class OrgExistsResponseDto {
+
+  @JsonProperty("missing_department_ids")
+  @JsonAlias("missing_department_ids")
+  Set<UUID> missingDepartmentIds;
+
+  @JsonProperty("missing_position_ids")
+  @JsonAlias("missing_position_ids")
+  Set<UUID> missingPositionIds;
+
+  @JsonProperty("all_exist")
+  public boolean isAllExist() {
+    return missingDepartmentIds.isEmpty() && missingPositionIds.isEmpty();
+  }
+}
@@ -0,0 +1,25 @@
+package com.khasanshin.organizationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class OrgImportResultDto {
+
+  /** Faculty code to created id. */
+  @JsonProperty("faculty_ids")
+  @JsonAlias("faculty_ids")
+  Map<String, UUID> facultyIds;
+
+  /** Department code to created id. */
+  @JsonProperty("department_ids")
+  @JsonAlias("department_ids")
+  Map<String, UUID> departmentIds;
+}
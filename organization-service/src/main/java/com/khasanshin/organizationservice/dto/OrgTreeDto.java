@@ -0,0 +1,16 @@
+package com.khasanshin.organizationservice.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class OrgTreeDto {
+
+  List<FacultyNodeDto> faculties;
+
+  List<PositionDto> positions;
+}
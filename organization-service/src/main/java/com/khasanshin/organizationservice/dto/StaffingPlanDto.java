@@ -0,0 +1,24 @@
+package com.khasanshin.organizationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class StaffingPlanDto {
+
+  @NotNull
+  @DecimalMin("0.00")
+  @Digits(integer = 8, fraction = 2)
+  @JsonProperty("planned_fte")
+  @JsonAlias("planned_fte")
+  BigDecimal plannedFte;
+}
@@ -0,0 +1,16 @@
+package com.khasanshin.organizationservice.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class StaffingStatsDto {
+
+  List<StaffingTotalsDto> faculties;
+
+  List<StaffingTotalsDto> departments;
+}
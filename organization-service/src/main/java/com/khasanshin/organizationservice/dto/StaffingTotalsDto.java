@@ -0,0 +1,38 @@
+package com.khasanshin.organizationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder(toBuilder = true)
+@Jacksonized
+public class StaffingTotalsDto {
+
+  /** Set for department rows, null for faculty rows. */
+  @JsonProperty("department_id")
+  @JsonAlias("department_id")
+  UUID departmentId;
+
+  @JsonProperty("faculty_id")
+  @JsonAlias("faculty_id")
+  UUID facultyId;
+
+  /** Active assignments of active employees; a person holding two positions counts twice. */
+  long headcount;
+
+  BigDecimal fte;
+
+  @JsonProperty("planned_fte")
+  @JsonAlias("planned_fte")
+  BigDecimal plannedFte;
+
+  /** Unfilled planned rate, summed per position so that overstaffing one position does not hide another. */
+  @JsonProperty("open_fte")
+  @JsonAlias("open_fte")
+  BigDecimal openFte;
+}
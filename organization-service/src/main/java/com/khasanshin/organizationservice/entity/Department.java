@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,6 +16,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 @AllArgsConstructor
 @Builder
 @Table(name = "department")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "org.department")
 public class Department {
 
   @Id
@@ -29,6 +33,9 @@ public class Department {
   @Column(name = "faculty_id", nullable = false)
   private UUID faculty;
 
+  @Column(name = "parent_id")
+  private UUID parent;
+
   @Column(name = "head_employee_id")
   private UUID headEmployee;
 
@@ -3,6 +3,8 @@ package com.khasanshin.organizationservice.entity;
 import jakarta.persistence.*;
 import java.util.UUID;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
@@ -11,6 +13,8 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Table(name = "faculty")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "org.faculty")
 public class Faculty {
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
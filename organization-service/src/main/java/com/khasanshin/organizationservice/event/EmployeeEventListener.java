@@ -0,0 +1,80 @@
+package com.khasanshin.organizationservice.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.application.DepartmentUseCase;
+import com.khasanshin.organizationservice.application.StaffingStatsUseCase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeEventListener {
+
+    private static final Set<String> FIRED = Set.of("EMPLOYEE_FIRED", "EMPLOYEES_FIRED");
+    private static final Set<String> ACTIVATED = Set.of("EMPLOYEE_ACTIVATED", "EMPLOYEES_ACTIVATED");
+    private static final String DELETED = "EMPLOYEE_DELETED";
+    private static final String CREATED = "EMPLOYEE_CREATED";
+
+    private final DepartmentUseCase departments;
+    private final StaffingStatsUseCase stats;
+    private final ObjectMapper objectMapper;
+
+    // clearing a head and flipping staffing flags are idempotent, so redelivered events are harmless;
+    // every event of one employee shares a partition, so the flips arrive in the order they happened
+    @KafkaListener(
+            topics = "${kafka.topics.employee:employee.events}",
+            groupId = "${org.employee-events.group:organization-service}",
+            autoStartup = "${org.employee-events.enabled:true}")
+    public void onEmployeeEvent(String json) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (Exception ex) {
+            log.warn("Skipping unreadable employee event: {}", ex.getMessage());
+            return;
+        }
+        String type = root.path("eventType").asText();
+        if (CREATED.equals(type) && root.path("entityId").isTextual()) {
+            List<UUID> created = List.of(UUID.fromString(root.path("entityId").asText()));
+            if ("FIRED".equals(root.path("payload").path("status").asText())) {
+                stats.employeesDeactivated(created);
+            } else {
+                stats.employeesActivated(created);
+            }
+            return;
+        }
+        if (!FIRED.contains(type) && !ACTIVATED.contains(type) && !DELETED.equals(type)) {
+            return;
+        }
+        List<UUID> ids = new ArrayList<>();
+        JsonNode entityId = root.path("entityId");
+        if (entityId.isTextual()) {
+            ids.add(UUID.fromString(entityId.asText()));
+        }
+        for (JsonNode id : root.path("payload").path("employeeIds")) {
+            ids.add(UUID.fromString(id.asText()));
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (ACTIVATED.contains(type)) {
+            stats.employeesActivated(ids);
+            return;
+        }
+        int cleared = departments.clearHeadByEmployees(ids);
+        log.debug("{} for {} employees cleared {} department heads", type, ids.size(), cleared);
+        if (DELETED.equals(type)) {
+            stats.employeesDeleted(ids);
+        } else {
+            stats.employeesDeactivated(ids);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.khasanshin.organizationservice.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.application.StaffingStatsUseCase;
+import com.khasanshin.organizationservice.domain.model.StaffingAssignment;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmploymentEventListener {
+
+    private final StaffingStatsUseCase stats;
+    private final ObjectMapper objectMapper;
+
+    // every event carries the full employment state, so redelivery and replays converge
+    @KafkaListener(
+            topics = "${kafka.topics.employment:employment.events}",
+            groupId = "${org.employment-events.group:organization-service}",
+            autoStartup = "${org.employment-events.enabled:true}")
+    public void onEmploymentEvent(String json) {
+        UUID employmentId;
+        StaffingAssignment assignment;
+        try {
+            JsonNode payload = objectMapper.readTree(json).path("payload");
+            employmentId = UUID.fromString(payload.path("id").asText());
+            assignment = "ACTIVE".equals(payload.path("status").asText())
+                    ? StaffingAssignment.builder()
+                            .employmentId(employmentId)
+                            .employeeId(UUID.fromString(payload.path("employee_id").asText()))
+                            .departmentId(UUID.fromString(payload.path("department_id").asText()))
+                            .positionId(UUID.fromString(payload.path("position_id").asText()))
+                            .rate(payload.path("rate").decimalValue())
+                            .build()
+                    : null;
+        } catch (Exception ex) {
+            log.warn("Skipping unreadable employment event: {}", ex.getMessage());
+            return;
+        }
+        stats.applyEmployment(employmentId, assignment);
+    }
+}
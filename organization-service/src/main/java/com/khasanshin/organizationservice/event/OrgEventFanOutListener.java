@@ -0,0 +1,86 @@
+package com.khasanshin.organizationservice.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.application.OrgChangeSubscriber;
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+/**
+ * The only org.events consumer of an instance; feeds every {@link OrgChangeSubscriber}.
+ *
+ * <p>Every instance must see every change, so the group is per instance. It is named after a stable instance id,
+ * so a restart rejoins its own group instead of leaving an orphan behind; a new group starts at the end of the
+ * topic. What was published while nobody listened may be missing, hence the resync on every partition assignment.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgEventFanOutListener implements ConsumerSeekAware {
+
+    private final List<OrgChangeSubscriber> subscribers;
+    private final ObjectMapper objectMapper;
+
+    // a whole poll, e.g. an import, is dispatched at once so that subscribers rebuild once per poll
+    @KafkaListener(
+            topics = "${kafka.topics.org:org.events}",
+            groupId = "organization-replica-${org.instance-id:${HOSTNAME:local}}",
+            autoStartup = "${org.events.fan-out.enabled:true}",
+            properties = "auto.offset.reset=latest",
+            batch = "true")
+    public void onOrgEvents(List<String> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<OrgStructureChangedEvent> changes = new ArrayList<>(records.size());
+        for (String json : records) {
+            try {
+                changes.add(parse(json));
+            } catch (Exception ex) {
+                log.warn("Cannot read org event, resyncing in-memory org data: {}", ex.getMessage());
+                resync();
+                return;
+            }
+        }
+        for (OrgChangeSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onRemoteChanges(changes);
+            } catch (RuntimeException ex) {
+                log.warn("{} failed to apply org events: {}", subscriber.getClass().getSimpleName(), ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        resync();
+    }
+
+    private void resync() {
+        for (OrgChangeSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onResync();
+            } catch (RuntimeException ex) {
+                log.warn("{} failed to resync: {}", subscriber.getClass().getSimpleName(), ex.getMessage());
+            }
+        }
+    }
+
+    private OrgStructureChangedEvent parse(String json) throws Exception {
+        JsonNode root = objectMapper.readTree(json);
+        OrgStructureChangedEvent.Kind kind = OrgStructureChangedEvent.Kind.valueOf(root.path("entityType").asText());
+        String eventType = root.path("eventType").asText();
+        OrgStructureChangedEvent.Change change =
+                OrgStructureChangedEvent.Change.valueOf(eventType.substring(kind.name().length() + 1));
+        return new OrgStructureChangedEvent(kind, change, UUID.fromString(root.path("entityId").asText()), null);
+    }
+}
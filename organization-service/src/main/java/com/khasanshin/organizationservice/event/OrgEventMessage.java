@@ -0,0 +1,18 @@
+package com.khasanshin.organizationservice.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Value of an {@code org.events} record. The record key is {@link #entityId()} and every message carries the
+ * full current state of the entity, so a compacted topic always holds the latest snapshot per entity.
+ */
+public record OrgEventMessage(
+        UUID eventId,
+        String eventType,
+        String entityType,
+        UUID entityId,
+        Instant occurredAt,
+        boolean deleted,
+        Object snapshot
+) {}
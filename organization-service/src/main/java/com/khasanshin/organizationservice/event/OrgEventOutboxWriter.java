@@ -0,0 +1,44 @@
+package com.khasanshin.organizationservice.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
+import com.khasanshin.organizationservice.application.OrgStructureImportedEvent;
+import com.khasanshin.organizationservice.domain.port.OrgOutboxPort;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class OrgEventOutboxWriter {
+
+    private final OrgOutboxPort outbox;
+    private final ObjectMapper objectMapper;
+
+    // runs inside the writing transaction, so the outbox row commits or rolls back with the change itself
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onStructureChanged(OrgStructureChangedEvent event) {
+        OrgEventMessage msg = new OrgEventMessage(
+                UUID.randomUUID(),
+                event.eventType(),
+                event.kind().name(),
+                event.entityId(),
+                Instant.now(),
+                event.change() == OrgStructureChangedEvent.Change.DELETED,
+                event.snapshot());
+        try {
+            outbox.append(event.entityId(), msg.eventType(), objectMapper.writeValueAsString(msg));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event " + msg.eventType(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onStructureImported(OrgStructureImportedEvent event) {
+        event.changes().forEach(this::onStructureChanged);
+    }
+}
@@ -0,0 +1,55 @@
+package com.khasanshin.organizationservice.event;
+
+import com.khasanshin.organizationservice.domain.port.OrgOutboxPort;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgEventRelay {
+
+    private final OrgOutboxPort outbox;
+    private final KafkaTemplate<String, String> kafka;
+
+    @Value("${kafka.topics.org:org.events}")
+    private String topic;
+
+    @Value("${org.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${org.outbox.poll:PT1S}")
+    @Transactional
+    public void relay() {
+        // single relay across instances keeps per-entity ordering intact
+        if (!outbox.tryLockRelay()) {
+            return;
+        }
+        List<OrgOutboxPort.Entry> pending = outbox.findPending(batchSize);
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            for (OrgOutboxPort.Entry e : pending) {
+                kafka.send(topic, e.key().toString(), e.payload()).get(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing org events", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            // rows stay in the outbox and are retried on the next run; consumers must tolerate duplicates
+            throw new IllegalStateException("Cannot publish org events", ex);
+        }
+        outbox.delete(pending.stream().map(OrgOutboxPort.Entry::id).toList());
+        log.debug("Relayed {} org events", pending.size());
+    }
+}
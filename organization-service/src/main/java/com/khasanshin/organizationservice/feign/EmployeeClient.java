@@ -4,9 +4,13 @@ import com.khasanshin.organizationservice.config.FeignAuthConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 @FeignClient(name = "employee-service", path = "/api/v1/employees", configuration = FeignAuthConfig.class)
@@ -15,4 +19,7 @@ public interface EmployeeClient {
     @RequestMapping(method = RequestMethod.HEAD, value = "/{id}")
     ResponseEntity<Void> exists(@PathVariable("id") UUID id);
 
+    @PostMapping("/exists")
+    EmployeeExistence missing(@RequestBody Map<String, Collection<UUID>> ids);
+
 }
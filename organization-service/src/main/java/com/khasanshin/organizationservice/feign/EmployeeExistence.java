@@ -0,0 +1,7 @@
+package com.khasanshin.organizationservice.feign;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Set;
+import java.util.UUID;
+
+public record EmployeeExistence(@JsonProperty("missing_ids") Set<UUID> missingIds) {}
@@ -13,6 +13,8 @@ import org.springframework.stereotype.Service;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -33,6 +35,17 @@ public class EmployeeVerifier {
         }
     }
 
+    @CircuitBreaker(name = "employeeClient", fallbackMethod = "remoteUnavailable")
+    public void ensureEmployeesExist(Collection<UUID> employeeIds) {
+        EmployeeExistence resp = employeeClient.missing(Map.of("ids", employeeIds));
+        if (resp == null || resp.missingIds() == null) {
+            throw new RemoteServiceUnavailableException("employee-service returned no existence result", null);
+        }
+        if (!resp.missingIds().isEmpty()) {
+            throw new EntityNotFoundException("employeeIds not found: " + resp.missingIds());
+        }
+    }
+
     private void remoteUnavailable(UUID id, CallNotPermittedException ex) {
         throw new RemoteServiceUnavailableException("employee-service unavailable", ex);
     }
@@ -48,6 +61,21 @@ public class EmployeeVerifier {
     private void remoteUnavailable(UUID id, UnknownHostException ex) {
         throw new RemoteServiceUnavailableException("employee-service unavailable", ex);
     }
+    private void remoteUnavailable(Collection<UUID> ids, CallNotPermittedException ex) {
+        throw new RemoteServiceUnavailableException("employee-service unavailable", ex);
+    }
+    private void remoteUnavailable(Collection<UUID> ids, RetryableException ex) {
+        throw new RemoteServiceUnavailableException("employee-service unavailable", ex);
+    }
+    private void remoteUnavailable(Collection<UUID> ids, ConnectException ex) {
+        throw new RemoteServiceUnavailableException("employee-service unavailable", ex);
+    }
+    private void remoteUnavailable(Collection<UUID> ids, SocketTimeoutException ex) {
+        throw new RemoteServiceUnavailableException("employee-service unavailable", ex);
+    }
+    private void remoteUnavailable(Collection<UUID> ids, UnknownHostException ex) {
+        throw new RemoteServiceUnavailableException("employee-service unavailable", ex);
+    }
 
 
 }
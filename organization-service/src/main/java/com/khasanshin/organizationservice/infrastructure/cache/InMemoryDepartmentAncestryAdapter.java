@@ -0,0 +1,92 @@
+package com.khasanshin.organizationservice.infrastructure.cache;
+
+import com.khasanshin.organizationservice.application.OrgChangeSubscriber;
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
+import com.khasanshin.organizationservice.application.OrgStructureImportedEvent;
+import com.khasanshin.organizationservice.domain.model.Department;
+import com.khasanshin.organizationservice.domain.port.DepartmentAncestryPort;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryDepartmentAncestryAdapter implements DepartmentAncestryPort, OrgChangeSubscriber {
+
+    private final DepartmentRepositoryPort departmentRepository;
+
+    // department id -> ids of its ancestors; roots are absent. Replaced as a whole.
+    private volatile Map<UUID, Set<UUID>> ancestors;
+
+    @Override
+    public Set<UUID> ancestorsOf(UUID departmentId) {
+        Map<UUID, Set<UUID>> index = ancestors;
+        if (index != null) {
+            return index.getOrDefault(departmentId, Set.of());
+        }
+        return departmentRepository.findAncestors(departmentId).stream()
+                .map(Department::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Scheduled(
+            initialDelayString = "${org.ancestry.initial-delay:PT0S}",
+            fixedDelayString = "${org.ancestry.refresh:PT1M}")
+    public void refresh() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureChanged(OrgStructureChangedEvent event) {
+        if (event.kind() != OrgStructureChangedEvent.Kind.DEPARTMENT
+                || event.change() == OrgStructureChangedEvent.Change.HEAD_CHANGED) {
+            return;
+        }
+        reloadAfterChange("department change");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureImported(OrgStructureImportedEvent event) {
+        reloadAfterChange("import");
+    }
+
+    // moves made on other instances decide permissions here too, so they cannot wait for the poll
+    @Override
+    public void onRemoteChanges(List<OrgStructureChangedEvent> changes) {
+        if (changes.stream().anyMatch(c -> c.kind() == OrgStructureChangedEvent.Kind.DEPARTMENT
+                && c.change() != OrgStructureChangedEvent.Change.HEAD_CHANGED)) {
+            reloadAfterChange("org events");
+        }
+    }
+
+    @Override
+    public void onResync() {
+        reloadAfterChange("resync");
+    }
+
+    private void reloadAfterChange(String cause) {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            // the old index is known to be stale: answer from the database until the next reload succeeds
+            ancestors = null;
+            log.warn("Department ancestry reload after {} failed: {}", cause, ex.getMessage());
+        }
+    }
+
+    private synchronized void reload() {
+        Map<UUID, Set<UUID>> loaded = new HashMap<>();
+        departmentRepository.findAncestorIds().forEach((id, set) -> loaded.put(id, Set.copyOf(set)));
+        ancestors = Map.copyOf(loaded);
+    }
+}
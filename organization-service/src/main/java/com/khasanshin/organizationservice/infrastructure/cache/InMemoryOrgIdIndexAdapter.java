@@ -0,0 +1,104 @@
+package com.khasanshin.organizationservice.infrastructure.cache;
+
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
+import com.khasanshin.organizationservice.application.OrgStructureImportedEvent;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.OrgIdIndexPort;
+import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryOrgIdIndexAdapter implements OrgIdIndexPort {
+
+    private final DepartmentRepositoryPort departmentRepository;
+    private final PositionRepositoryPort positionRepository;
+
+    // immutable snapshots, replaced as a whole; null until the first successful load
+    private volatile Set<UUID> departments;
+    private volatile Set<UUID> positions;
+
+    @Override
+    public boolean departmentExists(UUID id) {
+        Set<UUID> ids = departments;
+        // a miss may be a row created on another instance since the last refresh
+        return (ids != null && ids.contains(id)) || departmentRepository.existsById(id);
+    }
+
+    @Override
+    public boolean positionExists(UUID id) {
+        Set<UUID> ids = positions;
+        return (ids != null && ids.contains(id)) || positionRepository.existsById(id);
+    }
+
+    @Override
+    public Set<UUID> missingDepartments(Collection<UUID> ids) {
+        return missing(ids, departments, departmentRepository::findExistingIds);
+    }
+
+    @Override
+    public Set<UUID> missingPositions(Collection<UUID> ids) {
+        return missing(ids, positions, positionRepository::findExistingIds);
+    }
+
+    private static Set<UUID> missing(
+            Collection<UUID> ids, Set<UUID> known, Function<Collection<UUID>, List<UUID>> lookup) {
+        Set<UUID> unknown = new LinkedHashSet<>(ids);
+        if (known != null) {
+            unknown.removeAll(known);
+        }
+        if (!unknown.isEmpty()) {
+            lookup.apply(unknown).forEach(unknown::remove);
+        }
+        return unknown;
+    }
+
+    @Scheduled(
+            initialDelayString = "${org.id-index.initial-delay:PT0S}",
+            fixedDelayString = "${org.id-index.refresh:PT1M}")
+    public void refresh() {
+        reloadDepartments();
+        reloadPositions();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureChanged(OrgStructureChangedEvent event) {
+        try {
+            switch (event.kind()) {
+                case DEPARTMENT -> reloadDepartments();
+                case POSITION -> reloadPositions();
+                default -> { }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Id index reload after {} change failed: {}", event.kind(), ex.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureImported(OrgStructureImportedEvent event) {
+        try {
+            reloadDepartments();
+        } catch (RuntimeException ex) {
+            log.warn("Id index reload after import failed: {}", ex.getMessage());
+        }
+    }
+
+    private void reloadDepartments() {
+        departments = Set.copyOf(departmentRepository.findAllIds());
+    }
+
+    private void reloadPositions() {
+        positions = Set.copyOf(positionRepository.findAllIds());
+    }
+}
@@ -0,0 +1,158 @@
+package com.khasanshin.organizationservice.infrastructure.cache;
+
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
+import com.khasanshin.organizationservice.domain.model.Position;
+import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.PositionSuggestPort;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryPositionSuggestAdapter implements PositionSuggestPort {
+
+    private static final int GRAM = 3;
+
+    private final PositionRepositoryPort positionRepository;
+
+    private volatile Index index;
+
+    @Override
+    public List<Position> suggest(String q, int limit) {
+        String query = normalize(q);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Index idx = index;
+        if (idx == null) {
+            idx = reload();
+        }
+        record Hit(Entry entry, int rank) {}
+        List<Hit> hits = new ArrayList<>();
+        for (int i : idx.candidates(query)) {
+            Entry e = idx.entries().get(i);
+            int rank = rank(e.key(), query);
+            if (rank >= 0) {
+                hits.add(new Hit(e, rank));
+            }
+        }
+        return hits.stream()
+                .sorted(Comparator.comparingInt(Hit::rank)
+                        .thenComparingInt(h -> h.entry().key().length())
+                        .thenComparing(h -> h.entry().key()))
+                .limit(limit)
+                .map(h -> h.entry().position())
+                .toList();
+    }
+
+    @Scheduled(
+            initialDelayString = "${org.position-suggest.initial-delay:PT0S}",
+            fixedDelayString = "${org.position-suggest.refresh:PT5M}")
+    public void refresh() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureChanged(OrgStructureChangedEvent event) {
+        if (event.kind() != OrgStructureChangedEvent.Kind.POSITION) {
+            return;
+        }
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("Position suggest index reload failed: {}", ex.getMessage());
+        }
+    }
+
+    private Index reload() {
+        Index built = Index.of(positionRepository.findAll());
+        index = built;
+        return built;
+    }
+
+    // 0 - exact, 1 - prefix, 2 - word prefix, 3 - substring, -1 - no match
+    private static int rank(String key, String query) {
+        int at = key.indexOf(query);
+        if (at < 0) {
+            return -1;
+        }
+        if (at == 0) {
+            return key.length() == query.length() ? 0 : 1;
+        }
+        do {
+            if (!Character.isLetterOrDigit(key.charAt(at - 1))) {
+                return 2;
+            }
+            at = key.indexOf(query, at + 1);
+        } while (at > 0);
+        return 3;
+    }
+
+    static String normalize(String s) {
+        return s == null ? "" : s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT).replace('ё', 'е');
+    }
+
+    private static Set<String> grams(String key) {
+        Set<String> out = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= key.length(); i++) {
+            out.add(key.substring(i, i + GRAM));
+        }
+        return out;
+    }
+
+    private record Entry(Position position, String key) {}
+
+    private record Index(List<Entry> entries, Map<String, int[]> postings, int[] all) {
+
+        static Index of(List<Position> positions) {
+            List<Entry> entries = new ArrayList<>(positions.size());
+            Map<String, List<Integer>> lists = new HashMap<>();
+            for (Position p : positions) {
+                Entry e = new Entry(p, normalize(p.getName()));
+                int i = entries.size();
+                entries.add(e);
+                for (String g : grams(e.key())) {
+                    lists.computeIfAbsent(g, k -> new ArrayList<>()).add(i);
+                }
+            }
+            Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+            lists.forEach((g, ids) -> postings.put(g, ids.stream().mapToInt(Integer::intValue).toArray()));
+            int[] all = new int[entries.size()];
+            Arrays.setAll(all, i -> i);
+            return new Index(List.copyOf(entries), Map.copyOf(postings), all);
+        }
+
+        /** Entries holding every trigram of the query (ascending); all entries for queries shorter than a trigram. */
+        int[] candidates(String query) {
+            if (query.length() < GRAM) {
+                return all;
+            }
+            List<int[]> lists = new ArrayList<>();
+            for (String g : grams(query)) {
+                int[] p = postings.get(g);
+                if (p == null) {
+                    return new int[0];
+                }
+                lists.add(p);
+            }
+            lists.sort(Comparator.comparingInt(a -> a.length));
+            int[] smallest = lists.get(0);
+            return Arrays.stream(smallest)
+                    .filter(i -> lists.stream().skip(1).allMatch(p -> Arrays.binarySearch(p, i) >= 0))
+                    .toArray();
+        }
+    }
+}
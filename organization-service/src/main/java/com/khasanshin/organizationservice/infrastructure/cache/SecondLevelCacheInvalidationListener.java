@@ -0,0 +1,53 @@
+package com.khasanshin.organizationservice.infrastructure.cache;
+
+import com.khasanshin.organizationservice.application.OrgChangeSubscriber;
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
+import com.khasanshin.organizationservice.application.OrgStructureImportedEvent;
+import com.khasanshin.organizationservice.entity.Department;
+import com.khasanshin.organizationservice.entity.Faculty;
+import com.khasanshin.organizationservice.entity.Position;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "org.l2-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheInvalidationListener implements OrgChangeSubscriber {
+
+    private static final Map<OrgStructureChangedEvent.Kind, Class<?>> ENTITIES = Map.of(
+            OrgStructureChangedEvent.Kind.FACULTY, Faculty.class,
+            OrgStructureChangedEvent.Kind.DEPARTMENT, Department.class,
+            OrgStructureChangedEvent.Kind.POSITION, Position.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // writes on other instances never reach our update-timestamps region, so query results go as well
+    @Override
+    public void onRemoteChanges(List<OrgStructureChangedEvent> changes) {
+        Cache cache = cache();
+        changes.forEach(c -> cache.evictEntityData(ENTITIES.get(c.kind()), c.entityId()));
+        cache.evictQueryRegions();
+    }
+
+    @Override
+    public void onResync() {
+        cache().evictAllRegions();
+    }
+
+    // the import writes through JDBC, which Hibernate's query cache cannot see
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStructureImported(OrgStructureImportedEvent event) {
+        cache().evictQueryRegions();
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,53 @@
+package com.khasanshin.organizationservice.infrastructure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "org.l2-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    static final List<String> REGIONS =
+            List.of("org.faculty", "org.department", "org.position", "default-query-results-region");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : REGIONS) {
+            FunctionCounter.builder("org.l2cache.requests", stats, s -> count(s, region, CacheRegionStatistics::getHitCount))
+                    .tags("region", region, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("org.l2cache.requests", stats, s -> count(s, region, CacheRegionStatistics::getMissCount))
+                    .tags("region", region, "result", "miss")
+                    .register(registry);
+            Gauge.builder("org.l2cache.hit.ratio", stats, s -> hitRatio(s, region))
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private static double count(Statistics stats, String region, ToDoubleFunction<CacheRegionStatistics> metric) {
+        CacheRegionStatistics r = stats.getCacheRegionStatistics(region);
+        return r == null ? 0 : metric.applyAsDouble(r);
+    }
+
+    private static double hitRatio(Statistics stats, String region) {
+        double hits = count(stats, region, CacheRegionStatistics::getHitCount);
+        double total = hits + count(stats, region, CacheRegionStatistics::getMissCount);
+        return total == 0 ? Double.NaN : hits / total;
+    }
+}
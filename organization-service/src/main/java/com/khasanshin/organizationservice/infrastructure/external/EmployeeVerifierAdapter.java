@@ -2,6 +2,7 @@ package com.khasanshin.organizationservice.infrastructure.external;
 
 import com.khasanshin.organizationservice.domain.port.EmployeeVerifierPort;
 import com.khasanshin.organizationservice.feign.EmployeeVerifier;
+import java.util.Collection;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -16,4 +17,9 @@ public class EmployeeVerifierAdapter implements EmployeeVerifierPort {
     public void ensureEmployeeExists(UUID employeeId) {
         delegate.ensureEmployeeExists(employeeId);
     }
+
+    @Override
+    public void ensureEmployeesExist(Collection<UUID> employeeIds) {
+        delegate.ensureEmployeesExist(employeeIds);
+    }
 }
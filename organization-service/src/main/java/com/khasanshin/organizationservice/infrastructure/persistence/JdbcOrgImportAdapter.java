@@ -0,0 +1,93 @@
+package com.khasanshin.organizationservice.infrastructure.persistence;
+
+import com.khasanshin.organizationservice.domain.model.Department;
+import com.khasanshin.organizationservice.domain.model.Faculty;
+import com.khasanshin.organizationservice.domain.port.OrgImportPort;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcOrgImportAdapter implements OrgImportPort {
+
+    private static final int BATCH = 500;
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+
+    @Override
+    public Set<String> findExistingFacultyCodes(Collection<String> codes) {
+        return existing("select code from faculty where code in (:codes)", codes);
+    }
+
+    @Override
+    public Set<String> findExistingDepartmentCodes(Collection<String> codes) {
+        return existing("select code from department where code in (:codes)", codes);
+    }
+
+    private Set<String> existing(String sql, Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(named.queryForList(sql, Map.of("codes", codes), String.class));
+    }
+
+    @Override
+    public void insert(List<Faculty> faculties, List<Department> departments) {
+        jdbc.batchUpdate("insert into faculty (id, code, name) values (?, ?, ?)", faculties, BATCH, (ps, f) -> {
+            ps.setObject(1, f.getId());
+            ps.setString(2, f.getCode());
+            ps.setString(3, f.getName());
+        });
+        jdbc.batchUpdate("""
+                insert into department (id, faculty_id, parent_id, code, name, head_employee_id, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?)
+                """, departments, BATCH, (ps, d) -> {
+            ps.setObject(1, d.getId());
+            ps.setObject(2, d.getFacultyId());
+            ps.setObject(3, d.getParentId());
+            ps.setString(4, d.getCode());
+            ps.setString(5, d.getName());
+            ps.setObject(6, d.getHeadEmployeeId());
+            ps.setTimestamp(7, Timestamp.from(d.getCreatedAt()));
+            ps.setTimestamp(8, Timestamp.from(d.getUpdatedAt()));
+        });
+        jdbc.batchUpdate(
+                "insert into department_closure (ancestor_id, descendant_id, depth) values (?, ?, ?)",
+                closure(departments), BATCH, (ps, link) -> {
+                    ps.setObject(1, link.ancestor());
+                    ps.setObject(2, link.descendant());
+                    ps.setInt(3, link.depth());
+                });
+    }
+
+    private record Link(UUID ancestor, UUID descendant, int depth) {}
+
+    private static List<Link> closure(List<Department> departments) {
+        Map<UUID, List<Link>> byDescendant = new HashMap<>();
+        List<Link> all = new ArrayList<>();
+        for (Department d : departments) {
+            List<Link> links = new ArrayList<>();
+            links.add(new Link(d.getId(), d.getId(), 0));
+            if (d.getParentId() != null) {
+                for (Link up : byDescendant.get(d.getParentId())) {
+                    links.add(new Link(up.ancestor(), d.getId(), up.depth() + 1));
+                }
+            }
+            byDescendant.put(d.getId(), links);
+            all.addAll(links);
+        }
+        return all;
+    }
+}
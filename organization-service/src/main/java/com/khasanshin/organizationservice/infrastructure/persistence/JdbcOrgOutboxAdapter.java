@@ -0,0 +1,44 @@
+package com.khasanshin.organizationservice.infrastructure.persistence;
+
+import com.khasanshin.organizationservice.domain.port.OrgOutboxPort;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcOrgOutboxAdapter implements OrgOutboxPort {
+
+    private static final long RELAY_LOCK = 0x6f7267L; // "org"
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+
+    @Override
+    public void append(UUID key, String eventType, String payload) {
+        jdbc.update("insert into org_outbox (event_key, event_type, payload) values (?, ?, ?)",
+                key, eventType, payload);
+    }
+
+    @Override
+    public boolean tryLockRelay() {
+        return Boolean.TRUE.equals(jdbc.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK));
+    }
+
+    @Override
+    public List<Entry> findPending(int limit) {
+        return jdbc.query("select id, event_key, payload from org_outbox order by id limit ?",
+                (rs, n) -> new Entry(rs.getLong("id"), rs.getObject("event_key", UUID.class), rs.getString("payload")),
+                limit);
+    }
+
+    @Override
+    public void delete(Collection<Long> ids) {
+        named.update("delete from org_outbox where id in (:ids)", Map.of("ids", ids));
+    }
+}
@@ -0,0 +1,150 @@
+package com.khasanshin.organizationservice.infrastructure.persistence;
+
+import com.khasanshin.organizationservice.domain.model.StaffingAssignment;
+import com.khasanshin.organizationservice.domain.port.StaffingStatsPort;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcStaffingStatsAdapter implements StaffingStatsPort {
+
+    private static final String ASSIGNMENT_COLUMNS =
+            "employment_id, employee_id, department_id, position_id, rate, employee_active";
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+
+    @Override
+    public Optional<StaffingAssignment> lockAssignment(UUID employmentId) {
+        return jdbc.query("select " + ASSIGNMENT_COLUMNS + " from staffing_assignment where employment_id = ? for update",
+                (rs, n) -> toAssignment(rs), employmentId).stream().findFirst();
+    }
+
+    @Override
+    public boolean lockEmployeeActive(UUID employeeId) {
+        return Boolean.TRUE.equals(jdbc.queryForObject("""
+                insert into staffing_employee (employee_id, active) values (?, true)
+                on conflict (employee_id) do update set active = staffing_employee.active
+                returning active
+                """, Boolean.class, employeeId));
+    }
+
+    @Override
+    public void saveEmployeesActive(Collection<UUID> employeeIds, boolean active) {
+        named.update("""
+                insert into staffing_employee (employee_id, active)
+                select id, :active from unnest(cast(:ids as uuid[])) as id order by id
+                on conflict (employee_id) do update set active = excluded.active
+                """, new MapSqlParameterSource()
+                .addValue("ids", employeeIds.toArray(UUID[]::new))
+                .addValue("active", active));
+    }
+
+    @Override
+    public void saveAssignment(StaffingAssignment a) {
+        jdbc.update("""
+                insert into staffing_assignment (employment_id, employee_id, department_id, position_id, rate, employee_active)
+                values (?, ?, ?, ?, ?, ?)
+                on conflict (employment_id) do update
+                   set employee_id = excluded.employee_id,
+                       department_id = excluded.department_id,
+                       position_id = excluded.position_id,
+                       rate = excluded.rate,
+                       employee_active = excluded.employee_active
+                """, a.getEmploymentId(), a.getEmployeeId(), a.getDepartmentId(), a.getPositionId(), a.getRate(),
+                a.isEmployeeActive());
+    }
+
+    @Override
+    public void deleteAssignment(UUID employmentId) {
+        jdbc.update("delete from staffing_assignment where employment_id = ?", employmentId);
+    }
+
+    @Override
+    public List<StaffingAssignment> setEmployeesActive(Collection<UUID> employeeIds, boolean active) {
+        return named.query("""
+                update staffing_assignment set employee_active = :active
+                 where employee_id in (:ids) and employee_active <> :active
+                returning\s""" + ASSIGNMENT_COLUMNS,
+                new MapSqlParameterSource().addValue("ids", employeeIds).addValue("active", active),
+                (rs, n) -> toAssignment(rs));
+    }
+
+    @Override
+    public List<StaffingAssignment> deleteByEmployees(Collection<UUID> employeeIds) {
+        return named.query("delete from staffing_assignment where employee_id in (:ids) returning " + ASSIGNMENT_COLUMNS,
+                Map.of("ids", employeeIds), (rs, n) -> toAssignment(rs));
+    }
+
+    @Override
+    public void adjust(Collection<Delta> deltas) {
+        jdbc.batchUpdate("""
+                insert into staffing_counter (department_id, position_id, headcount, fte)
+                values (?, ?, ?, ?)
+                on conflict (department_id, position_id) do update
+                   set headcount = staffing_counter.headcount + excluded.headcount,
+                       fte = staffing_counter.fte + excluded.fte
+                """, deltas, deltas.size(), (ps, d) -> {
+            ps.setObject(1, d.departmentId());
+            ps.setObject(2, d.positionId());
+            ps.setInt(3, d.headcount());
+            ps.setBigDecimal(4, d.fte());
+        });
+    }
+
+    @Override
+    public void setPlanned(UUID departmentId, UUID positionId, BigDecimal plannedFte) {
+        jdbc.update("""
+                insert into staffing_counter (department_id, position_id, planned_fte)
+                values (?, ?, ?)
+                on conflict (department_id, position_id) do update set planned_fte = excluded.planned_fte
+                """, departmentId, positionId, plannedFte);
+    }
+
+    @Override
+    public List<DepartmentTotals> findDepartmentTotals(UUID facultyId) {
+        String sql = """
+                select d.id, d.faculty_id,
+                       coalesce(sum(c.headcount), 0) as headcount,
+                       coalesce(sum(c.fte), 0) as fte,
+                       coalesce(sum(c.planned_fte), 0) as planned_fte,
+                       coalesce(sum(greatest(c.planned_fte - c.fte, 0)), 0) as open_fte
+                  from department d
+                  left join staffing_counter c on c.department_id = d.id
+                """ + (facultyId != null ? " where d.faculty_id = ?" : "") + """
+                 group by d.id, d.faculty_id
+                 order by d.faculty_id, d.id
+                """;
+        Object[] args = facultyId != null ? new Object[] {facultyId} : new Object[0];
+        return jdbc.query(sql, (rs, n) -> new DepartmentTotals(
+                rs.getObject("id", UUID.class),
+                rs.getObject("faculty_id", UUID.class),
+                rs.getLong("headcount"),
+                rs.getBigDecimal("fte"),
+                rs.getBigDecimal("planned_fte"),
+                rs.getBigDecimal("open_fte")), args);
+    }
+
+    private static StaffingAssignment toAssignment(ResultSet rs) throws SQLException {
+        return StaffingAssignment.builder()
+                .employmentId(rs.getObject("employment_id", UUID.class))
+                .employeeId(rs.getObject("employee_id", UUID.class))
+                .departmentId(rs.getObject("department_id", UUID.class))
+                .positionId(rs.getObject("position_id", UUID.class))
+                .rate(rs.getBigDecimal("rate"))
+                .employeeActive(rs.getBoolean("employee_active"))
+                .build();
+    }
+}
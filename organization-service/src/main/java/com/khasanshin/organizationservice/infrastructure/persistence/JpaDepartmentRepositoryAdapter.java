@@ -3,7 +3,13 @@ package com.khasanshin.organizationservice.infrastructure.persistence;
 import com.khasanshin.organizationservice.domain.model.Department;
 import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
 import com.khasanshin.organizationservice.repository.DepartmentRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -33,7 +39,7 @@ public class JpaDepartmentRepositoryAdapter implements DepartmentRepositoryPort
 
     @Override
     public boolean existsById(UUID id) {
-        return repository.existsById(id);
+        return repository.findById(id).isPresent();
     }
 
     @Override
@@ -42,8 +48,76 @@ public class JpaDepartmentRepositoryAdapter implements DepartmentRepositoryPort
     }
 
     @Override
-    public int clearHeadByEmployeeId(UUID employeeId) {
-        return repository.clearHeadByEmployeeId(employeeId);
+    public List<Department> findAll() {
+        return repository.findAll().stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<UUID> findAllIds() {
+        return repository.findAllIds();
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        return repository.findExistingIds(ids);
+    }
+
+    @Override
+    public int clearHeadByEmployeeIds(Collection<UUID> employeeIds) {
+        return repository.clearHeadByEmployeeIds(employeeIds);
+    }
+
+    @Override
+    public List<Department> findByHeadEmployeeIds(Collection<UUID> employeeIds) {
+        return repository.findByHeadEmployeeIn(employeeIds).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public boolean hasChildren(UUID id) {
+        return repository.existsByParent(id);
+    }
+
+    @Override
+    public void linkToParent(UUID id, UUID parentId) {
+        repository.flush();
+        if (parentId == null) {
+            repository.insertSelfClosure(id);
+        } else {
+            repository.insertClosure(id, parentId);
+        }
+    }
+
+    @Override
+    public void moveSubtree(UUID id, UUID parentId) {
+        repository.flush();
+        repository.detachSubtree(id);
+        if (parentId != null) {
+            repository.attachSubtree(id, parentId);
+        }
+    }
+
+    @Override
+    public boolean isInSubtree(UUID rootId, UUID id) {
+        return repository.isInSubtree(rootId, id);
+    }
+
+    @Override
+    public List<Department> findSubtree(UUID id, int minDepth, int maxDepth) {
+        return repository.findSubtree(id, minDepth, maxDepth).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<Department> findAncestors(UUID id) {
+        return repository.findAncestors(id).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public Map<UUID, Set<UUID>> findAncestorIds() {
+        Map<UUID, Set<UUID>> out = new HashMap<>();
+        for (Object[] link : repository.findAncestorLinks()) {
+            out.computeIfAbsent((UUID) link[1], k -> new HashSet<>()).add((UUID) link[0]);
+        }
+        return out;
     }
 
     private Department toDomain(com.khasanshin.organizationservice.entity.Department e) {
@@ -52,6 +126,7 @@ public class JpaDepartmentRepositoryAdapter implements DepartmentRepositoryPort
                 .code(e.getCode())
                 .name(e.getName())
                 .facultyId(e.getFaculty())
+                .parentId(e.getParent())
                 .headEmployeeId(e.getHeadEmployee())
                 .createdAt(e.getCreatedAt())
                 .updatedAt(e.getUpdatedAt())
@@ -64,6 +139,7 @@ public class JpaDepartmentRepositoryAdapter implements DepartmentRepositoryPort
                 .code(d.getCode())
                 .name(d.getName())
                 .faculty(d.getFacultyId())
+                .parent(d.getParentId())
                 .headEmployee(d.getHeadEmployeeId())
                 .createdAt(d.getCreatedAt())
                 .updatedAt(d.getUpdatedAt())
@@ -3,6 +3,7 @@ package com.khasanshin.organizationservice.infrastructure.persistence;
 import com.khasanshin.organizationservice.domain.model.Faculty;
 import com.khasanshin.organizationservice.domain.port.FacultyRepositoryPort;
 import com.khasanshin.organizationservice.repository.FacultyRepository;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +19,8 @@ public class JpaFacultyRepositoryAdapter implements FacultyRepositoryPort {
 
     @Override
     public boolean existsById(UUID id) {
-        return repository.existsById(id);
+        // entity lookup is served from the second-level cache, a count query is not
+        return repository.findById(id).isPresent();
     }
 
     @Override
@@ -41,6 +43,11 @@ public class JpaFacultyRepositoryAdapter implements FacultyRepositoryPort {
         return repository.findAll(pageable).map(this::toDomain);
     }
 
+    @Override
+    public List<Faculty> findAll() {
+        return repository.findAll().stream().map(this::toDomain).toList();
+    }
+
     private Faculty toDomain(com.khasanshin.organizationservice.entity.Faculty e) {
         return Faculty.builder()
                 .id(e.getId())
@@ -3,6 +3,8 @@ package com.khasanshin.organizationservice.infrastructure.persistence;
 import com.khasanshin.organizationservice.domain.model.Position;
 import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
 import com.khasanshin.organizationservice.repository.PositionRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +25,7 @@ public class JpaPositionRepositoryAdapter implements PositionRepositoryPort {
 
     @Override
     public boolean existsById(UUID id) {
-        return repository.existsById(id);
+        return repository.findById(id).isPresent();
     }
 
     @Override
@@ -46,6 +48,21 @@ public class JpaPositionRepositoryAdapter implements PositionRepositoryPort {
         return repository.findAll(pageable).map(this::toDomain);
     }
 
+    @Override
+    public List<Position> findAll() {
+        return repository.findAll().stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<UUID> findAllIds() {
+        return repository.findAllIds();
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        return repository.findExistingIds(ids);
+    }
+
     @Override
     public Page<Position> findByNameContainingIgnoreCase(String q, Pageable pageable) {
         return repository.findByNameContainingIgnoreCase(q, pageable).map(this::toDomain);
@@ -13,6 +13,7 @@ public interface DepartmentMapper {
 
   @Mapping(target = "id", ignore = true)
   @Mapping(target = "facultyId", source = "facultyId")
+  @Mapping(target = "parentId", source = "parentId")
   @Mapping(target = "headEmployeeId", source = "headEmployeeId")
   @Mapping(target = "createdAt", ignore = true)
   @Mapping(target = "updatedAt", ignore = true)
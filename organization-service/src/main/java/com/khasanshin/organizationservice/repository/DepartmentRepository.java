@@ -1,15 +1,107 @@
 package com.khasanshin.organizationservice.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import com.khasanshin.organizationservice.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface DepartmentRepository extends JpaRepository<Department, UUID> {
+
+  // native writes touch only the closure table; without declared spaces Hibernate would drop every cache region
+  String CLOSURE = "department_closure";
+
+  @Modifying
+  @Query("update Department d set d.headEmployee = null where d.headEmployee in :employeeIds")
+  int clearHeadByEmployeeIds(@Param("employeeIds") Collection<UUID> employeeIds);
+
+  List<Department> findByHeadEmployeeIn(Collection<UUID> employeeIds);
+
+  boolean existsByParent(UUID parent);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CLOSURE))
+  @Query(value = """
+      insert into department_closure (ancestor_id, descendant_id, depth)
+      select ancestor_id, :id, depth + 1 from department_closure where descendant_id = :parent
+      union all
+      select :id, :id, 0
+      """, nativeQuery = true)
+  void insertClosure(@Param("id") UUID id, @Param("parent") UUID parent);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CLOSURE))
+  @Query(value = "insert into department_closure (ancestor_id, descendant_id, depth) values (:id, :id, 0)",
+      nativeQuery = true)
+  void insertSelfClosure(@Param("id") UUID id);
+
+  // drop every link from an ancestor outside the subtree to a node inside it
   @Modifying
-  @Query("update Department d set d.headEmployee = null where d.headEmployee = :employeeId")
-  int clearHeadByEmployeeId(@Param("employeeId") UUID employeeId);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CLOSURE))
+  @Query(value = """
+      delete from department_closure
+       where descendant_id in (select descendant_id from department_closure where ancestor_id = :id)
+         and ancestor_id not in (select descendant_id from department_closure where ancestor_id = :id)
+      """, nativeQuery = true)
+  void detachSubtree(@Param("id") UUID id);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CLOSURE))
+  @Query(value = """
+      insert into department_closure (ancestor_id, descendant_id, depth)
+      select a.ancestor_id, s.descendant_id, a.depth + s.depth + 1
+        from department_closure a
+        join department_closure s on s.ancestor_id = :id
+       where a.descendant_id = :parent
+      """, nativeQuery = true)
+  void attachSubtree(@Param("id") UUID id, @Param("parent") UUID parent);
+
+  @Query(value = """
+      select exists(select 1 from department_closure where ancestor_id = :ancestor and descendant_id = :descendant)
+      """, nativeQuery = true)
+  boolean isInSubtree(@Param("ancestor") UUID ancestor, @Param("descendant") UUID descendant);
+
+  @Query(value = """
+      select d.* from department d
+        join department_closure c on c.descendant_id = d.id
+       where c.ancestor_id = :id and c.depth between :minDepth and :maxDepth
+       order by c.depth, d.name
+      """, nativeQuery = true)
+  List<Department> findSubtree(
+      @Param("id") UUID id, @Param("minDepth") int minDepth, @Param("maxDepth") int maxDepth);
+
+  @Query(value = """
+      select d.* from department d
+        join department_closure c on c.ancestor_id = d.id
+       where c.descendant_id = :id and c.depth > 0
+       order by c.depth
+      """, nativeQuery = true)
+  List<Department> findAncestors(@Param("id") UUID id);
+
+  @Query(value = "select ancestor_id, descendant_id from department_closure where depth > 0", nativeQuery = true)
+  List<Object[]> findAncestorLinks();
+
+  @Override
+  @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
+  Page<Department> findAll(Pageable pageable);
+
+  @Override
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Department> findAll();
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("select d.id from Department d")
+  List<UUID> findAllIds();
+
+  @Query("select d.id from Department d where d.id in :ids")
+  List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -1,8 +1,23 @@
 package com.khasanshin.organizationservice.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import com.khasanshin.organizationservice.entity.Faculty;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface FacultyRepository extends JpaRepository<Faculty, UUID> {}
+public interface FacultyRepository extends JpaRepository<Faculty, UUID> {
+
+  @Override
+  @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
+  Page<Faculty> findAll(Pageable pageable);
+
+  @Override
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Faculty> findAll();
+}
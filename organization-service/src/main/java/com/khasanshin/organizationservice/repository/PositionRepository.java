@@ -1,16 +1,39 @@
 package com.khasanshin.organizationservice.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import com.khasanshin.organizationservice.entity.Position;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface PositionRepository extends JpaRepository<Position, UUID> {
 
   boolean existsByNameIgnoreCase(String name);
 
+  @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
   Page<Position> findByNameContainingIgnoreCase(
       String q, Pageable pageable);
+
+  @Override
+  @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
+  Page<Position> findAll(Pageable pageable);
+
+  @Override
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<Position> findAll();
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("select p.id from Position p")
+  List<UUID> findAllIds();
+
+  @Query("select p.id from Position p where p.id in :ids")
+  List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
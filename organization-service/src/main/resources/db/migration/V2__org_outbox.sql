@@ -0,0 +1,7 @@
+create table org_outbox (
+                            id bigserial primary key,
+                            event_key uuid not null,
+                            event_type varchar(64) not null,
+                            payload text not null,
+                            created_at timestamptz not null default now()
+);
@@ -0,0 +1,16 @@
+alter table department
+    add column parent_id uuid null references department (id);
+
+create index department_parent_idx on department (parent_id);
+
+create table department_closure (
+                                    ancestor_id uuid not null references department (id) on delete cascade,
+                                    descendant_id uuid not null references department (id) on delete cascade,
+                                    depth int not null,
+                                    primary key (ancestor_id, descendant_id)
+);
+
+create index department_closure_descendant_idx on department_closure (descendant_id, depth);
+
+insert into department_closure (ancestor_id, descendant_id, depth)
+select id, id, 0 from department;
@@ -0,0 +1,2 @@
+create index department_head_employee_idx on department (head_employee_id)
+    where head_employee_id is not null;
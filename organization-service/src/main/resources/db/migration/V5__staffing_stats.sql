@@ -0,0 +1,23 @@
+-- read model fed by employment.events and employee.events; never joined against employment-service
+
+-- one row per active employment, so that repeated or reordered events can be diffed instead of double counted
+create table staffing_assignment (
+    employment_id   uuid primary key,
+    employee_id     uuid not null,
+    department_id   uuid not null,
+    position_id     uuid not null,
+    rate            numeric(5,2) not null,
+    employee_active boolean not null default true
+);
+
+create index staffing_assignment_employee_idx on staffing_assignment (employee_id);
+
+-- counters only include assignments of active employees
+create table staffing_counter (
+    department_id uuid not null,
+    position_id   uuid not null,
+    headcount     integer not null default 0,
+    fte           numeric(10,2) not null default 0,
+    planned_fte   numeric(10,2) not null default 0,
+    primary key (department_id, position_id)
+);
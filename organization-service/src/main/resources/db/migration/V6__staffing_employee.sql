@@ -0,0 +1,11 @@
+-- last known status per employee from employee.events; assignments take their employee_active from here
+
+create table staffing_employee (
+    employee_id uuid primary key,
+    active      boolean not null
+);
+
+insert into staffing_employee (employee_id, active)
+select employee_id, bool_and(employee_active)
+  from staffing_assignment
+ group by employee_id;
@@ -0,0 +1,75 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.domain.model.Department;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
+import com.khasanshin.organizationservice.event.OrgEventFanOutListener;
+import com.khasanshin.organizationservice.infrastructure.cache.InMemoryDepartmentAncestryAdapter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentAncestryTest {
+
+  @Mock DepartmentRepositoryPort departmentRepository;
+
+  InMemoryDepartmentAncestryAdapter ancestry;
+  OrgEventFanOutListener listener;
+
+  final UUID child = UUID.randomUUID();
+  final UUID oldParent = UUID.randomUUID();
+  final UUID newParent = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    ancestry = new InMemoryDepartmentAncestryAdapter(departmentRepository);
+    when(departmentRepository.findAncestorIds()).thenReturn(Map.of(child, Set.of(oldParent)));
+    ancestry.refresh();
+    listener = new OrgEventFanOutListener(List.of(ancestry), new ObjectMapper());
+  }
+
+  @Test
+  void moveOnAnotherInstance_reloadsFromOrgEvents() {
+    when(departmentRepository.findAncestorIds()).thenReturn(Map.of(child, Set.of(newParent)));
+
+    listener.onOrgEvents(List.of("""
+        {"eventType":"DEPARTMENT_UPDATED","entityType":"DEPARTMENT","entityId":"%s"}
+        """.formatted(child)));
+
+    assertEquals(Set.of(newParent), ancestry.ancestorsOf(child));
+  }
+
+  @Test
+  void headChangesAndOtherEntities_doNotReload() {
+    listener.onOrgEvents(List.of(
+        """
+        {"eventType":"DEPARTMENT_HEAD_CHANGED","entityType":"DEPARTMENT","entityId":"%s"}
+        """.formatted(child),
+        """
+        {"eventType":"POSITION_CREATED","entityType":"POSITION","entityId":"%s"}
+        """.formatted(UUID.randomUUID())));
+
+    verify(departmentRepository, times(1)).findAncestorIds();
+  }
+
+  @Test
+  void failedReload_answersFromDatabaseInsteadOfStaleIndex() {
+    when(departmentRepository.findAncestorIds()).thenThrow(new IllegalStateException("db down"));
+    when(departmentRepository.findAncestors(child))
+        .thenReturn(List.of(Department.builder().id(newParent).build()));
+
+    listener.onOrgEvents(List.of("not json"));
+
+    assertEquals(Set.of(newParent), ancestry.ancestorsOf(child));
+  }
+}
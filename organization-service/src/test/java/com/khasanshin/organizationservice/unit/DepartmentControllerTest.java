@@ -99,6 +99,26 @@ class DepartmentControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void subtree_200_withParentIds() throws Exception {
+        var root = UUID.randomUUID();
+        var lab = DepartmentDto.builder().id(UUID.randomUUID()).parentId(root).name("Lab").build();
+        when(service.subtree(root, 2)).thenReturn(List.of(DepartmentDto.builder().id(root).build(), lab));
+
+        mvc.perform(get("/api/v1/departments/{id}/subtree", root).param("max_depth", "2").with(asEmployee()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].parent_id").value(root.toString()));
+    }
+
+    @Test
+    void move_cycle_400() throws Exception {
+        when(service.move(any(), any())).thenThrow(new IllegalArgumentException("cycle"));
+
+        mvc.perform(put("/api/v1/departments/{id}/parent/{parentId}", UUID.randomUUID(), UUID.randomUUID())
+                        .with(asOrgAdmin()))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void create_201() throws Exception {
         UUID facultyId = UUID.randomUUID();
@@ -168,6 +188,19 @@ class DepartmentControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    void clearHeadByEmployees_204_withAffectedCount() throws Exception {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(service.clearHeadByEmployees(ids)).thenReturn(1);
+
+        mvc.perform(post("/api/v1/departments/head/by-employees/clear")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(ids))
+                        .with(asOrgAdmin()))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("X-Affected-Count", "1"));
+    }
+
     @Test
     void head_exists_200_and_notExists_404() throws Exception {
         UUID existing = UUID.randomUUID();
@@ -177,7 +210,8 @@ class DepartmentControllerTest {
         when(service.exists(missing)).thenReturn(false);
 
         mvc.perform(head("/api/v1/departments/{id}", existing).with(asEmployee()))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=30"));
 
         mvc.perform(head("/api/v1/departments/{id}", missing).with(asEmployee()))
                 .andExpect(status().isNotFound());
@@ -5,13 +5,16 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.khasanshin.organizationservice.application.DepartmentApplicationService;
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
 import com.khasanshin.organizationservice.domain.model.Department;
 import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
 import com.khasanshin.organizationservice.domain.port.EmployeeVerifierPort;
 import com.khasanshin.organizationservice.domain.port.FacultyRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
 import com.khasanshin.organizationservice.dto.CreateDepartmentDto;
 import com.khasanshin.organizationservice.dto.DepartmentDto;
 import com.khasanshin.organizationservice.dto.UpdateDepartmentDto;
+import com.khasanshin.organizationservice.infrastructure.cache.InMemoryOrgIdIndexAdapter;
 import com.khasanshin.organizationservice.mapper.DepartmentMapper;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.*;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,12 +34,17 @@ class DepartmentServiceTest {
   @Mock FacultyRepositoryPort facultyRepository;
   @Mock DepartmentMapper mapper;
   @Mock EmployeeVerifierPort employeeVerifier;
+  @Mock ApplicationEventPublisher events;
+  @Mock PositionRepositoryPort positionRepository;
+
+  InMemoryOrgIdIndexAdapter idIndex;
 
   DepartmentApplicationService service;
 
   @BeforeEach
   void setUp() {
-    service = new DepartmentApplicationService(departmentRepository, mapper, facultyRepository, employeeVerifier);
+    idIndex = new InMemoryOrgIdIndexAdapter(departmentRepository, positionRepository);
+    service = new DepartmentApplicationService(departmentRepository, mapper, facultyRepository, employeeVerifier, events, idIndex);
   }
 
   @Test
@@ -89,6 +98,43 @@ class DepartmentServiceTest {
     service.delete(id);
 
     verify(departmentRepository).delete(dep.toBuilder().headEmployeeId(null).build());
+    verify(events).publishEvent(new OrgStructureChangedEvent(
+        OrgStructureChangedEvent.Kind.DEPARTMENT, OrgStructureChangedEvent.Change.DELETED, id, null));
+  }
+
+  @Test
+  void clearHeadByEmployees_emptyList_skipsUpdate() {
+    assertEquals(0, service.clearHeadByEmployees(List.of()));
+    verify(departmentRepository, never()).clearHeadByEmployeeIds(any());
+  }
+
+  @Test
+  void clearHeadByEmployees_noHeads_onlyIndexedLookup() {
+    List<UUID> ids = List.of(UUID.randomUUID());
+    when(departmentRepository.findByHeadEmployeeIds(ids)).thenReturn(List.of());
+
+    assertEquals(0, service.clearHeadByEmployees(ids));
+    verify(departmentRepository, never()).clearHeadByEmployeeIds(any());
+    verifyNoInteractions(events);
+  }
+
+  @Test
+  void exists_beforeFirstIndexLoad_fallsBackToDatabase() {
+    UUID id = UUID.randomUUID();
+    when(departmentRepository.existsById(id)).thenReturn(false);
+
+    assertFalse(service.exists(id));
+  }
+
+  @Test
+  void exists_hitsIdIndex_withoutDatabase() {
+    UUID id = UUID.randomUUID();
+    when(departmentRepository.findAllIds()).thenReturn(List.of(id));
+    when(positionRepository.findAllIds()).thenReturn(List.of());
+    idIndex.refresh();
+
+    assertTrue(service.exists(id));
+    verify(departmentRepository, never()).existsById(any());
   }
 
   @Test
@@ -103,4 +149,94 @@ class DepartmentServiceTest {
     Sort sort = captor.getValue().getSort();
     assertEquals(Sort.by(Sort.Order.asc("name")), sort);
   }
+
+  @Test
+  void create_withParent_sameFaculty_linksClosure() {
+    UUID faculty = UUID.randomUUID();
+    UUID parent = UUID.randomUUID();
+    CreateDepartmentDto dto = CreateDepartmentDto.builder()
+            .name("Lab").code("L1").facultyId(faculty).parentId(parent).build();
+    Department toSave = Department.builder().name("Lab").code("L1").facultyId(faculty).parentId(parent).build();
+    Department saved = toSave.toBuilder().id(UUID.randomUUID()).build();
+
+    when(facultyRepository.existsById(faculty)).thenReturn(true);
+    when(departmentRepository.findById(parent))
+            .thenReturn(Optional.of(Department.builder().id(parent).facultyId(faculty).build()));
+    when(mapper.toDomain(dto)).thenReturn(toSave);
+    when(departmentRepository.save(toSave)).thenReturn(saved);
+
+    service.create(dto);
+
+    verify(departmentRepository).linkToParent(saved.getId(), parent);
+  }
+
+  @Test
+  void create_parentFromOtherFaculty_rejected() {
+    UUID faculty = UUID.randomUUID();
+    UUID parent = UUID.randomUUID();
+    CreateDepartmentDto dto = CreateDepartmentDto.builder()
+            .name("Lab").code("L1").facultyId(faculty).parentId(parent).build();
+    when(facultyRepository.existsById(faculty)).thenReturn(true);
+    when(departmentRepository.findById(parent))
+            .thenReturn(Optional.of(Department.builder().id(parent).facultyId(UUID.randomUUID()).build()));
+
+    assertThrows(IllegalArgumentException.class, () -> service.create(dto));
+    verify(departmentRepository, never()).save(any());
+  }
+
+  @Test
+  void move_intoOwnSubtree_rejected() {
+    UUID id = UUID.randomUUID();
+    UUID nested = UUID.randomUUID();
+    when(departmentRepository.findById(id)).thenReturn(Optional.of(Department.builder().id(id).build()));
+    when(departmentRepository.isInSubtree(id, nested)).thenReturn(true);
+
+    assertThrows(IllegalArgumentException.class, () -> service.move(id, nested));
+    verify(departmentRepository, never()).moveSubtree(any(), any());
+  }
+
+  @Test
+  void move_rehangsSubtree_andPublishesUpdate() {
+    UUID faculty = UUID.randomUUID();
+    UUID id = UUID.randomUUID();
+    UUID parent = UUID.randomUUID();
+    Department dep = Department.builder().id(id).facultyId(faculty).build();
+    Department moved = dep.toBuilder().parentId(parent).build();
+    when(departmentRepository.findById(id)).thenReturn(Optional.of(dep));
+    when(departmentRepository.findById(parent))
+            .thenReturn(Optional.of(Department.builder().id(parent).facultyId(faculty).build()));
+    when(departmentRepository.save(moved)).thenReturn(moved);
+
+    service.move(id, parent);
+
+    verify(departmentRepository).moveSubtree(id, parent);
+    ArgumentCaptor<OrgStructureChangedEvent> event = ArgumentCaptor.forClass(OrgStructureChangedEvent.class);
+    verify(events).publishEvent(event.capture());
+    assertEquals(OrgStructureChangedEvent.Change.UPDATED, event.getValue().change());
+  }
+
+  @Test
+  void delete_withSubDepartments_conflict() {
+    UUID id = UUID.randomUUID();
+    when(departmentRepository.findById(id)).thenReturn(Optional.of(Department.builder().id(id).build()));
+    when(departmentRepository.hasChildren(id)).thenReturn(true);
+
+    assertThrows(org.springframework.dao.DataIntegrityViolationException.class, () -> service.delete(id));
+    verify(departmentRepository, never()).delete(any());
+  }
+
+  @Test
+  void subtree_isSingleQuery_andMissingRootIs404() {
+    UUID id = UUID.randomUUID();
+    Department root = Department.builder().id(id).build();
+    Department child = Department.builder().id(UUID.randomUUID()).parentId(id).build();
+    when(departmentRepository.findSubtree(id, 0, 2)).thenReturn(List.of(root, child));
+    when(mapper.toDto(any(Department.class))).thenReturn(DepartmentDto.builder().build());
+
+    assertEquals(2, service.subtree(id, 2).size());
+
+    UUID missing = UUID.randomUUID();
+    when(departmentRepository.findSubtree(missing, 0, Integer.MAX_VALUE)).thenReturn(List.of());
+    assertThrows(EntityNotFoundException.class, () -> service.subtree(missing, null));
+  }
 }
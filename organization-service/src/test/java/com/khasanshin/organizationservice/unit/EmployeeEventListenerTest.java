@@ -0,0 +1,101 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.application.DepartmentUseCase;
+import com.khasanshin.organizationservice.application.StaffingStatsUseCase;
+import com.khasanshin.organizationservice.event.EmployeeEventListener;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeEventListenerTest {
+
+  @Mock DepartmentUseCase departments;
+  @Mock StaffingStatsUseCase stats;
+
+  EmployeeEventListener listener;
+
+  @BeforeEach
+  void setUp() {
+    listener = new EmployeeEventListener(departments, stats, new ObjectMapper());
+  }
+
+  @Test
+  void fired_clearsHeadOfEntity() {
+    UUID id = UUID.randomUUID();
+
+    listener.onEmployeeEvent("""
+        {"eventType":"EMPLOYEE_FIRED","entityId":"%s","payload":{"status":"FIRED"}}
+        """.formatted(id));
+
+    verify(departments).clearHeadByEmployees(List.of(id));
+    verify(stats).employeesDeactivated(List.of(id));
+  }
+
+  @Test
+  void deleted_dropsStaffingAssignments() {
+    UUID id = UUID.randomUUID();
+
+    listener.onEmployeeEvent("""
+        {"eventType":"EMPLOYEE_DELETED","entityId":"%s","payload":{"id":"%s"}}
+        """.formatted(id, id));
+
+    verify(departments).clearHeadByEmployees(List.of(id));
+    verify(stats).employeesDeleted(List.of(id));
+  }
+
+  @Test
+  void bulkActivated_countsAgain_withoutTouchingHeads() {
+    UUID a = UUID.randomUUID();
+
+    listener.onEmployeeEvent("""
+        {"eventType":"EMPLOYEES_ACTIVATED","payload":{"employeeIds":["%s"]}}
+        """.formatted(a));
+
+    verify(stats).employeesActivated(List.of(a));
+    verifyNoInteractions(departments);
+  }
+
+  @Test
+  void bulkFired_clearsHeadsOfBatch() {
+    UUID a = UUID.randomUUID();
+    UUID b = UUID.randomUUID();
+
+    listener.onEmployeeEvent("""
+        {"eventType":"EMPLOYEES_FIRED","payload":{"employeeIds":["%s","%s"]}}
+        """.formatted(a, b));
+
+    verify(departments).clearHeadByEmployees(List.of(a, b));
+  }
+
+  @Test
+  void created_recordsStatusOnly() {
+    UUID id = UUID.randomUUID();
+
+    listener.onEmployeeEvent("""
+        {"eventType":"EMPLOYEE_CREATED","entityId":"%s","payload":{"status":"ACTIVE"}}
+        """.formatted(id));
+
+    verify(stats).employeesActivated(List.of(id));
+    verifyNoInteractions(departments);
+  }
+
+  @Test
+  void otherEventsAndGarbage_ignored() {
+    listener.onEmployeeEvent("""
+        {"eventType":"EMPLOYEE_UPDATED","entityId":"%s"}
+        """.formatted(UUID.randomUUID()));
+    listener.onEmployeeEvent("not json");
+
+    verify(departments, never()).clearHeadByEmployees(any());
+    verifyNoInteractions(stats);
+  }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.util.List;
@@ -33,12 +34,14 @@ public class FacultyServiceTest {
     FacultyRepositoryPort facultyRepository;
     @Mock
     FacultyMapper mapper;
+    @Mock
+    ApplicationEventPublisher events;
 
     FacultyApplicationService service;
 
     @BeforeEach
     void setUp() {
-        service = new FacultyApplicationService(facultyRepository, mapper);
+        service = new FacultyApplicationService(facultyRepository, mapper, events);
     }
 
     @Test
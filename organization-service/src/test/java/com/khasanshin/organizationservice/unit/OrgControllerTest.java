@@ -0,0 +1,140 @@
+package com.khasanshin.organizationservice.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.application.OrgExistenceUseCase;
+import com.khasanshin.organizationservice.application.OrgImportUseCase;
+import com.khasanshin.organizationservice.application.OrgTreeUseCase;
+import com.khasanshin.organizationservice.controller.OrgController;
+import com.khasanshin.organizationservice.dto.DepartmentNodeDto;
+import com.khasanshin.organizationservice.dto.FacultyNodeDto;
+import com.khasanshin.organizationservice.dto.OrgExistsResponseDto;
+import com.khasanshin.organizationservice.dto.OrgImportResultDto;
+import com.khasanshin.organizationservice.dto.OrgTreeDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = OrgController.class)
+@Import(com.khasanshin.organizationservice.exception.GlobalExceptionHandler.class)
+class OrgControllerTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper mapper;
+
+    @MockitoBean OrgTreeUseCase service;
+    @MockitoBean OrgExistenceUseCase existence;
+    @MockitoBean OrgImportUseCase importer;
+
+    @MockitoBean
+    JwtDecoder jwtDecoder;
+
+    private static RequestPostProcessor asEmployee() {
+        return SecurityMockMvcRequestPostProcessors
+                .jwt()
+                .authorities(new SimpleGrantedAuthority("EMPLOYEE"))
+                .jwt(jwt -> jwt.claim("roles", List.of("EMPLOYEE")));
+    }
+
+    private static RequestPostProcessor asOrgAdmin() {
+        return SecurityMockMvcRequestPostProcessors
+                .jwt()
+                .authorities(new SimpleGrantedAuthority("ORG_ADMIN"))
+                .jwt(jwt -> jwt.claim("roles", List.of("ORG_ADMIN")));
+    }
+
+    private OrgTreeUseCase.Snapshot snapshot() {
+        var dep = DepartmentNodeDto.builder().id(UUID.randomUUID()).code("D1").name("Dep").build();
+        var fac = FacultyNodeDto.builder().id(UUID.randomUUID()).code("F1").name("Fac").departments(List.of(dep)).build();
+        return new OrgTreeUseCase.Snapshot(
+                OrgTreeDto.builder().faculties(List.of(fac)).positions(List.of()).build(), "\"abc\"");
+    }
+
+    @Test
+    void tree_200_withStrongEtag() throws Exception {
+        when(service.tree()).thenReturn(snapshot());
+
+        mvc.perform(get("/api/v1/org/tree").with(asEmployee()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(jsonPath("$.faculties[0].code").value("F1"))
+                .andExpect(jsonPath("$.faculties[0].departments[0].code").value("D1"));
+    }
+
+    @Test
+    void tree_304_whenEtagMatches() throws Exception {
+        when(service.tree()).thenReturn(snapshot());
+
+        mvc.perform(get("/api/v1/org/tree").header("If-None-Match", "\"abc\"").with(asEmployee()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void exists_returnsMissingIds() throws Exception {
+        UUID missingDep = UUID.randomUUID();
+        when(existence.exists(any())).thenReturn(OrgExistsResponseDto.builder()
+                .missingDepartmentIds(Set.of(missingDep))
+                .missingPositionIds(Set.of())
+                .build());
+
+        mvc.perform(post("/api/v1/org/exists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsBytes(Map.of(
+                                "department_ids", List.of(missingDep, UUID.randomUUID()),
+                                "position_ids", List.of(UUID.randomUUID()))))
+                        .with(asEmployee()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missing_department_ids[0]").value(missingDep.toString()))
+                .andExpect(jsonPath("$.missing_position_ids").isEmpty())
+                .andExpect(jsonPath("$.all_exist").value(false));
+    }
+
+    @Test
+    void import_201_returnsIdsByCode() throws Exception {
+        UUID facultyId = UUID.randomUUID();
+        when(importer.importStructure(any())).thenReturn(OrgImportResultDto.builder()
+                .facultyIds(Map.of("F1", facultyId))
+                .departmentIds(Map.of())
+                .build());
+
+        mvc.perform(post("/api/v1/org/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"faculties":[{"code":"F1","name":"Fac",
+                                  "departments":[{"code":"D1","name":"Dep","children":[{"code":"L1","name":"Lab"}]}]}]}
+                                """)
+                        .with(asOrgAdmin()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.faculty_ids.F1").value(facultyId.toString()));
+    }
+
+    @Test
+    void import_400_whenNestedCodeBlank() throws Exception {
+        mvc.perform(post("/api/v1/org/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"faculties":[{"code":"F1","name":"Fac",
+                                  "departments":[{"code":"D1","name":"Dep","children":[{"code":"","name":"Lab"}]}]}]}
+                                """)
+                        .with(asOrgAdmin()))
+                .andExpect(status().isBadRequest());
+    }
+}
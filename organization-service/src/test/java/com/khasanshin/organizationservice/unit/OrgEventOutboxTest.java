@@ -0,0 +1,117 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent.Change;
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent.Kind;
+import com.khasanshin.organizationservice.domain.port.OrgOutboxPort;
+import com.khasanshin.organizationservice.dto.FacultyDto;
+import com.khasanshin.organizationservice.event.OrgEventOutboxWriter;
+import com.khasanshin.organizationservice.event.OrgEventRelay;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OrgEventOutboxTest {
+
+  @Mock OrgOutboxPort outbox;
+  @Mock KafkaTemplate<String, String> kafka;
+
+  ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+  OrgEventOutboxWriter writer;
+  OrgEventRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    writer = new OrgEventOutboxWriter(outbox, objectMapper);
+    relay = new OrgEventRelay(outbox, kafka);
+    ReflectionTestUtils.setField(relay, "topic", "org.events");
+    ReflectionTestUtils.setField(relay, "batchSize", 100);
+  }
+
+  @Test
+  void writer_appendsSnapshotKeyedByEntity() throws Exception {
+    UUID id = UUID.randomUUID();
+    FacultyDto dto = FacultyDto.builder().id(id).code("F1").name("First").build();
+
+    writer.onStructureChanged(new OrgStructureChangedEvent(Kind.FACULTY, Change.UPDATED, id, dto));
+
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    verify(outbox).append(eq(id), eq("FACULTY_UPDATED"), payload.capture());
+    JsonNode json = objectMapper.readTree(payload.getValue());
+    assertEquals("FACULTY", json.get("entityType").asText());
+    assertEquals(id.toString(), json.get("entityId").asText());
+    assertFalse(json.get("deleted").asBoolean());
+    assertEquals("F1", json.get("snapshot").get("code").asText());
+  }
+
+  @Test
+  void writer_deleteIsMarkedDeleted() throws Exception {
+    UUID id = UUID.randomUUID();
+
+    writer.onStructureChanged(new OrgStructureChangedEvent(Kind.DEPARTMENT, Change.DELETED, id, null));
+
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    verify(outbox).append(eq(id), eq("DEPARTMENT_DELETED"), payload.capture());
+    JsonNode json = objectMapper.readTree(payload.getValue());
+    assertTrue(json.get("deleted").asBoolean());
+    assertTrue(json.get("snapshot").isNull());
+  }
+
+  @Test
+  void relay_sendsInOrderAndDeletes() {
+    UUID a = UUID.randomUUID();
+    UUID b = UUID.randomUUID();
+    when(outbox.tryLockRelay()).thenReturn(true);
+    when(outbox.findPending(100)).thenReturn(List.of(
+        new OrgOutboxPort.Entry(1L, a, "{\"n\":1}"),
+        new OrgOutboxPort.Entry(2L, b, "{\"n\":2}")));
+    when(kafka.send(anyString(), anyString(), anyString()))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    relay.relay();
+
+    var inOrder = inOrder(kafka, outbox);
+    inOrder.verify(kafka).send("org.events", a.toString(), "{\"n\":1}");
+    inOrder.verify(kafka).send("org.events", b.toString(), "{\"n\":2}");
+    inOrder.verify(outbox).delete(List.of(1L, 2L));
+  }
+
+  @Test
+  void relay_sendFailure_keepsRows() {
+    when(outbox.tryLockRelay()).thenReturn(true);
+    when(outbox.findPending(100)).thenReturn(List.of(new OrgOutboxPort.Entry(1L, UUID.randomUUID(), "{}")));
+    when(kafka.send(anyString(), anyString(), anyString()))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+    assertThrows(IllegalStateException.class, () -> relay.relay());
+
+    verify(outbox, never()).delete(any());
+  }
+
+  @Test
+  void relay_lockHeldElsewhere_doesNothing() {
+    when(outbox.tryLockRelay()).thenReturn(false);
+
+    relay.relay();
+
+    verify(outbox, never()).findPending(anyInt());
+    verifyNoInteractions(kafka);
+  }
+}
@@ -0,0 +1,67 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.khasanshin.organizationservice.application.OrgExistenceApplicationService;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
+import com.khasanshin.organizationservice.dto.OrgExistsRequestDto;
+import com.khasanshin.organizationservice.dto.OrgExistsResponseDto;
+import com.khasanshin.organizationservice.infrastructure.cache.InMemoryOrgIdIndexAdapter;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrgExistenceServiceTest {
+
+  @Mock DepartmentRepositoryPort departmentRepository;
+  @Mock PositionRepositoryPort positionRepository;
+
+  InMemoryOrgIdIndexAdapter idIndex;
+  OrgExistenceApplicationService service;
+
+  @BeforeEach
+  void setUp() {
+    idIndex = new InMemoryOrgIdIndexAdapter(departmentRepository, positionRepository);
+    service = new OrgExistenceApplicationService(idIndex);
+  }
+
+  @Test
+  void exists_usesIndex_andQueriesOnlyUnknownIdsOnce() {
+    UUID indexed = UUID.randomUUID();
+    UUID newer = UUID.randomUUID();
+    UUID bogus = UUID.randomUUID();
+    UUID position = UUID.randomUUID();
+    when(departmentRepository.findAllIds()).thenReturn(List.of(indexed));
+    when(positionRepository.findAllIds()).thenReturn(List.of(position));
+    idIndex.refresh();
+    when(departmentRepository.findExistingIds(Set.of(newer, bogus))).thenReturn(List.of(newer));
+
+    OrgExistsResponseDto out = service.exists(OrgExistsRequestDto.builder()
+        .departmentIds(List.of(indexed, newer, bogus))
+        .positionIds(List.of(position))
+        .build());
+
+    assertEquals(Set.of(bogus), out.getMissingDepartmentIds());
+    assertTrue(out.getMissingPositionIds().isEmpty());
+    assertFalse(out.isAllExist());
+    verify(departmentRepository, times(1)).findExistingIds(any());
+    verify(positionRepository, never()).findExistingIds(any());
+  }
+
+  @Test
+  void exists_emptyRequest_touchesNothing() {
+    OrgExistsResponseDto out = service.exists(OrgExistsRequestDto.builder().build());
+
+    assertTrue(out.isAllExist());
+    verifyNoInteractions(departmentRepository, positionRepository);
+  }
+}
@@ -0,0 +1,154 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import com.khasanshin.organizationservice.application.OrgImportApplicationService;
+import com.khasanshin.organizationservice.application.OrgStructureImportedEvent;
+import com.khasanshin.organizationservice.domain.model.Department;
+import com.khasanshin.organizationservice.domain.model.Faculty;
+import com.khasanshin.organizationservice.domain.port.EmployeeVerifierPort;
+import com.khasanshin.organizationservice.domain.port.OrgImportPort;
+import com.khasanshin.organizationservice.dto.DepartmentImportDto;
+import com.khasanshin.organizationservice.dto.FacultyImportDto;
+import com.khasanshin.organizationservice.dto.OrgImportDto;
+import com.khasanshin.organizationservice.dto.OrgImportResultDto;
+import com.khasanshin.organizationservice.mapper.DepartmentMapper;
+import com.khasanshin.organizationservice.mapper.FacultyMapper;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+class OrgImportServiceTest {
+
+  @Mock OrgImportPort importPort;
+  @Mock EmployeeVerifierPort employeeVerifier;
+  @Mock FacultyMapper facultyMapper;
+  @Mock DepartmentMapper departmentMapper;
+  @Mock ApplicationEventPublisher events;
+
+  final AtomicBoolean inTransaction = new AtomicBoolean();
+  final TransactionOperations transactions = new TransactionOperations() {
+    @Override
+    public <T> T execute(TransactionCallback<T> action) {
+      inTransaction.set(true);
+      try {
+        return action.doInTransaction(new SimpleTransactionStatus());
+      } finally {
+        inTransaction.set(false);
+      }
+    }
+  };
+
+  OrgImportApplicationService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new OrgImportApplicationService(
+        importPort, employeeVerifier, facultyMapper, departmentMapper, events, transactions);
+  }
+
+  private static DepartmentImportDto dep(String code, UUID head, DepartmentImportDto... children) {
+    return DepartmentImportDto.builder().code(code).name(code).headEmployeeId(head).children(List.of(children)).build();
+  }
+
+  private static OrgImportDto doc(FacultyImportDto... faculties) {
+    return OrgImportDto.builder().faculties(List.of(faculties)).build();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void import_insertsParentFirst_verifiesHeadsOnce_andPublishesOneEvent() {
+    UUID head1 = UUID.randomUUID();
+    UUID head2 = UUID.randomUUID();
+    var f = FacultyImportDto.builder().code("F1").name("Fac")
+        .departments(List.of(dep("D1", head1, dep("L1", head2), dep("L2", head1)), dep("D2", null)))
+        .build();
+    when(importPort.findExistingFacultyCodes(anyCollection())).thenReturn(Set.of());
+    when(importPort.findExistingDepartmentCodes(anyCollection())).thenReturn(Set.of());
+
+    OrgImportResultDto out = service.importStructure(doc(f));
+
+    assertEquals(Set.of("F1"), out.getFacultyIds().keySet());
+    assertEquals(List.of("D1", "L1", "L2", "D2"), List.copyOf(out.getDepartmentIds().keySet()));
+    verify(employeeVerifier, times(1)).ensureEmployeesExist(Set.of(head1, head2));
+
+    ArgumentCaptor<List<Faculty>> faculties = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Department>> departments = ArgumentCaptor.forClass(List.class);
+    verify(importPort).insert(faculties.capture(), departments.capture());
+    UUID facultyId = faculties.getValue().get(0).getId();
+    UUID d1 = out.getDepartmentIds().get("D1");
+    assertTrue(departments.getValue().stream().allMatch(d -> d.getFacultyId().equals(facultyId)));
+    assertEquals(d1, departments.getValue().get(1).getParentId());
+    assertNull(departments.getValue().get(3).getParentId());
+
+    ArgumentCaptor<OrgStructureImportedEvent> event = ArgumentCaptor.forClass(OrgStructureImportedEvent.class);
+    verify(events, times(1)).publishEvent(event.capture());
+    assertEquals(5, event.getValue().changes().size());
+  }
+
+  @Test
+  void import_verifiesHeadsOutsideTheTransaction_andInsertsInsideIt() {
+    var f = FacultyImportDto.builder().code("F1").name("A").departments(List.of(dep("D1", UUID.randomUUID()))).build();
+    when(importPort.findExistingFacultyCodes(anyCollection())).thenReturn(Set.of());
+    when(importPort.findExistingDepartmentCodes(anyCollection())).thenReturn(Set.of());
+    doAnswer(inv -> {
+      assertFalse(inTransaction.get());
+      return null;
+    }).when(employeeVerifier).ensureEmployeesExist(anyCollection());
+    doAnswer(inv -> {
+      assertTrue(inTransaction.get());
+      return null;
+    }).when(importPort).insert(any(), any());
+    doAnswer(inv -> {
+      assertTrue(inTransaction.get());
+      return null;
+    }).when(events).publishEvent(any(OrgStructureImportedEvent.class));
+
+    service.importStructure(doc(f));
+
+    InOrder order = inOrder(employeeVerifier, importPort, events);
+    order.verify(employeeVerifier).ensureEmployeesExist(anyCollection());
+    order.verify(importPort).insert(any(), any());
+    order.verify(events).publishEvent(any(OrgStructureImportedEvent.class));
+  }
+
+  @Test
+  void import_duplicateCodesInDocument_400_beforeDatabase() {
+    var f1 = FacultyImportDto.builder().code("F1").name("A").departments(List.of(dep("D1", null))).build();
+    var f2 = FacultyImportDto.builder().code("F2").name("B").departments(List.of(dep("X", null, dep("D1", null)))).build();
+
+    var ex = assertThrows(IllegalArgumentException.class, () -> service.importStructure(doc(f1, f2)));
+
+    assertTrue(ex.getMessage().contains("department D1"));
+    verifyNoInteractions(importPort, employeeVerifier, events);
+  }
+
+  @Test
+  void import_existingCode_409_withoutRemoteCallOrInsert() {
+    var f = FacultyImportDto.builder().code("F1").name("A").departments(List.of(dep("D1", UUID.randomUUID()))).build();
+    when(importPort.findExistingFacultyCodes(anyCollection())).thenReturn(Set.of());
+    when(importPort.findExistingDepartmentCodes(anyCollection())).thenReturn(Set.of("D1"));
+
+    assertThrows(DataIntegrityViolationException.class, () -> service.importStructure(doc(f)));
+
+    verifyNoInteractions(employeeVerifier, events);
+    verify(importPort, never()).insert(any(), any());
+  }
+}
@@ -0,0 +1,109 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
+import com.khasanshin.organizationservice.application.OrgTreeApplicationService;
+import com.khasanshin.organizationservice.application.OrgTreeUseCase;
+import com.khasanshin.organizationservice.domain.model.Department;
+import com.khasanshin.organizationservice.domain.model.Faculty;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.FacultyRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
+import com.khasanshin.organizationservice.dto.FacultyNodeDto;
+import com.khasanshin.organizationservice.event.OrgEventFanOutListener;
+import com.khasanshin.organizationservice.mapper.PositionMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrgTreeServiceTest {
+
+  @Mock FacultyRepositoryPort facultyRepository;
+  @Mock DepartmentRepositoryPort departmentRepository;
+  @Mock PositionRepositoryPort positionRepository;
+  @Mock PositionMapper positionMapper;
+
+  OrgTreeApplicationService service;
+
+  UUID facultyId = UUID.randomUUID();
+  UUID head = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    service = new OrgTreeApplicationService(
+        facultyRepository, departmentRepository, positionRepository, positionMapper,
+        new ObjectMapper().registerModule(new JavaTimeModule()));
+    when(facultyRepository.findAll()).thenReturn(List.of(
+        Faculty.builder().id(facultyId).code("F2").name("Second").build(),
+        Faculty.builder().id(UUID.randomUUID()).code("F1").name("First").build()));
+    when(departmentRepository.findAll()).thenReturn(List.of(
+        Department.builder().id(UUID.randomUUID()).facultyId(facultyId).code("D2").name("B").headEmployeeId(head).build(),
+        Department.builder().id(UUID.randomUUID()).facultyId(facultyId).code("D1").name("A").build()));
+    when(positionRepository.findAll()).thenReturn(List.of());
+  }
+
+  @Test
+  void tree_groupsDepartmentsUnderFaculties_sorted() {
+    OrgTreeUseCase.Snapshot snapshot = service.tree();
+
+    List<FacultyNodeDto> faculties = snapshot.tree().getFaculties();
+    assertEquals(List.of("F1", "F2"), faculties.stream().map(FacultyNodeDto::getCode).toList());
+    assertTrue(faculties.get(0).getDepartments().isEmpty());
+    assertEquals("D1", faculties.get(1).getDepartments().get(0).getCode());
+    assertEquals(head, faculties.get(1).getDepartments().get(1).getHeadEmployeeId());
+    assertTrue(snapshot.etag().startsWith("\"") && !snapshot.etag().startsWith("W/"));
+  }
+
+  @Test
+  void tree_isServedFromSnapshot_untilStructureChanges() {
+    OrgTreeUseCase.Snapshot first = service.tree();
+    assertSame(first, service.tree());
+    verify(facultyRepository, times(1)).findAll();
+
+    service.onStructureChanged(new OrgStructureChangedEvent(
+        OrgStructureChangedEvent.Kind.DEPARTMENT, OrgStructureChangedEvent.Change.UPDATED, UUID.randomUUID(), null));
+    OrgTreeUseCase.Snapshot second = service.tree();
+
+    assertNotSame(first, second);
+    assertEquals(first.etag(), second.etag());
+    verify(facultyRepository, times(2)).findAll();
+  }
+
+  @Test
+  void tree_etagChanges_whenContentChanges() {
+    String before = service.tree().etag();
+    when(departmentRepository.findAll()).thenReturn(List.of(
+        Department.builder().id(UUID.randomUUID()).facultyId(facultyId).code("D1").name("A").build()));
+
+    service.onStructureChanged(new OrgStructureChangedEvent(
+        OrgStructureChangedEvent.Kind.DEPARTMENT, OrgStructureChangedEvent.Change.UPDATED, UUID.randomUUID(), null));
+
+    assertNotEquals(before, service.tree().etag());
+  }
+
+  @Test
+  void refresh_fromOrgEvents_rebuildsOncePerPoll() {
+    OrgTreeUseCase.Snapshot first = service.tree();
+    when(departmentRepository.findAll()).thenReturn(List.of());
+    var listener = new OrgEventFanOutListener(List.of(service), new ObjectMapper());
+    String event = """
+        {"eventType":"FACULTY_UPDATED","entityType":"FACULTY","entityId":"%s"}
+        """.formatted(facultyId);
+
+    listener.onOrgEvents(List.of(event, event, event));
+    listener.onOrgEvents(List.of());
+
+    assertNotEquals(first.etag(), service.tree().etag());
+    verify(facultyRepository, times(2)).findAll();
+  }
+}
@@ -0,0 +1,49 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.khasanshin.organizationservice.config.PermissionGuard;
+import com.khasanshin.organizationservice.domain.port.DepartmentAncestryPort;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+class PermissionGuardTest {
+
+  DepartmentAncestryPort ancestry = mock(DepartmentAncestryPort.class);
+  PermissionGuard guard = new PermissionGuard(ancestry);
+
+  UUID managed = UUID.randomUUID();
+
+  private JwtAuthenticationToken manager() {
+    Jwt jwt = Jwt.withTokenValue("t")
+        .header("alg", "none")
+        .claim("managedDeptIds", List.of(managed.toString()))
+        .issuedAt(Instant.now())
+        .build();
+    return new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE")));
+  }
+
+  @Test
+  void canManageDept_ownDepartment_withoutAncestryLookup() {
+    assertTrue(guard.canManageDept(manager(), managed));
+    verifyNoInteractions(ancestry);
+  }
+
+  @Test
+  void canManageDept_nestedDepartment_viaAncestors() {
+    UUID lab = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    when(ancestry.ancestorsOf(lab)).thenReturn(Set.of(managed));
+    when(ancestry.ancestorsOf(other)).thenReturn(Set.of(UUID.randomUUID()));
+
+    assertTrue(guard.canManageDept(manager(), lab));
+    assertFalse(guard.canManageDept(manager(), other));
+  }
+}
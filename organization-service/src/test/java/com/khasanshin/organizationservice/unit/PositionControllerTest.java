@@ -76,6 +76,19 @@
                     .andExpect(jsonPath("$.content[0].name").value("Professor"));
         }
 
+        @Test
+        void suggest_200() throws Exception {
+            var dto = PositionDto.builder().id(UUID.randomUUID()).name("Professor").build();
+            when(positionService.suggest("prof", 5)).thenReturn(List.of(dto));
+
+            mvc.perform(get("/api/v1/positions/suggest")
+                            .param("q", "prof")
+                            .param("limit", "5")
+                            .with(asEmployee()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].name").value("Professor"));
+        }
+
         @Test
         void get_200() throws Exception {
             var id = UUID.randomUUID();
@@ -1,9 +1,13 @@
 package com.khasanshin.organizationservice.unit;
 
+import com.khasanshin.organizationservice.application.OrgStructureChangedEvent;
 import com.khasanshin.organizationservice.application.PositionApplicationService;
 import com.khasanshin.organizationservice.domain.model.Position;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
 import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
 import com.khasanshin.organizationservice.dto.*;
+import com.khasanshin.organizationservice.infrastructure.cache.InMemoryOrgIdIndexAdapter;
+import com.khasanshin.organizationservice.infrastructure.cache.InMemoryPositionSuggestAdapter;
 import com.khasanshin.organizationservice.mapper.PositionMapper;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.util.List;
@@ -31,12 +36,21 @@ public class PositionServiceTest {
     PositionRepositoryPort positionRepository;
     @Mock
     PositionMapper mapper;
+    @Mock
+    ApplicationEventPublisher events;
+    @Mock
+    DepartmentRepositoryPort departmentRepository;
+
+    InMemoryOrgIdIndexAdapter idIndex;
+    InMemoryPositionSuggestAdapter suggestIndex;
 
     PositionApplicationService service;
 
     @BeforeEach
     void setUp() {
-        service = new PositionApplicationService(positionRepository, mapper);
+        idIndex = new InMemoryOrgIdIndexAdapter(departmentRepository, positionRepository);
+        suggestIndex = new InMemoryPositionSuggestAdapter(positionRepository);
+        service = new PositionApplicationService(positionRepository, mapper, events, idIndex, suggestIndex);
     }
 
     @Test
@@ -224,5 +238,71 @@ public class PositionServiceTest {
         verify(positionRepository).existsById(id);
     }
 
+    @Test
+    void exists_answersFromIdIndex_afterRefresh() {
+        UUID known = UUID.randomUUID();
+        UUID createdElsewhere = UUID.randomUUID();
+        when(departmentRepository.findAllIds()).thenReturn(List.of());
+        when(positionRepository.findAllIds()).thenReturn(List.of(known));
+        when(positionRepository.existsById(createdElsewhere)).thenReturn(true);
+
+        idIndex.refresh();
+
+        assertTrue(service.exists(known));
+        verify(positionRepository, never()).existsById(known);
+        assertTrue(service.exists(createdElsewhere));
+    }
+
+    @Test
+    void idIndex_isReloaded_onLocalPositionWrite() {
+        UUID id = UUID.randomUUID();
+        when(positionRepository.findAllIds()).thenReturn(List.of(id));
+
+        idIndex.onStructureChanged(new OrgStructureChangedEvent(
+                OrgStructureChangedEvent.Kind.POSITION, OrgStructureChangedEvent.Change.CREATED, id, null));
+
+        assertTrue(service.exists(id));
+        verify(positionRepository, never()).existsById(any());
+        verifyNoInteractions(departmentRepository);
+    }
+
+    @Test
+    void suggest_ranksExactThenPrefixThenWordThenSubstring_withoutDbHitPerQuery() {
+        List<Position> all = List.of(
+                Position.builder().id(UUID.randomUUID()).name("Старший преподаватель").build(),
+                Position.builder().id(UUID.randomUUID()).name("Преподаватель").build(),
+                Position.builder().id(UUID.randomUUID()).name("Преподаватель-стажёр").build(),
+                Position.builder().id(UUID.randomUUID()).name("Доцент").build(),
+                Position.builder().id(UUID.randomUUID()).name("Ассистент преподавателя").build());
+        when(positionRepository.findAll()).thenReturn(all);
+        when(mapper.toDto(any(Position.class)))
+                .thenAnswer(inv -> PositionDto.builder().name(inv.<Position>getArgument(0).getName()).build());
+        suggestIndex.refresh();
+
+        List<String> names = service.suggest("  ПРЕПОДАВАТЕЛЬ ", 10).stream().map(PositionDto::getName).toList();
+        assertEquals(List.of("Преподаватель", "Преподаватель-стажёр", "Старший преподаватель"), names);
+        assertEquals(List.of("Преподаватель", "Преподаватель-стажёр", "Старший преподаватель", "Ассистент преподавателя"),
+                service.suggest("подават", 10).stream().map(PositionDto::getName).toList());
+
+        assertEquals(List.of("Доцент"), service.suggest("до", 10).stream().map(PositionDto::getName).toList());
+        assertEquals(List.of("Преподаватель-стажёр"), service.suggest("стажер", 10).stream().map(PositionDto::getName).toList());
+        assertEquals(1, service.suggest("преп", 1).size());
+        assertTrue(service.suggest("профессор", 10).isEmpty());
+        assertTrue(service.suggest(" ", 10).isEmpty());
+        verify(positionRepository, times(1)).findAll();
+    }
 
+    @Test
+    void suggestIndex_isReloaded_onPositionChange_only() {
+        when(positionRepository.findAll()).thenReturn(List.of(Position.builder().id(UUID.randomUUID()).name("Доцент").build()));
+
+        suggestIndex.onStructureChanged(new OrgStructureChangedEvent(
+                OrgStructureChangedEvent.Kind.FACULTY, OrgStructureChangedEvent.Change.CREATED, UUID.randomUUID(), null));
+        verify(positionRepository, never()).findAll();
+
+        suggestIndex.onStructureChanged(new OrgStructureChangedEvent(
+                OrgStructureChangedEvent.Kind.POSITION, OrgStructureChangedEvent.Change.CREATED, UUID.randomUUID(), null));
+        assertEquals(1, suggestIndex.suggest("доц", 5).size());
+        verify(positionRepository, times(1)).findAll();
+    }
 }
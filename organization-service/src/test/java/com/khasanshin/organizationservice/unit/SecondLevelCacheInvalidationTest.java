@@ -0,0 +1,57 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.entity.Department;
+import com.khasanshin.organizationservice.event.OrgEventFanOutListener;
+import com.khasanshin.organizationservice.infrastructure.cache.SecondLevelCacheInvalidationListener;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheInvalidationTest {
+
+  @Mock EntityManagerFactory entityManagerFactory;
+  @Mock SessionFactory sessionFactory;
+  @Mock Cache cache;
+
+  OrgEventFanOutListener listener;
+
+  @BeforeEach
+  void setUp() {
+    when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+    when(sessionFactory.getCache()).thenReturn(cache);
+    listener = new OrgEventFanOutListener(
+        List.of(new SecondLevelCacheInvalidationListener(entityManagerFactory)), new ObjectMapper());
+  }
+
+  @Test
+  void orgEvent_evictsEntityAndQueryResults() {
+    UUID id = UUID.randomUUID();
+
+    listener.onOrgEvents(List.of("""
+        {"eventType":"DEPARTMENT_UPDATED","entityType":"DEPARTMENT","entityId":"%s","deleted":false}
+        """.formatted(id)));
+
+    verify(cache).evictEntityData(Department.class, id);
+    verify(cache).evictQueryRegions();
+    verify(cache, never()).evictAllRegions();
+  }
+
+  @Test
+  void unreadableEvent_dropsEverything() {
+    listener.onOrgEvents(List.of("{\"entityType\":\"UNKNOWN\"}"));
+
+    verify(cache).evictAllRegions();
+    verify(cache, never()).evictQueryRegions();
+  }
+}
@@ -0,0 +1,197 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.khasanshin.organizationservice.application.StaffingStatsApplicationService;
+import com.khasanshin.organizationservice.domain.model.StaffingAssignment;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.StaffingStatsPort;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Runs an employment event and a fire of the same employee on two threads, the way the two listeners do. */
+class StaffingStatsConcurrencyTest {
+
+  final UUID employment = UUID.randomUUID();
+  final UUID employee = UUID.randomUUID();
+  final UUID dep = UUID.randomUUID();
+  final UUID pos = UUID.randomUUID();
+
+  final RowLockingPort port = new RowLockingPort();
+  final StaffingStatsApplicationService service = new StaffingStatsApplicationService(
+      port, mock(DepartmentRepositoryPort.class), mock(PositionRepositoryPort.class));
+  final ExecutorService threads = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void tearDown() {
+    threads.shutdownNow();
+  }
+
+  @Test
+  void fireCommittedWhileEmploymentIsApplied_isNotLost() throws Exception {
+    port.pauseAfterEmployeeLock = new CountDownLatch(1);
+
+    Future<?> apply = threads.submit(() -> port.inTransaction(() -> service.applyEmployment(employment,
+        StaffingAssignment.builder()
+            .employmentId(employment).employeeId(employee).departmentId(dep).positionId(pos)
+            .rate(BigDecimal.ONE).build())));
+    assertTrue(port.employeeLocked.await(5, TimeUnit.SECONDS));
+
+    Future<?> fire = threads.submit(() -> port.inTransaction(() -> service.employeesDeactivated(Set.of(employee))));
+    // the fire has to wait for the employment transaction instead of slipping in between its read and write
+    awaitQueued();
+    port.pauseAfterEmployeeLock.countDown();
+
+    apply.get(5, TimeUnit.SECONDS);
+    fire.get(5, TimeUnit.SECONDS);
+
+    assertFalse(port.assignments.get(employment).isEmployeeActive());
+    assertEquals(0, port.headcount.get());
+  }
+
+  @Test
+  void fireBeforeFirstEmployment_isSeenByIt() throws Exception {
+    threads.submit(() -> port.inTransaction(() -> service.employeesDeactivated(Set.of(employee))))
+        .get(5, TimeUnit.SECONDS);
+    threads.submit(() -> port.inTransaction(() -> service.applyEmployment(employment,
+        StaffingAssignment.builder()
+            .employmentId(employment).employeeId(employee).departmentId(dep).positionId(pos)
+            .rate(BigDecimal.ONE).build())))
+        .get(5, TimeUnit.SECONDS);
+
+    assertFalse(port.assignments.get(employment).isEmployeeActive());
+    assertEquals(0, port.headcount.get());
+  }
+
+  private void awaitQueued() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!port.employeeLock(employee).hasQueuedThreads()) {
+      assertTrue(System.nanoTime() < deadline, "fire did not wait for the employee row lock");
+      Thread.sleep(5);
+    }
+  }
+
+  /** In-memory stand-in for the tables; employee rows are locked until the surrounding transaction ends. */
+  static class RowLockingPort implements StaffingStatsPort {
+
+    final Map<UUID, StaffingAssignment> assignments = new ConcurrentHashMap<>();
+    final Map<UUID, Boolean> employees = new ConcurrentHashMap<>();
+    final Map<UUID, ReentrantLock> locks = new ConcurrentHashMap<>();
+    final AtomicInteger headcount = new AtomicInteger();
+    final ThreadLocal<List<ReentrantLock>> held = ThreadLocal.withInitial(ArrayList::new);
+    final CountDownLatch employeeLocked = new CountDownLatch(1);
+    volatile CountDownLatch pauseAfterEmployeeLock;
+
+    ReentrantLock employeeLock(UUID id) {
+      return locks.computeIfAbsent(id, k -> new ReentrantLock());
+    }
+
+    void inTransaction(Runnable body) {
+      try {
+        body.run();
+      } finally {
+        held.get().forEach(ReentrantLock::unlock);
+        held.get().clear();
+      }
+    }
+
+    private void lock(UUID employeeId) {
+      ReentrantLock lock = employeeLock(employeeId);
+      lock.lock();
+      held.get().add(lock);
+    }
+
+    @Override
+    public boolean lockEmployeeActive(UUID employeeId) {
+      lock(employeeId);
+      boolean active = employees.computeIfAbsent(employeeId, k -> true);
+      employeeLocked.countDown();
+      CountDownLatch pause = pauseAfterEmployeeLock;
+      if (pause != null) {
+        try {
+          pause.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return active;
+    }
+
+    @Override
+    public void saveEmployeesActive(Collection<UUID> employeeIds, boolean active) {
+      employeeIds.stream().sorted().forEach(id -> {
+        lock(id);
+        employees.put(id, active);
+      });
+    }
+
+    @Override
+    public Optional<StaffingAssignment> lockAssignment(UUID employmentId) {
+      return Optional.ofNullable(assignments.get(employmentId));
+    }
+
+    @Override
+    public void saveAssignment(StaffingAssignment assignment) {
+      assignments.put(assignment.getEmploymentId(), assignment);
+    }
+
+    @Override
+    public void deleteAssignment(UUID employmentId) {
+      assignments.remove(employmentId);
+    }
+
+    @Override
+    public List<StaffingAssignment> setEmployeesActive(Collection<UUID> employeeIds, boolean active) {
+      List<StaffingAssignment> changed = new ArrayList<>();
+      assignments.replaceAll((id, a) -> {
+        if (!employeeIds.contains(a.getEmployeeId()) || a.isEmployeeActive() == active) {
+          return a;
+        }
+        StaffingAssignment flipped = a.toBuilder().employeeActive(active).build();
+        changed.add(flipped);
+        return flipped;
+      });
+      return changed;
+    }
+
+    @Override
+    public List<StaffingAssignment> deleteByEmployees(Collection<UUID> employeeIds) {
+      List<StaffingAssignment> removed = assignments.values().stream()
+          .filter(a -> employeeIds.contains(a.getEmployeeId()))
+          .toList();
+      removed.forEach(a -> assignments.remove(a.getEmploymentId()));
+      return removed;
+    }
+
+    @Override
+    public void adjust(Collection<Delta> deltas) {
+      deltas.forEach(d -> headcount.addAndGet(d.headcount()));
+    }
+
+    @Override
+    public void setPlanned(UUID departmentId, UUID positionId, BigDecimal plannedFte) {}
+
+    @Override
+    public List<DepartmentTotals> findDepartmentTotals(UUID facultyId) {
+      return List.of();
+    }
+  }
+}
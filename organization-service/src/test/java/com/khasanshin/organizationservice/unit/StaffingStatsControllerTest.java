@@ -0,0 +1,80 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.khasanshin.organizationservice.application.StaffingStatsUseCase;
+import com.khasanshin.organizationservice.controller.StaffingStatsController;
+import com.khasanshin.organizationservice.dto.StaffingStatsDto;
+import com.khasanshin.organizationservice.dto.StaffingTotalsDto;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@WebMvcTest(controllers = StaffingStatsController.class)
+@Import(com.khasanshin.organizationservice.exception.GlobalExceptionHandler.class)
+class StaffingStatsControllerTest {
+
+  @Autowired MockMvc mvc;
+
+  @MockitoBean StaffingStatsUseCase service;
+
+  @MockitoBean JwtDecoder jwtDecoder;
+
+  private static RequestPostProcessor asOrgAdmin() {
+    return SecurityMockMvcRequestPostProcessors
+        .jwt()
+        .authorities(new SimpleGrantedAuthority("ORG_ADMIN"))
+        .jwt(jwt -> jwt.claim("roles", List.of("ORG_ADMIN")));
+  }
+
+  @Test
+  void stats_200_filteredByFaculty() throws Exception {
+    UUID fac = UUID.randomUUID();
+    var totals = StaffingTotalsDto.builder()
+        .facultyId(fac).headcount(2).fte(new BigDecimal("1.50"))
+        .plannedFte(new BigDecimal("2.00")).openFte(new BigDecimal("0.50"))
+        .build();
+    when(service.stats(fac)).thenReturn(
+        StaffingStatsDto.builder().faculties(List.of(totals)).departments(List.of()).build());
+
+    mvc.perform(get("/api/v1/org/stats").param("faculty_id", fac.toString()).with(asOrgAdmin()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.faculties[0].headcount").value(2))
+        .andExpect(jsonPath("$.faculties[0].open_fte").value(0.5));
+  }
+
+  @Test
+  void plan_204_and_400_onNegative() throws Exception {
+    UUID dep = UUID.randomUUID();
+    UUID pos = UUID.randomUUID();
+
+    mvc.perform(put("/api/v1/org/stats/plan/{d}/{p}", dep, pos)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"planned_fte\": 3.5}")
+            .with(asOrgAdmin()))
+        .andExpect(status().isNoContent());
+    verify(service).plan(eq(dep), eq(pos), eq(new BigDecimal("3.5")));
+
+    mvc.perform(put("/api/v1/org/stats/plan/{d}/{p}", dep, pos)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"planned_fte\": -1}")
+            .with(asOrgAdmin()))
+        .andExpect(status().isBadRequest());
+    verify(service, times(1)).plan(any(), any(), any());
+  }
+}
@@ -0,0 +1,175 @@
+package com.khasanshin.organizationservice.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khasanshin.organizationservice.application.StaffingStatsApplicationService;
+import com.khasanshin.organizationservice.domain.model.StaffingAssignment;
+import com.khasanshin.organizationservice.domain.port.DepartmentRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.PositionRepositoryPort;
+import com.khasanshin.organizationservice.domain.port.StaffingStatsPort;
+import com.khasanshin.organizationservice.domain.port.StaffingStatsPort.Delta;
+import com.khasanshin.organizationservice.domain.port.StaffingStatsPort.DepartmentTotals;
+import com.khasanshin.organizationservice.dto.StaffingStatsDto;
+import com.khasanshin.organizationservice.event.EmploymentEventListener;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StaffingStatsServiceTest {
+
+  @Mock StaffingStatsPort port;
+  @Mock DepartmentRepositoryPort departmentRepository;
+  @Mock PositionRepositoryPort positionRepository;
+
+  StaffingStatsApplicationService service;
+
+  final UUID employment = UUID.randomUUID();
+  final UUID employee = UUID.randomUUID();
+  final UUID dep = UUID.randomUUID();
+  final UUID pos = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    service = new StaffingStatsApplicationService(port, departmentRepository, positionRepository);
+  }
+
+  private StaffingAssignment assignment(UUID department, String rate, boolean active) {
+    return StaffingAssignment.builder()
+        .employmentId(employment).employeeId(employee).departmentId(department).positionId(pos)
+        .rate(new BigDecimal(rate)).employeeActive(active)
+        .build();
+  }
+
+  @Test
+  void newEmployment_incrementsCounters() {
+    when(port.lockAssignment(employment)).thenReturn(Optional.empty());
+    when(port.lockEmployeeActive(employee)).thenReturn(true);
+
+    service.applyEmployment(employment, assignment(dep, "0.50", true));
+
+    verify(port).saveAssignment(any());
+    verify(port).adjust(List.of(new Delta(dep, pos, 1, new BigDecimal("0.50"))));
+  }
+
+  @Test
+  void firedBeforeFirstEmployment_isRemembered() {
+    when(port.setEmployeesActive(Set.of(employee), false)).thenReturn(List.of());
+
+    service.employeesDeactivated(Set.of(employee));
+
+    verify(port).saveEmployeesActive(Set.of(employee), false);
+    verify(port, never()).adjust(any());
+  }
+
+  @Test
+  void redeliveredState_isNoOp() {
+    when(port.lockEmployeeActive(employee)).thenReturn(true);
+    when(port.lockAssignment(employment)).thenReturn(Optional.of(assignment(dep, "1.00", true)));
+
+    service.applyEmployment(employment, assignment(dep, "1.0", true));
+
+    verify(port, never()).saveAssignment(any());
+    verify(port, never()).adjust(any());
+  }
+
+  @Test
+  void transfer_movesCountersBetweenDepartments() {
+    UUID other = UUID.randomUUID();
+    when(port.lockEmployeeActive(employee)).thenReturn(true);
+    when(port.lockAssignment(employment)).thenReturn(Optional.of(assignment(dep, "1.00", true)));
+
+    service.applyEmployment(employment, assignment(other, "0.25", true));
+
+    verify(port).adjust(List.of(new Delta(dep, pos, -1, new BigDecimal("-1.00"))));
+    verify(port).adjust(List.of(new Delta(other, pos, 1, new BigDecimal("0.25"))));
+  }
+
+  @Test
+  void closed_removesAssignment_butFiredEmployeeWasNotCounted() {
+    when(port.lockAssignment(employment)).thenReturn(Optional.of(assignment(dep, "1.00", false)));
+
+    service.applyEmployment(employment, null);
+
+    verify(port).deleteAssignment(employment);
+    verify(port, never()).adjust(any());
+  }
+
+  @Test
+  void newEmploymentOfFiredEmployee_isStoredButNotCounted() {
+    when(port.lockAssignment(employment)).thenReturn(Optional.empty());
+    when(port.lockEmployeeActive(employee)).thenReturn(false);
+
+    service.applyEmployment(employment, assignment(dep, "1.00", true));
+
+    verify(port).saveAssignment(argThat(a -> !a.isEmployeeActive()));
+    verify(port, never()).adjust(any());
+  }
+
+  @Test
+  void fired_aggregatesChangedRowsIntoOneDeltaPerPosition() {
+    when(port.setEmployeesActive(Set.of(employee), false)).thenReturn(List.of(
+        assignment(dep, "0.50", false), assignment(dep, "0.25", false)));
+
+    service.employeesDeactivated(Set.of(employee));
+
+    verify(port).adjust(List.of(new Delta(dep, pos, -2, new BigDecimal("-0.75"))));
+  }
+
+  @Test
+  void stats_rollsDepartmentsUpToFaculties() {
+    UUID fac = UUID.randomUUID();
+    UUID dep2 = UUID.randomUUID();
+    when(port.findDepartmentTotals(fac)).thenReturn(List.of(
+        new DepartmentTotals(dep, fac, 3, new BigDecimal("2.50"), new BigDecimal("4.00"), new BigDecimal("1.50")),
+        new DepartmentTotals(dep2, fac, 1, new BigDecimal("1.00"), BigDecimal.ZERO, BigDecimal.ZERO)));
+
+    StaffingStatsDto out = service.stats(fac);
+
+    assertEquals(2, out.getDepartments().size());
+    assertEquals(1, out.getFaculties().size());
+    assertEquals(4, out.getFaculties().get(0).getHeadcount());
+    assertEquals(new BigDecimal("3.50"), out.getFaculties().get(0).getFte());
+    assertEquals(new BigDecimal("1.50"), out.getFaculties().get(0).getOpenFte());
+  }
+
+  @Test
+  void plan_unknownPosition_404() {
+    when(departmentRepository.existsById(dep)).thenReturn(true);
+    when(positionRepository.existsById(pos)).thenReturn(false);
+
+    assertThrows(EntityNotFoundException.class, () -> service.plan(dep, pos, BigDecimal.ONE));
+    verify(port, never()).setPlanned(any(), any(), any());
+  }
+
+  @Test
+  void employmentListener_mapsClosedToRemoval_andSkipsGarbage() {
+    var stats = mock(com.khasanshin.organizationservice.application.StaffingStatsUseCase.class);
+    var listener = new EmploymentEventListener(stats, new ObjectMapper());
+
+    listener.onEmploymentEvent("""
+        {"eventType":"EMPLOYMENT_CLOSED","payload":{"id":"%s","employee_id":"%s","department_id":"%s",
+         "position_id":"%s","rate":1.0,"status":"CLOSED"}}
+        """.formatted(employment, employee, dep, pos));
+    listener.onEmploymentEvent("""
+        {"eventType":"EMPLOYMENT_CREATED","payload":{"id":"%s","employee_id":"%s","department_id":"%s",
+         "position_id":"%s","rate":0.5,"status":"ACTIVE"}}
+        """.formatted(employment, employee, dep, pos));
+    listener.onEmploymentEvent("{\"payload\":{}}");
+
+    verify(stats).applyEmployment(employment, null);
+    verify(stats).applyEmployment(eq(employment), argThat(a -> a != null && a.getRate().compareTo(new BigDecimal("0.5")) == 0));
+    verifyNoMoreInteractions(stats);
+  }
+}